@@ -0,0 +1,90 @@
+// src/jmh/java/com/example/benchmark/BenchmarkRegressionCheck.java
+package com.example.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compares a JMH JSON result file with a baseline from an earlier run and exits non-zero when any benchmark
+ * present in both got slower, or allocates more per operation, by more than the tolerance.
+ * Usage: BenchmarkRegressionCheck &lt;result.json&gt; &lt;tolerance&gt; [baseline.json]; without a baseline it only
+ * prints the results.
+ */
+public final class BenchmarkRegressionCheck {
+
+    private static final String ALLOCATION = "gc.alloc.rate.norm";
+    private static final double ALLOCATION_SLACK_BYTES = 16;   // Alignment noise on near-zero allocation
+
+    private record Result(String mode, double score, String unit, double allocatedBytes) {
+    }
+
+    private BenchmarkRegressionCheck() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        Map<String, Result> current = read(Path.of(args[0]));
+        double tolerance = Double.parseDouble(args[1]);
+        current.forEach((name, result) -> System.out.printf("%-90s %12.3f %-8s %12.0f B/op%n",
+                name, result.score(), result.unit(), result.allocatedBytes()));
+
+        if (args.length < 3 || args[2].isBlank()) {
+            System.out.println("No baseline given (-Djmh.baseline=<file>), skipping the regression check.");
+            return;
+        }
+        Path baselineFile = Path.of(args[2]);
+        if (!Files.exists(baselineFile)) {
+            System.out.println("Baseline " + baselineFile + " not found, skipping the regression check.");
+            return;
+        }
+
+        List<String> regressions = new ArrayList<>();
+        for (Map.Entry<String, Result> entry : read(baselineFile).entrySet()) {
+            Result now = current.get(entry.getKey());
+            if (now == null) {
+                continue;
+            }
+            Result before = entry.getValue();
+            // Throughput modes report operations per time unit, so a lower score is the regression there
+            boolean higherIsBetter = "thrpt".equals(now.mode());
+            double change = higherIsBetter ? before.score() / now.score() - 1 : now.score() / before.score() - 1;
+            if (change > tolerance) {
+                regressions.add(String.format("%s: %.3f -> %.3f %s (%+.1f%%)",
+                        entry.getKey(), before.score(), now.score(), now.unit(), change * 100));
+            }
+            if (before.allocatedBytes() >= 0 && now.allocatedBytes() >= 0
+                    && now.allocatedBytes() > before.allocatedBytes() * (1 + tolerance) + ALLOCATION_SLACK_BYTES) {
+                regressions.add(String.format("%s: %.0f -> %.0f B/op allocated",
+                        entry.getKey(), before.allocatedBytes(), now.allocatedBytes()));
+            }
+        }
+
+        if (regressions.isEmpty()) {
+            System.out.printf("No regressions beyond %.0f%% against %s.%n", tolerance * 100, baselineFile);
+            return;
+        }
+        System.err.println("Benchmark regressions against " + baselineFile + ":");
+        regressions.forEach(regression -> System.err.println("  " + regression));
+        System.exit(1);
+    }
+
+    // Keyed by benchmark method and parameters, e.g. com.example.service.ProcessResponseBenchmark.processResponse{records=100}
+    private static Map<String, Result> read(Path file) throws IOException {
+        Map<String, Result> results = new LinkedHashMap<>();
+        for (JsonNode run : new ObjectMapper().readTree(file.toFile())) {
+            String name = run.path("benchmark").asText() + (run.has("params") ? run.get("params").toString() : "");
+            JsonNode primary = run.path("primaryMetric");
+            JsonNode allocation = run.path("secondaryMetrics").path(ALLOCATION);
+            results.put(name, new Result(run.path("mode").asText(), primary.path("score").asDouble(),
+                    primary.path("scoreUnit").asText(), allocation.isMissingNode() ? -1 : allocation.path("score").asDouble()));
+        }
+        return results;
+    }
+}
@@ -0,0 +1,107 @@
+// src/jmh/java/com/example/mapper/EmployeeMapperBenchmark.java
+package com.example.mapper;
+
+import com.example.dto.EmployeeDto;
+import com.example.entity.Employee;
+import com.example.entity.Project;
+import com.example.entity.Skill;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * EmployeeMapper.toDto for an employee with N skills and N projects, each project carrying a few skills of its own.
+ * The mappers are wired by Spring as in the application, since they reference each other.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EmployeeMapperBenchmark {
+
+    private static final int SKILLS_PER_PROJECT = 3;
+
+    @Param({"1", "10", "50"})
+    private int associations;
+
+    private AnnotationConfigApplicationContext context;
+    private EmployeeMapper employeeMapper;
+    private Employee employee;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new AnnotationConfigApplicationContext(EmployeeMapperImpl.class, ProjectMapperImpl.class, SkillMapperImpl.class);
+        employeeMapper = context.getBean(EmployeeMapper.class);
+
+        List<Skill> catalog = skills(Math.max(associations, SKILLS_PER_PROJECT));
+        employee = newEmployee(1L);
+        for (int i = 0; i < associations; i++) {
+            employee.getSkills().add(catalog.get(i));
+            // Project's hashCode covers its collections, so it is complete before it goes into the set
+            Project assigned = newProject(100L + i);
+            for (int s = 0; s < SKILLS_PER_PROJECT; s++) {
+                assigned.getSkills().add(catalog.get((i + s) % catalog.size()));
+            }
+            employee.getProjects().add(assigned);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public EmployeeDto toDto() {
+        return employeeMapper.toDto(employee);
+    }
+
+    private static List<Skill> skills(int count) {
+        List<Skill> skills = new ArrayList<>();
+        for (long i = 1; i <= count; i++) {
+            Skill skill = new Skill();
+            skill.setSkillId(i);
+            skill.setName("Skill " + i);
+            skills.add(skill);
+        }
+        return skills;
+    }
+
+    private static Employee newEmployee(long id) {
+        Employee employee = new Employee();
+        employee.setEmployeeId(id);
+        employee.setName("Employee " + id);
+        employee.setDateOfBirth(LocalDate.of(1990, 1, 1));
+        employee.setJobRole("Software Engineer");
+        employee.setGender("Female");
+        employee.setAge(34);
+        employee.setEmail("employee" + id + "@email.com");
+        return employee;
+    }
+
+    private static Project newProject(long id) {
+        Project project = new Project();
+        project.setProjectId(id);
+        project.setProjectName("Project " + id);
+        project.setDescription("Benchmark project " + id);
+        return project;
+    }
+}
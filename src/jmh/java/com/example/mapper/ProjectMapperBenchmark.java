@@ -0,0 +1,110 @@
+// src/jmh/java/com/example/mapper/ProjectMapperBenchmark.java
+package com.example.mapper;
+
+import com.example.dto.ProjectDto;
+import com.example.entity.Employee;
+import com.example.entity.Project;
+import com.example.entity.Skill;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ProjectMapper.toDto for a project with a team of N, each member with a few skills and the project itself.
+ * The mappers are wired by Spring as in the application, since they reference each other.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ProjectMapperBenchmark {
+
+    private static final int SKILLS_PER_MEMBER = 4;
+
+    @Param({"10", "100", "1000"})
+    private int teamSize;
+
+    private AnnotationConfigApplicationContext context;
+    private ProjectMapper projectMapper;
+    private Project project;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new AnnotationConfigApplicationContext(EmployeeMapperImpl.class, ProjectMapperImpl.class, SkillMapperImpl.class);
+        projectMapper = context.getBean(ProjectMapper.class);
+
+        List<Skill> catalog = skills(SKILLS_PER_MEMBER);
+        project = newProject(1L);
+        project.getSkills().addAll(catalog);
+        List<Employee> team = new ArrayList<>();
+        for (long i = 0; i < teamSize; i++) {
+            Employee member = newEmployee(1_000L + i);
+            member.getSkills().addAll(catalog);
+            team.add(member);
+        }
+        // Project's hashCode covers its collections, so the team is complete before the project joins their sets
+        project.getEmployees().addAll(team);
+        for (Employee member : team) {
+            member.getProjects().add(project);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public ProjectDto toDto() {
+        return projectMapper.toDto(project);
+    }
+
+    private static List<Skill> skills(int count) {
+        List<Skill> skills = new ArrayList<>();
+        for (long i = 1; i <= count; i++) {
+            Skill skill = new Skill();
+            skill.setSkillId(i);
+            skill.setName("Skill " + i);
+            skills.add(skill);
+        }
+        return skills;
+    }
+
+    private static Employee newEmployee(long id) {
+        Employee employee = new Employee();
+        employee.setEmployeeId(id);
+        employee.setName("Employee " + id);
+        employee.setDateOfBirth(LocalDate.of(1990, 1, 1));
+        employee.setJobRole("Software Engineer");
+        employee.setGender("Female");
+        employee.setAge(34);
+        employee.setEmail("employee" + id + "@email.com");
+        return employee;
+    }
+
+    private static Project newProject(long id) {
+        Project project = new Project();
+        project.setProjectId(id);
+        project.setProjectName("Project " + id);
+        project.setDescription("Benchmark project " + id);
+        return project;
+    }
+}
@@ -0,0 +1,48 @@
+// src/jmh/java/com/example/service/EmployeeServiceBenchmark.java
+package com.example.service;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The derived fields EmployeeService computes on every create and update. Inputs cycle through a small set so
+ * the JIT cannot fold the result into a constant.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class EmployeeServiceBenchmark {
+
+    private static final String[] NAMES = {"Olivia Smith", "Liam  Johnson", "  Mei Chen ", "Arjun Patel Kumar", "Quinn"};
+    private static final LocalDate[] DATES_OF_BIRTH = {
+            LocalDate.of(1985, 3, 14), LocalDate.of(1999, 12, 31), LocalDate.of(1970, 1, 1),
+            LocalDate.of(2001, 2, 28), LocalDate.of(1992, 7, 4)};
+
+    // Neither method touches the collaborators
+    private final EmployeeService employeeService = new EmployeeService(null, null, null, null, null);
+
+    private int next;
+
+    @Benchmark
+    public String generateEmail() {
+        return employeeService.generateEmail(NAMES[next++ % NAMES.length]);
+    }
+
+    @Benchmark
+    public int calculateAge() {
+        return employeeService.calculateAge(DATES_OF_BIRTH[next++ % DATES_OF_BIRTH.length]);
+    }
+}
@@ -0,0 +1,85 @@
+// src/jmh/java/com/example/service/ProcessResponseBenchmark.java
+package com.example.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * AIService.processResponse on a fenced provider completion of N five-property records, next to the
+ * tree-plus-regex parsing it replaced (legacyProcessResponse). Run with -prof gc (the benchmarks profile does)
+ * to compare gc.alloc.rate.norm, the bytes allocated per call.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ProcessResponseBenchmark {
+
+    @Param({"10", "100", "1000"})
+    private int records;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private AIService aiService;
+    private String rawResponse;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        aiService = new AIService(WebClient.create(), new AIRequestLimiter(1, 0),
+                AIResponseCache.disabled(), AIRetryPolicy.disabled(), AICircuitBreaker.disabled(), AIMetrics.noop());
+        rawResponse = completion(records);
+    }
+
+    @Benchmark
+    public Map<String, Object> processResponse() {
+        return aiService.processResponse(rawResponse);
+    }
+
+    // Baseline: full envelope tree, content String, two regex passes, second tree
+    @Benchmark
+    public JsonNode legacyProcessResponse() throws JsonProcessingException {
+        JsonNode root = objectMapper.readTree(rawResponse);
+        String content = root.get("choices").get(0).get("message").get("content").asText();
+        String cleanedContent = content.replaceAll("```json", "").replaceAll("```", "").trim();
+        return objectMapper.readTree(cleanedContent);
+    }
+
+    private String completion(int records) {
+        ArrayNode data = objectMapper.createArrayNode();
+        for (int i = 0; i < records; i++) {
+            ObjectNode record = data.addObject();
+            record.put("firstName", "First" + i);
+            record.put("lastName", "Last" + i);
+            record.put("email", "first" + i + ".last" + i + "@example.com");
+            record.put("department", "Department " + (i % 12));
+            record.put("salary", 40_000 + i * 37);
+        }
+        ObjectNode response = objectMapper.createObjectNode();
+        response.put("id", "chatcmpl-benchmark");
+        response.putArray("choices").addObject().putObject("message")
+                .put("role", "assistant")
+                .put("content", "```json\n" + data.toPrettyString() + "\n```");
+        return response.toString();
+    }
+}
@@ -0,0 +1,168 @@
+// src/loadtest/java/com/example/loadtest/LoadReport.java
+package com.example.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.HistogramLogWriter;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latency per endpoint, measured from when a request was due rather than when it was sent, so a stalled server
+ * shows up as latency instead of as fewer requests. Written as a tagged HdrHistogram log (one histogram per
+ * endpoint plus "all") for HistogramLogAnalyzer and similar tools, and as summary.json, which the next run can
+ * take as its baseline.
+ */
+class LoadReport {
+
+    static final String ALL = "all";
+
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(2);
+    private static final int SIGNIFICANT_DIGITS = 3;
+
+    private static final class Endpoint {
+        private final Histogram latencyMicros = new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, SIGNIFICANT_DIGITS);
+        private final LongAdder errors = new LongAdder();
+        private final LongAdder dropped = new LongAdder();
+        private final LongAdder skipped = new LongAdder();
+    }
+
+    private final Map<String, Endpoint> endpoints = new LinkedHashMap<>();
+    private long startMillis;
+    private long endMillis;
+
+    LoadReport(List<String> names) {
+        for (String name : names) {
+            endpoints.put(name, new Endpoint());
+        }
+        endpoints.put(ALL, new Endpoint());
+    }
+
+    void start() {
+        startMillis = System.currentTimeMillis();
+    }
+
+    void stop() {
+        endMillis = System.currentTimeMillis();
+    }
+
+    // Every completed request, failed or not, counts towards latency; errors are 4xx/5xx and transport failures
+    void record(String endpoint, long latencyNanos, boolean success) {
+        long micros = Math.min(HIGHEST_TRACKABLE_MICROS, TimeUnit.NANOSECONDS.toMicros(latencyNanos));
+        for (Endpoint target : List.of(endpoints.get(endpoint), endpoints.get(ALL))) {
+            target.latencyMicros.recordValue(micros);
+            if (!success) {
+                target.errors.increment();
+            }
+        }
+    }
+
+    // The in-flight limit was reached when the request was due, so it was never sent
+    void dropped(String endpoint) {
+        endpoints.get(endpoint).dropped.increment();
+        endpoints.get(ALL).dropped.increment();
+    }
+
+    // The endpoint had nothing to act on, e.g. no created employee left to delete; not an error
+    void skipped(String endpoint) {
+        endpoints.get(endpoint).skipped.increment();
+    }
+
+    ObjectNode summary(ObjectMapper objectMapper, Map<String, Object> settings) {
+        double seconds = Math.max(1, endMillis - startMillis) / 1000.0;
+        ObjectNode summary = objectMapper.createObjectNode();
+        summary.set("settings", objectMapper.valueToTree(settings));
+        summary.put("durationSeconds", seconds);
+        ObjectNode results = summary.putObject("endpoints");
+        endpoints.forEach((name, endpoint) -> {
+            Histogram histogram = endpoint.latencyMicros;
+            long count = histogram.getTotalCount();
+            long sent = count + endpoint.dropped.sum();
+            results.putObject(name)
+                    .put("requests", count)
+                    .put("throughputPerSecond", round(count / seconds))
+                    .put("errors", endpoint.errors.sum())
+                    .put("dropped", endpoint.dropped.sum())
+                    .put("skipped", endpoint.skipped.sum())
+                    .put("errorRate", sent == 0 ? 0 : round((endpoint.errors.sum() + endpoint.dropped.sum()) / (double) sent))
+                    .put("p50Millis", millis(histogram.getValueAtPercentile(50)))
+                    .put("p95Millis", millis(histogram.getValueAtPercentile(95)))
+                    .put("p99Millis", millis(histogram.getValueAtPercentile(99)))
+                    .put("maxMillis", millis(histogram.getMaxValue()));
+        });
+        return summary;
+    }
+
+    void writeHistogramLog(Path file) throws FileNotFoundException {
+        try (PrintStream out = new PrintStream(file.toFile())) {
+            HistogramLogWriter writer = new HistogramLogWriter(out);
+            writer.outputLogFormatVersion();
+            writer.outputComment("Latency in microseconds from the scheduled send time, one tagged histogram per endpoint");
+            writer.outputStartTime(startMillis);
+            writer.setBaseTime(startMillis);
+            writer.outputLegend();
+            endpoints.forEach((name, endpoint) -> {
+                Histogram histogram = endpoint.latencyMicros.copy();
+                histogram.setTag(name);
+                histogram.setStartTimeStamp(startMillis);
+                histogram.setEndTimeStamp(endMillis);
+                writer.outputIntervalHistogram(histogram);
+            });
+        }
+    }
+
+    static void printTable(JsonNode summary) {
+        System.out.printf("%-18s %9s %9s %8s %9s %9s %9s %9s%n",
+                "endpoint", "requests", "req/s", "errors", "p50 ms", "p95 ms", "p99 ms", "max ms");
+        summary.path("endpoints").fields().forEachRemaining(entry -> {
+            JsonNode result = entry.getValue();
+            System.out.printf("%-18s %9d %9.1f %7.2f%% %9.2f %9.2f %9.2f %9.2f%n", entry.getKey(),
+                    result.path("requests").asLong(), result.path("throughputPerSecond").asDouble(),
+                    result.path("errorRate").asDouble() * 100, result.path("p50Millis").asDouble(),
+                    result.path("p95Millis").asDouble(), result.path("p99Millis").asDouble(), result.path("maxMillis").asDouble());
+        });
+    }
+
+    // Side-by-side p99 and throughput against an earlier run's summary.json
+    static void printComparison(JsonNode summary, File baselineFile, ObjectMapper objectMapper) throws IOException {
+        JsonNode baseline = objectMapper.readTree(baselineFile).path("endpoints");
+        System.out.printf("%nAgainst %s:%n%-18s %21s %21s %17s%n", baselineFile, "endpoint", "p99 ms (was -> now)",
+                "req/s (was -> now)", "errors (was -> now)");
+        summary.path("endpoints").fields().forEachRemaining(entry -> {
+            JsonNode before = baseline.path(entry.getKey());
+            if (before.isMissingNode()) {
+                return;
+            }
+            JsonNode now = entry.getValue();
+            System.out.printf("%-18s %9.2f -> %9.2f %9.1f -> %9.1f %6.2f%% -> %6.2f%%%n", entry.getKey(),
+                    before.path("p99Millis").asDouble(), now.path("p99Millis").asDouble(),
+                    before.path("throughputPerSecond").asDouble(), now.path("throughputPerSecond").asDouble(),
+                    before.path("errorRate").asDouble() * 100, now.path("errorRate").asDouble() * 100);
+        });
+    }
+
+    static void writeSummary(JsonNode summary, Path file, ObjectMapper objectMapper) throws IOException {
+        Files.writeString(file, objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(summary));
+    }
+
+    private static double millis(long micros) {
+        return round(micros / 1000.0);
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 1000) / 1000.0;
+    }
+}
@@ -0,0 +1,309 @@
+// src/loadtest/java/com/example/loadtest/LoadTestHarness.java
+package com.example.loadtest;
+
+import com.example.EmployeeDbApplication;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Open-loop load generator for the REST API. Unless --target points at a running instance, it starts the
+ * application in-process under the synthetic profile, so the AI endpoints are answered by the local generator
+ * instead of the provider. It then seeds the database through POST /api/ai/synthetic-data, samples IDs, and
+ * sends a weighted mix of requests at a fixed rate: a warm-up phase that is discarded, then the measured phase.
+ * With --clients=N it runs closed-loop instead: N clients each send their next request as soon as the previous
+ * one returns, which measures the throughput the server sustains at that concurrency.
+ * <p>
+ * Run with {@code mvn -Ploadtest -DskipTests verify} and options such as {@code -Dloadtest.rate=500}; see the
+ * loadtest profile in pom.xml. Every option can also be given directly as {@code --name=value}.
+ */
+public final class LoadTestHarness {
+
+    private static final int ID_SAMPLE_PAGE = 100;   // KeysetCursor.MAX_LIMIT
+    private static final Duration DRAIN_TIMEOUT = Duration.ofSeconds(60);
+
+    private final Map<String, String> options;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final HttpClient client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    private LoadTestHarness(Map<String, String> options) {
+        this.options = options;
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = new LinkedHashMap<>();
+        options.put("target", "");
+        options.put("profiles", "synthetic");
+        options.put("employees", "10000");
+        options.put("projects", "200");
+        options.put("seed", "42");
+        options.put("rate", "200");
+        options.put("warmup-seconds", "10");
+        options.put("duration-seconds", "60");
+        options.put("max-in-flight", "256");
+        options.put("clients", "0");
+        options.put("mix", TrafficMix.DEFAULT_MIX);
+        options.put("out", "target/loadtest");
+        options.put("baseline", "");
+        for (String arg : args) {
+            int separator = arg.indexOf('=');
+            if (!arg.startsWith("--") || separator < 0) {
+                throw new IllegalArgumentException("Options look like --name=value, got: " + arg);
+            }
+            String name = arg.substring(2, separator);
+            if (!options.containsKey(name)) {
+                throw new IllegalArgumentException("Unknown option --" + name + ", expected one of " + options.keySet());
+            }
+            options.put(name, arg.substring(separator + 1));
+        }
+        new LoadTestHarness(options).run();
+    }
+
+    private void run() throws Exception {
+        ConfigurableApplicationContext application = null;
+        URI baseUri;
+        if (option("target").isBlank()) {
+            int port = freePort();
+            application = new SpringApplicationBuilder(EmployeeDbApplication.class)
+                    .profiles(option("profiles").split(","))
+                    .properties("server.port=" + port,
+                            "synthetic.employees=0",
+                            "synthetic.projects=0",
+                            "openai.api.base-url=http://localhost:" + port + "/local-ai")
+                    .run();
+            baseUri = URI.create("http://localhost:" + port);
+        } else {
+            baseUri = URI.create(option("target"));
+        }
+
+        try {
+            seed(baseUri);
+            Sample skills = sampleIds(baseUri, "/api/skills/cursor", "skillId", "name");
+            TrafficMix mix = new TrafficMix(option("mix"), baseUri, objectMapper, longOption("seed"),
+                    sampleIds(baseUri, "/api/employees/cursor", "employeeId", "name").ids(),
+                    sampleIds(baseUri, "/api/projects/cursor", "projectId", "projectName").ids(),
+                    skills.ids(), skills.names());
+
+            String load = longOption("clients") > 0 ? option("clients") + " clients" : option("rate") + " requests/s";
+            System.out.printf("Warming up for %ss at %s%n", option("warmup-seconds"), load);
+            drive(mix, new LoadReport(mix.endpoints()), longOption("warmup-seconds"));
+
+            System.out.printf("Measuring for %ss at %s%n", option("duration-seconds"), load);
+            LoadReport report = new LoadReport(mix.endpoints());
+            drive(mix, report, longOption("duration-seconds"));
+
+            writeResults(report);
+        } finally {
+            if (application != null) {
+                application.close();
+            }
+        }
+    }
+
+    private void seed(URI baseUri) throws IOException, InterruptedException {
+        long employees = longOption("employees");
+        if (employees == 0 && longOption("projects") == 0) {
+            return;
+        }
+        ObjectNode body = objectMapper.createObjectNode()
+                .put("employeeCount", employees)
+                .put("projectCount", longOption("projects"))
+                .put("seed", longOption("seed"));
+        HttpResponse<String> response = client.send(HttpRequest.newBuilder(baseUri.resolve("/api/ai/synthetic-data"))
+                        .timeout(Duration.ofHours(1))
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofString(body.toString()))
+                        .build(),
+                HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() >= 400) {
+            throw new IllegalStateException("Seeding failed with " + response.statusCode() + ": " + response.body());
+        }
+        System.out.println("Seeded: " + response.body());
+    }
+
+    private record Sample(long[] ids, List<String> names) {
+    }
+
+    // Walks the keyset cursor endpoint up to a few thousand rows; reads and updates pick from these
+    private Sample sampleIds(URI baseUri, String path, String idField, String nameField) throws IOException, InterruptedException {
+        List<Long> ids = new ArrayList<>();
+        List<String> names = new ArrayList<>();
+        String after = null;
+        do {
+            String query = path + "?limit=" + ID_SAMPLE_PAGE + (after == null ? "" : "&after=" + URLEncoder.encode(after, StandardCharsets.UTF_8));
+            HttpResponse<String> response = client.send(HttpRequest.newBuilder(baseUri.resolve(query)).GET().build(),
+                    HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() >= 400) {
+                break;
+            }
+            JsonNode page = objectMapper.readTree(response.body());
+            for (JsonNode row : page.path("content")) {
+                ids.add(row.path(idField).asLong());
+                names.add(row.path(nameField).asText());
+            }
+            after = page.path("hasNext").asBoolean() ? page.path("nextCursor").asText() : null;
+        } while (after != null && ids.size() < 50 * ID_SAMPLE_PAGE);
+        return new Sample(ids.stream().mapToLong(Long::longValue).toArray(), names);
+    }
+
+    private void drive(TrafficMix mix, LoadReport report, long seconds) throws InterruptedException {
+        if (longOption("clients") > 0) {
+            driveClosedLoop(mix, report, seconds, (int) longOption("clients"));
+        } else {
+            driveOpenLoop(mix, report, seconds);
+        }
+    }
+
+    // Requests are due at fixed intervals and sent whether or not earlier ones have returned, up to max-in-flight
+    private void driveOpenLoop(TrafficMix mix, LoadReport report, long seconds) throws InterruptedException {
+        int maxInFlight = (int) longOption("max-in-flight");
+        Semaphore inFlight = new Semaphore(maxInFlight);
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / Math.max(1, longOption("rate"));
+        long start = System.nanoTime();
+        long end = start + TimeUnit.SECONDS.toNanos(seconds);
+
+        report.start();
+        for (long i = 0; ; i++) {
+            long due = start + i * intervalNanos;
+            if (due >= end) {
+                break;
+            }
+            long wait = due - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+
+            String endpoint = mix.pick();
+            HttpRequest request = mix.request(endpoint);
+            if (request == null) {
+                report.skipped(endpoint);
+                continue;
+            }
+            if (!inFlight.tryAcquire()) {
+                report.dropped(endpoint);
+                continue;
+            }
+            client.sendAsync(request, HttpResponse.BodyHandlers.ofString())
+                    .whenComplete((response, error) -> {
+                        boolean success = error == null && response.statusCode() < 400;
+                        report.record(endpoint, System.nanoTime() - due, success);
+                        if (success) {
+                            mix.onSuccess(endpoint, response);
+                        }
+                        inFlight.release();
+                    });
+        }
+        if (!inFlight.tryAcquire(maxInFlight, DRAIN_TIMEOUT.toSeconds(), TimeUnit.SECONDS)) {
+            System.out.println("Some requests were still running after " + DRAIN_TIMEOUT.toSeconds() + "s and are not reported.");
+        }
+        report.stop();
+    }
+
+    // Each client sends its next request when the previous one returns; latency is measured from the actual send
+    private void driveClosedLoop(TrafficMix mix, LoadReport report, long seconds, int clients) throws InterruptedException {
+        long end = System.nanoTime() + TimeUnit.SECONDS.toNanos(seconds);
+        CountDownLatch finished = new CountDownLatch(clients);
+
+        report.start();
+        for (int i = 0; i < clients; i++) {
+            sendNext(mix, report, end, finished);
+        }
+        if (!finished.await(seconds + DRAIN_TIMEOUT.toSeconds(), TimeUnit.SECONDS)) {
+            System.out.println("Some clients were still waiting " + DRAIN_TIMEOUT.toSeconds() + "s after the end and are not reported.");
+        }
+        report.stop();
+    }
+
+    // Continues on the HTTP client's completion thread, so a client never holds a thread while it waits
+    private void sendNext(TrafficMix mix, LoadReport report, long end, CountDownLatch finished) {
+        while (System.nanoTime() < end) {
+            String endpoint;
+            HttpRequest request;
+            synchronized (mix) {
+                endpoint = mix.pick();
+                request = mix.request(endpoint);
+            }
+            if (request == null) {
+                report.skipped(endpoint);
+                continue;
+            }
+            long sent = System.nanoTime();
+            client.sendAsync(request, HttpResponse.BodyHandlers.ofString())
+                    .whenComplete((response, error) -> {
+                        boolean success = error == null && response.statusCode() < 400;
+                        report.record(endpoint, System.nanoTime() - sent, success);
+                        if (success) {
+                            mix.onSuccess(endpoint, response);
+                        }
+                        sendNext(mix, report, end, finished);
+                    });
+            return;
+        }
+        finished.countDown();
+    }
+
+    private void writeResults(LoadReport report) throws IOException {
+        Path out = Path.of(option("out"));
+        Files.createDirectories(out);
+        Path histogramLog = out.resolve("latency.hlog");
+        Path summaryFile = out.resolve("summary.json");
+
+        Map<String, Object> settings = new LinkedHashMap<>(options);
+        settings.remove("baseline");
+        JsonNode summary = report.summary(objectMapper, settings);
+        report.writeHistogramLog(histogramLog);
+        LoadReport.printTable(summary);
+
+        // Compare before overwriting, so the baseline may be the previous run's summary.json in the same directory
+        if (!option("baseline").isBlank()) {
+            File baseline = new File(option("baseline"));
+            if (baseline.exists()) {
+                LoadReport.printComparison(summary, baseline, objectMapper);
+            } else {
+                System.out.println("Baseline " + baseline + " not found, nothing to compare.");
+            }
+        }
+        LoadReport.writeSummary(summary, summaryFile, objectMapper);
+        System.out.printf("%nWrote %s and %s%n", histogramLog, summaryFile);
+    }
+
+    private String option(String name) {
+        return options.get(name);
+    }
+
+    private long longOption(String name) {
+        return Long.parseLong(option(name));
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
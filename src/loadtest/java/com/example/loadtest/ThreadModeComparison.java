@@ -0,0 +1,66 @@
+// src/loadtest/java/com/example/loadtest/ThreadModeComparison.java
+package com.example.loadtest;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Platform against virtual threads: runs {@link LoadTestHarness} twice against fresh in-process instances, first
+ * under the synthetic profile alone and then with the virtual profile added, and prints the second summary against
+ * the first (p99, throughput and errors per endpoint). Both runs are closed-loop, 1000 clients unless --clients says
+ * otherwise, and each has its own warm-up. Takes the harness options; --profiles and --baseline are set per run,
+ * and the results go to platform/ and virtual/ under --out. Needs Java 21, below that the virtual profile has no
+ * effect and the comparison would be meaningless.
+ */
+public final class ThreadModeComparison {
+
+    private static final String DEFAULT_CLIENTS = "1000";
+
+    private ThreadModeComparison() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        if (Runtime.version().feature() < 21) {
+            throw new IllegalStateException("Virtual threads need Java 21, running on " + Runtime.version()
+                    + "; build with -Pjava21 and run on a JDK 21");
+        }
+        Map<String, String> options = new LinkedHashMap<>();
+        for (String arg : args) {
+            int separator = arg.indexOf('=');
+            if (!arg.startsWith("--") || separator < 0) {
+                throw new IllegalArgumentException("Options look like --name=value, got: " + arg);
+            }
+            options.put(arg.substring(2, separator), arg.substring(separator + 1));
+        }
+        if (!options.getOrDefault("target", "").isBlank()) {
+            throw new IllegalArgumentException("The comparison starts its own instances; --target is not supported");
+        }
+        if (options.getOrDefault("clients", "0").equals("0")) {
+            options.put("clients", DEFAULT_CLIENTS);
+        }
+        String out = options.getOrDefault("out", "target/loadtest");
+        options.remove("profiles");
+        options.remove("baseline");
+
+        System.out.println("=== Platform threads ===");
+        LoadTestHarness.main(arguments(options, "synthetic", out + "/platform", ""));
+
+        System.out.println("=== Virtual threads ===");
+        LoadTestHarness.main(arguments(options, "synthetic,virtual", out + "/virtual", out + "/platform/summary.json"));
+    }
+
+    private static String[] arguments(Map<String, String> options, String profiles, String out, String baseline) {
+        List<String> arguments = new ArrayList<>();
+        options.forEach((name, value) -> {
+            if (!name.equals("out")) {
+                arguments.add("--" + name + "=" + value);
+            }
+        });
+        arguments.add("--profiles=" + profiles);
+        arguments.add("--out=" + out);
+        arguments.add("--baseline=" + baseline);
+        return arguments.toArray(String[]::new);
+    }
+}
@@ -0,0 +1,174 @@
+// src/loadtest/java/com/example/loadtest/TrafficMix.java
+package com.example.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The endpoints the harness calls and how often, e.g. "employees.get=30,employees.create=5". Reads and updates
+ * target IDs sampled from the seeded data; deletes only remove employees the run created itself, so reads keep
+ * finding their rows. {@link #pick} and {@link #request} are not thread-safe: the open-loop dispatcher is their
+ * only caller, closed-loop clients take turns on the mix's monitor.
+ */
+class TrafficMix {
+
+    static final String DEFAULT_MIX = "employees.list=18,employees.get=30,employees.create=8,employees.update=6,"
+            + "employees.delete=4,projects.list=8,projects.get=10,projects.patch=3,skills.list=5,skills.get=5,"
+            + "skills.by-name=1,ai.generate=2";
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+    private static final String[] JOB_ROLES = {"Software Engineer", "QA Engineer", "Product Manager", "Data Analyst"};
+
+    private final URI baseUri;
+    private final ObjectMapper objectMapper;
+    private final SplittableRandom random;
+    private final List<String> names = new ArrayList<>();
+    private final int[] cumulativeWeights;
+    private final long[] employeeIds;
+    private final long[] projectIds;
+    private final long[] skillIds;
+    private final List<String> skillNames;
+    private final ConcurrentLinkedDeque<Long> createdEmployeeIds = new ConcurrentLinkedDeque<>();
+    private final AtomicLong created = new AtomicLong();
+
+    TrafficMix(String mix, URI baseUri, ObjectMapper objectMapper, long seed,
+               long[] employeeIds, long[] projectIds, long[] skillIds, List<String> skillNames) {
+        this.baseUri = baseUri;
+        this.objectMapper = objectMapper;
+        this.random = new SplittableRandom(seed);
+        this.employeeIds = employeeIds;
+        this.projectIds = projectIds;
+        this.skillIds = skillIds;
+        this.skillNames = skillNames;
+
+        Map<String, Integer> weights = parse(mix);
+        cumulativeWeights = new int[weights.size()];
+        int total = 0;
+        for (Map.Entry<String, Integer> entry : weights.entrySet()) {
+            total += entry.getValue();
+            cumulativeWeights[names.size()] = total;
+            names.add(entry.getKey());
+        }
+    }
+
+    List<String> endpoints() {
+        return names;
+    }
+
+    String pick() {
+        int roll = random.nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (roll < cumulativeWeights[i]) {
+                return names.get(i);
+            }
+        }
+        throw new IllegalStateException("Unreachable");
+    }
+
+    // Null when the endpoint has nothing to act on yet, e.g. a delete before anything was created
+    HttpRequest request(String endpoint) {
+        return switch (endpoint) {
+            case "employees.list" -> get("/api/employees?withTotal=false&size=20&page=" + random.nextInt(50));
+            case "employees.get" -> get("/api/employees/" + any(employeeIds));
+            case "employees.create" -> send("POST", "/api/employees", newEmployee());
+            case "employees.update" -> send("PUT", "/api/employees/" + any(employeeIds), newEmployee());
+            case "employees.delete" -> {
+                Long id = createdEmployeeIds.pollFirst();
+                yield id == null ? null : builder("/api/employees/" + id).DELETE().build();
+            }
+            case "projects.list" -> get("/api/projects?withTotal=false&size=20&page=" + random.nextInt(10));
+            case "projects.get" -> get("/api/projects/" + any(projectIds));
+            case "projects.patch" -> send("PATCH", "/api/projects/" + any(projectIds),
+                    objectMapper.createObjectNode().put("description", "Load test update " + random.nextInt(1_000_000)));
+            case "skills.list" -> get("/api/skills?withTotal=false&size=20");
+            case "skills.get" -> get("/api/skills/" + any(skillIds));
+            case "skills.by-name" -> skillNames.isEmpty() ? null
+                    : get("/api/skills/by-name?name=" + URLEncoder.encode(skillNames.get(random.nextInt(skillNames.size())), StandardCharsets.UTF_8));
+            case "ai.generate" -> send("POST", "/api/ai/generate-data", objectMapper.createObjectNode()
+                    .put("topic", "load test").put("propertyCount", 3).put("recordCount", 5));
+            default -> throw new IllegalArgumentException("Unknown endpoint in traffic mix: " + endpoint);
+        };
+    }
+
+    // Remembers employees this run created so deletes have something to remove
+    void onSuccess(String endpoint, HttpResponse<String> response) {
+        if (!"employees.create".equals(endpoint)) {
+            return;
+        }
+        try {
+            JsonNode id = objectMapper.readTree(response.body()).path("employeeId");
+            if (id.canConvertToLong()) {
+                createdEmployeeIds.addLast(id.asLong());
+            }
+        } catch (Exception e) {
+            // The latency was recorded already; an unreadable body only means one fewer delete target
+        }
+    }
+
+    private static Map<String, Integer> parse(String mix) {
+        Map<String, Integer> weights = new LinkedHashMap<>();
+        for (String entry : mix.split(",")) {
+            String[] parts = entry.trim().split("=");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Traffic mix entries look like endpoint=weight, got: " + entry);
+            }
+            int weight = Integer.parseInt(parts[1].trim());
+            if (weight > 0) {
+                weights.put(parts[0].trim(), weight);
+            }
+        }
+        if (weights.isEmpty()) {
+            throw new IllegalArgumentException("Traffic mix has no endpoint with a positive weight.");
+        }
+        return weights;
+    }
+
+    private ObjectNode newEmployee() {
+        long n = created.incrementAndGet();
+        ObjectNode employee = objectMapper.createObjectNode()
+                .put("name", "Load Test" + n + " Employee")
+                .put("dateOfBirth", String.format("19%02d-%02d-%02d", 60 + random.nextInt(40), 1 + random.nextInt(12), 1 + random.nextInt(28)))
+                .put("jobRole", JOB_ROLES[random.nextInt(JOB_ROLES.length)])
+                .put("gender", random.nextBoolean() ? "Female" : "Male");
+        if (skillIds.length > 0) {
+            employee.putArray("skillIds").add(any(skillIds));
+        }
+        return employee;
+    }
+
+    private long any(long[] ids) {
+        return ids.length == 0 ? 1 : ids[random.nextInt(ids.length)];
+    }
+
+    private HttpRequest get(String path) {
+        return builder(path).GET().build();
+    }
+
+    private HttpRequest send(String method, String path, JsonNode body) {
+        return builder(path)
+                .header("Content-Type", "application/json")
+                .method(method, HttpRequest.BodyPublishers.ofString(body.toString()))
+                .build();
+    }
+
+    private HttpRequest.Builder builder(String path) {
+        return HttpRequest.newBuilder(baseUri.resolve(path))
+                .timeout(REQUEST_TIMEOUT)
+                .header("Accept", "application/json");
+    }
+}
@@ -1,14 +1,88 @@
 package com.example.configuration;
 
+import io.netty.channel.ChannelOption;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
 
 @Configuration
 public class AppConfig {
 
+    @Value("${ai.http.pool.max-connections:50}")
+    private int maxConnections;
+
+    @Value("${ai.http.pool.pending-acquire-max-count:200}")
+    private int pendingAcquireMaxCount;
+
+    @Value("${ai.http.pool.pending-acquire-timeout-ms:5000}")
+    private long pendingAcquireTimeoutMs;
+
+    // Close idle keep-alive connections before the provider's load balancer does, so a reused socket is never dead
+    @Value("${ai.http.pool.max-idle-time-ms:30000}")
+    private long maxIdleTimeMs;
+
+    @Value("${ai.http.pool.max-life-time-ms:300000}")
+    private long maxLifeTimeMs;
+
+    @Value("${ai.http.pool.evict-in-background-ms:30000}")
+    private long evictInBackgroundMs;
+
+    @Value("${ai.http.connect-timeout-ms:5000}")
+    private int connectTimeoutMs;
+
+    // Longest silence allowed while waiting for or reading a response; covers every call made through the client
+    @Value("${ai.http.response-timeout-ms:60000}")
+    private long responseTimeoutMs;
+
+    @Value("${ai.http.http2:true}")
+    private boolean http2;
+
+    @Value("${openai.api.base-url:https://api.openai.com}")
+    private String baseUrl;
+
+    @Value("${ai.http.compression:true}")
+    private boolean compression;
+
+    // Large completions arrive as one JSON body; the codec default of 256 KB is too small for them
+    @Value("${ai.http.max-in-memory-size-kb:16384}")
+    private int maxInMemorySizeKb;
+
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider outboundConnectionProvider(OutboundHttpPoolMetrics poolMetrics) {
+        return ConnectionProvider.builder("outbound-http")
+                .maxConnections(maxConnections)
+                .pendingAcquireMaxCount(pendingAcquireMaxCount)
+                .pendingAcquireTimeout(Duration.ofMillis(pendingAcquireTimeoutMs))
+                .maxIdleTime(Duration.ofMillis(maxIdleTimeMs))
+                .maxLifeTime(Duration.ofMillis(maxLifeTimeMs))
+                .evictInBackground(Duration.ofMillis(evictInBackgroundMs))
+                .metrics(true, () -> poolMetrics)
+                .build();
+    }
+
     @Bean
-    public WebClient webClient() {
-        return WebClient.builder().build();
+    public WebClient webClient(ConnectionProvider outboundConnectionProvider) {
+        HttpClient httpClient = HttpClient.create(outboundConnectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, connectTimeoutMs)
+                .option(ChannelOption.SO_KEEPALIVE, true)
+                .responseTimeout(Duration.ofMillis(responseTimeoutMs))
+                .compress(compression);
+        // HTTP/2 is negotiated over TLS (ALPN). A plain-http base URL, such as a local stub, gets HTTP/1.1 only:
+        // offering h2c there makes the client attempt an upgrade and defeats keep-alive connection reuse
+        if (http2 && baseUrl.startsWith("https://")) {
+            httpClient = httpClient.protocol(HttpProtocol.H2, HttpProtocol.HTTP11);
+        }
+
+        return WebClient.builder()
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .codecs(configurer -> configurer.defaultCodecs().maxInMemorySize(maxInMemorySizeKb * 1024))
+                .build();
     }
 }
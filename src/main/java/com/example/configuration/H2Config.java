@@ -9,6 +9,7 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.PropertySource;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
 import org.springframework.orm.jpa.JpaTransactionManager;
 import org.springframework.orm.jpa.JpaVendorAdapter;
 import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
@@ -34,23 +35,99 @@ public class H2Config {
     @Value("${h2.jdbc.password}")
     private String jdbcPassword;
 
+    @Value("${h2.pool.maximum-size:3}")
+    private int maximumPoolSize;
+
+    @Value("${h2.pool.minimum-idle:3}")
+    private int minimumIdle;
+
+    @Value("${h2.pool.connection-timeout-ms:30000}")
+    private long connectionTimeoutMs;
+
+    @Value("${h2.pool.idle-timeout-ms:600000}")
+    private long idleTimeoutMs;
+
+    @Value("${h2.pool.max-lifetime-ms:1800000}")
+    private long maxLifetimeMs;
+
+    // H2 caches the parsed form of this many statements per connection (QUERY_CACHE_SIZE, H2 default 8)
+    @Value("${h2.query-cache-size:8}")
+    private int queryCacheSize;
+
+    @Value("${sql.slow-query.enabled:true}")
+    private boolean slowQueryLogEnabled;
+
+    @Value("${sql.slow-query.threshold-ms:100}")
+    private long slowQueryThresholdMs;
+
+    @Value("${sql.slow-query.explain:false}")
+    private boolean slowQueryExplain;
+
+    @Value("${sql.slow-query.max-statements:2000}")
+    private int slowQueryMaxStatements;
+
+    @Value("${sql.budget.enabled:false}")
+    private boolean sqlBudgetEnabled;
+
+    @Value("${hibernate.show_sql:true}")
+    private boolean showSql;
+
+    @Value("${hibernate.format_sql:true}")
+    private boolean formatSql;
+
+    @Value("${hibernate.jdbc.batch_size:50}")
+    private int jdbcBatchSize;
+
+    @Value("${hibernate.order_inserts:true}")
+    private boolean orderInserts;
+
+    @Value("${hibernate.order_updates:true}")
+    private boolean orderUpdates;
+
+    @Value("${hibernate.cache.use_second_level_cache:true}")
+    private boolean useSecondLevelCache;
+
+    @Value("${hibernate.cache.use_query_cache:true}")
+    private boolean useQueryCache;
+
+    @Value("${hibernate.javax.cache.uri:ehcache.xml}")
+    private String cacheConfigUri;
+
     private static final String BASE_PACKAGE = "com.example.entity";
 
     @Bean
     public DataSource dataSource() {
 
+        String url = jdbcUrl + ";QUERY_CACHE_SIZE=" + queryCacheSize;
+
         Properties driverProperties = new Properties();
-        driverProperties.setProperty("url", jdbcUrl);
+        driverProperties.setProperty("url", url);
         driverProperties.setProperty("user", jdbcUser);
         driverProperties.setProperty("password", jdbcPassword);
 
         Properties properties = new Properties();
         properties.put("driverClassName", driverClassName);
-        properties.put("jdbcUrl", jdbcUrl);
+        properties.put("jdbcUrl", url);
         properties.put("dataSourceProperties", driverProperties);
-        properties.setProperty("maximumPoolSize", String.valueOf(3));
+        properties.setProperty("poolName", "EmployeeDbPool");
+        properties.setProperty("maximumPoolSize", String.valueOf(maximumPoolSize));
+        properties.setProperty("minimumIdle", String.valueOf(Math.min(minimumIdle, maximumPoolSize)));
+        properties.setProperty("connectionTimeout", String.valueOf(connectionTimeoutMs));
+        properties.setProperty("idleTimeout", String.valueOf(idleTimeoutMs));
+        properties.setProperty("maxLifetime", String.valueOf(maxLifetimeMs));
+
+        HikariDataSource pool = new HikariDataSource(new HikariConfig(properties));
+        // Every statement is timed by the proxy; slow ones are logged with bind types and, if enabled, the plan
+        return slowQueryLogEnabled ? slowQueryLog().wrap(pool) : pool;
+    }
 
-        return new HikariDataSource(new HikariConfig(properties));
+    @Bean
+    public SlowQueryLog slowQueryLog() {
+        // Plans get one connection of their own, so they never wait for or hold a pooled one
+        SingleConnectionDataSource planSource = slowQueryExplain
+                ? new SingleConnectionDataSource(jdbcUrl, jdbcUser, jdbcPassword, true)
+                : null;
+        return new SlowQueryLog(slowQueryThresholdMs, slowQueryMaxStatements, planSource);
     }
 
     @Bean
@@ -85,9 +162,30 @@ public class H2Config {
          */
 //        properties.setProperty("hibernate.hbm2ddl.auto", "create-drop");
 
-        properties.setProperty("hibernate.show_sql", "true");
-        properties.setProperty("hibernate.format_sql", "true");
+        // SQL echo to stdout; the perf profile turns both off
+        properties.setProperty("hibernate.show_sql", String.valueOf(showSql));
+        properties.setProperty("hibernate.format_sql", String.valueOf(formatSql));
         properties.setProperty("hibernate.current_session_context_class", "thread");
+
+        // Group INSERT/UPDATE statements into JDBC batches (needs sequence-generated IDs to apply to inserts)
+        properties.setProperty("hibernate.jdbc.batch_size", String.valueOf(jdbcBatchSize));
+        properties.setProperty("hibernate.order_inserts", String.valueOf(orderInserts));
+        properties.setProperty("hibernate.order_updates", String.valueOf(orderUpdates));
+
+        // Per-request statement counts and N+1 detection, see SqlStatementBudget; off in production
+        if (sqlBudgetEnabled) {
+            properties.setProperty("hibernate.session_factory.statement_inspector", SqlStatementCounter.class.getName());
+        }
+
+        // Second-level and query cache for read-mostly reference data (@Cache entities), regions sized in ehcache.xml
+        properties.setProperty("hibernate.cache.use_second_level_cache", String.valueOf(useSecondLevelCache));
+        properties.setProperty("hibernate.cache.use_query_cache", String.valueOf(useSecondLevelCache && useQueryCache));
+        if (useSecondLevelCache) {
+            properties.setProperty("hibernate.cache.region.factory_class", "jcache");
+            properties.setProperty("hibernate.javax.cache.provider", "org.ehcache.jsr107.EhcacheCachingProvider");
+            properties.setProperty("hibernate.javax.cache.uri", cacheConfigUri);
+            properties.setProperty("hibernate.javax.cache.missing_cache_strategy", "fail");
+        }
         return properties;
     }
 
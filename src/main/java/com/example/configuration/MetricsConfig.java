@@ -0,0 +1,56 @@
+package com.example.configuration;
+
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Application meters on top of what the actuator provides (HTTP server, Hikari, JVM, Spring Data invocation
+ * timings), scraped from /actuator/prometheus:
+ * <ul>
+ *     <li>service.calls: a timer per public method of every {@code @Timed} service, tagged class, method and
+ *     exception; its count doubles as the call counter</li>
+ *     <li>repository.calls.per.request: repository calls per HTTP request, see {@link RepositoryCallCounter}</li>
+ *     <li>ai.generation, ai.upstream.requests and ai.tokens, recorded by AIMetrics</li>
+ *     <li>reactor.netty.connection.provider.*: the outbound AI connection pool, see OutboundHttpPoolMetrics</li>
+ * </ul>
+ * No percentile histograms are published by default, so each timer is a handful of series.
+ */
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry registry) {
+        return new TimedAspect(registry);
+    }
+
+    // Static: bean post-processors are created before regular beans and must not pull them in early
+    @Bean
+    public static BeanPostProcessor repositoryCallCounting() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof RepositoryFactoryBeanSupport<?, ?, ?> factoryBean) {
+                    factoryBean.addRepositoryFactoryCustomizer(factory -> factory.addInvocationListener(RepositoryCallCounter.listener()));
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    public WebMvcConfigurer repositoryCallCounterConfigurer(MeterRegistry registry) {
+        RepositoryCallCounter counter = new RepositoryCallCounter(registry);
+        return new WebMvcConfigurer() {
+            @Override
+            public void addInterceptors(InterceptorRegistry interceptors) {
+                interceptors.addInterceptor(counter);
+            }
+        };
+    }
+}
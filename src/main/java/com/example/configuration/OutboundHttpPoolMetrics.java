@@ -0,0 +1,83 @@
+package com.example.configuration;
+
+import com.example.dto.HttpPoolStatsDto;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import org.springframework.stereotype.Component;
+import reactor.netty.resources.ConnectionPoolMetrics;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.net.SocketAddress;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Receives the live gauges of every pool the outbound ConnectionProvider opens (one per remote address),
+ * reports them on demand and publishes them as Micrometer gauges under Reactor Netty's own meter names
+ * (reactor.netty.connection.provider.*, tagged name and remote.address), so they are scraped from
+ * /actuator/prometheus too. Registered through ConnectionProvider.Builder.metrics.
+ */
+@Component
+public class OutboundHttpPoolMetrics implements ConnectionProvider.MeterRegistrar {
+
+    private static final String PREFIX = "reactor.netty.connection.provider.";
+
+    private record Pool(ConnectionPoolMetrics metrics, List<Meter> meters) {
+    }
+
+    private final MeterRegistry registry;
+    private final Map<String, Pool> pools = new ConcurrentHashMap<>();
+
+    public OutboundHttpPoolMetrics(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    public void registerMetrics(String poolName, String id, SocketAddress remoteAddress, ConnectionPoolMetrics metrics) {
+        // A re-registered pool replaces the old one; its gauges would otherwise keep reading the old metrics
+        deRegisterMetrics(poolName, id, remoteAddress);
+        Tags tags = Tags.of("name", poolName, "remote.address", String.valueOf(remoteAddress));
+        List<Meter> meters = List.of(
+                gauge("total.connections", metrics, ConnectionPoolMetrics::allocatedSize, tags),
+                gauge("active.connections", metrics, ConnectionPoolMetrics::acquiredSize, tags),
+                gauge("idle.connections", metrics, ConnectionPoolMetrics::idleSize, tags),
+                gauge("pending.connections", metrics, ConnectionPoolMetrics::pendingAcquireSize, tags),
+                gauge("max.connections", metrics, ConnectionPoolMetrics::maxAllocatedSize, tags),
+                gauge("max.pending.connections", metrics, ConnectionPoolMetrics::maxPendingAcquireSize, tags));
+        pools.put(key(poolName, remoteAddress), new Pool(metrics, meters));
+    }
+
+    @Override
+    public void deRegisterMetrics(String poolName, String id, SocketAddress remoteAddress) {
+        Pool pool = pools.remove(key(poolName, remoteAddress));
+        if (pool != null) {
+            pool.meters().forEach(registry::remove);
+        }
+    }
+
+    public List<HttpPoolStatsDto> stats() {
+        List<HttpPoolStatsDto> stats = new ArrayList<>();
+        pools.forEach((name, pool) -> {
+            ConnectionPoolMetrics metrics = pool.metrics();
+            stats.add(new HttpPoolStatsDto(name,
+                    metrics.acquiredSize(), metrics.idleSize(), metrics.allocatedSize(), metrics.pendingAcquireSize(),
+                    metrics.maxAllocatedSize(), metrics.maxPendingAcquireSize()));
+        });
+        return stats;
+    }
+
+    private Gauge gauge(String name, ConnectionPoolMetrics metrics, ToDoubleFunction<ConnectionPoolMetrics> value, Tags tags) {
+        return Gauge.builder(PREFIX + name, metrics, value)
+                .tags(tags)
+                .register(registry);
+    }
+
+    private static String key(String poolName, SocketAddress remoteAddress) {
+        return poolName + "@" + remoteAddress;
+    }
+}
@@ -0,0 +1,98 @@
+package com.example.configuration;
+
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Logs the settings that decide database throughput once the application is up, read back from the
+ * live pool, EntityManagerFactory and logging system rather than from the property files, so the
+ * report shows what is actually in effect for the active profiles.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PerformanceSettingsReport {
+
+    private static final List<String> HIBERNATE_SETTINGS = List.of(
+            "hibernate.show_sql",
+            "hibernate.format_sql",
+            "hibernate.jdbc.batch_size",
+            "hibernate.order_inserts",
+            "hibernate.order_updates",
+            "hibernate.cache.use_second_level_cache",
+            "hibernate.cache.use_query_cache");
+
+    private static final List<String> TRACED_LOGGERS = List.of(
+            "org.hibernate.SQL",
+            "org.hibernate.type.descriptor.sql.BasicBinder",
+            "org.hibernate.orm.jdbc.bind",
+            "org.hibernate.event",
+            "com.example");
+
+    private final DataSource dataSource;
+    private final EntityManagerFactory entityManagerFactory;
+    private final Environment environment;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void report() {
+        log.info("Active profiles: {}", Arrays.toString(environment.getActiveProfiles()));
+        // Only true on Java 21 with spring.threads.virtual.enabled (virtual profile)
+        log.info("Virtual threads for requests and @Async: {} (Java {})", Threading.VIRTUAL.isActive(environment), Runtime.version().feature());
+
+        // The pool may sit behind the slow-query proxy
+        HikariDataSource hikari = unwrapHikari();
+        if (hikari != null) {
+            log.info("Hikari pool '{}': maximumPoolSize={}, minimumIdle={}, connectionTimeout={}ms, idleTimeout={}ms, maxLifetime={}ms",
+                    hikari.getPoolName(), hikari.getMaximumPoolSize(), hikari.getMinimumIdle(),
+                    hikari.getConnectionTimeout(), hikari.getIdleTimeout(), hikari.getMaxLifetime());
+            log.info("JDBC URL: {}", hikari.getJdbcUrl());
+        } else {
+            log.info("DataSource: {}", dataSource.getClass().getName());
+        }
+
+        Map<String, Object> hibernateProperties = entityManagerFactory.getProperties();
+        for (String setting : HIBERNATE_SETTINGS) {
+            log.info("{}={}", setting, hibernateProperties.getOrDefault(setting, "<default>"));
+        }
+
+        for (String loggerName : TRACED_LOGGERS) {
+            log.info("Log level {}: {}", loggerName, effectiveLevel(loggerName));
+        }
+    }
+
+    private HikariDataSource unwrapHikari() {
+        try {
+            return dataSource.isWrapperFor(HikariDataSource.class) ? dataSource.unwrap(HikariDataSource.class) : null;
+        } catch (SQLException e) {
+            return null;
+        }
+    }
+
+    private static String effectiveLevel(String loggerName) {
+        org.slf4j.Logger logger = LoggerFactory.getLogger(loggerName);
+        if (logger.isTraceEnabled()) {
+            return "TRACE";
+        }
+        if (logger.isDebugEnabled()) {
+            return "DEBUG";
+        }
+        if (logger.isInfoEnabled()) {
+            return "INFO";
+        }
+        return logger.isWarnEnabled() ? "WARN" : "ERROR";
+    }
+}
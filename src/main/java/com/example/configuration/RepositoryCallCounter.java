@@ -0,0 +1,68 @@
+package com.example.configuration;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.data.repository.core.support.RepositoryMethodInvocationListener;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * Counts Spring Data repository calls made while one HTTP request is handled and records the total in the
+ * repository.calls.per.request summary, tagged with the HTTP method and the URI template (never the raw path,
+ * to keep the series count bounded). Calls made on other threads, e.g. by reactive endpoints, are not counted.
+ * Per-method repository timings come from Spring Boot's own spring.data.repository.invocations metric.
+ */
+public class RepositoryCallCounter implements AsyncHandlerInterceptor {
+
+    private static final ThreadLocal<int[]> CALLS = new ThreadLocal<>();
+    private static final String UNKNOWN_URI = "UNKNOWN";
+
+    private final MeterRegistry registry;
+
+    public RepositoryCallCounter(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    // Registered on every repository factory by MetricsConfig; does nothing outside a counted request
+    public static RepositoryMethodInvocationListener listener() {
+        return invocation -> {
+            int[] calls = CALLS.get();
+            if (calls != null) {
+                calls[0]++;
+            }
+        };
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        CALLS.set(new int[1]);
+        return true;
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        record(request);
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        record(request);
+    }
+
+    private void record(HttpServletRequest request) {
+        int[] calls = CALLS.get();
+        CALLS.remove();
+        if (calls == null) {
+            return;
+        }
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        DistributionSummary.builder("repository.calls.per.request")
+                .description("Spring Data repository calls made while handling one HTTP request")
+                .tag("method", request.getMethod())
+                .tag("uri", pattern == null ? UNKNOWN_URI : pattern.toString())
+                .register(registry)
+                .record(calls[0]);
+    }
+}
@@ -0,0 +1,264 @@
+package com.example.configuration;
+
+import com.example.dto.QueryShapeStatsDto;
+import lombok.extern.slf4j.Slf4j;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+import javax.sql.DataSource;
+import java.io.InputStream;
+import java.io.Reader;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Times every JDBC statement that goes through the pool (H2Config wraps the Hikari DataSource with
+ * {@link #wrap(DataSource)}) and keeps per-statement totals, merged by query shape for the admin endpoint.
+ * Statements at or above the threshold go to the "slow-query" logger, a dedicated rolling file set up in
+ * logback-spring.xml, with the types of their bind values (never the values, which are employee data) and,
+ * when a plan source is given, the H2 plan. Plans are plain EXPLAIN, so nothing runs twice, taken on one
+ * background thread over their own single connection, so the caller never waits for them and the application
+ * pool never lends them a connection; when that thread falls behind, entries are logged without a plan.
+ */
+@Slf4j
+public class SlowQueryLog implements QueryExecutionListener {
+
+    private static final Logger SLOW_QUERIES = LoggerFactory.getLogger("slow-query");
+
+    // Bind type sets logged per slow batch, and slow statements waiting for a plan before plans are skipped
+    private static final int LOGGED_PARAMETER_SETS = 5;
+    private static final int PLAN_QUEUE_SIZE = 100;
+
+    private final long thresholdMillis;
+    private final int maxStatements;
+    private final SingleConnectionDataSource planSource;
+    private final ConcurrentMap<String, StatementStats> statements = new ConcurrentHashMap<>();
+    private final AtomicBoolean overflowReported = new AtomicBoolean();
+    private final ThreadPoolExecutor planner;
+
+    // planSource: a connection used only by the plan thread, or null to log without plans
+    public SlowQueryLog(long thresholdMillis, int maxStatements, SingleConnectionDataSource planSource) {
+        this.thresholdMillis = thresholdMillis;
+        this.maxStatements = maxStatements;
+        this.planSource = planSource;
+        this.planner = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(PLAN_QUEUE_SIZE), runnable -> {
+            Thread thread = new Thread(runnable, "slow-query-plan");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    // Proxy that reports to this log
+    public DataSource wrap(DataSource dataSource) {
+        return ProxyDataSourceBuilder.create(dataSource)
+                .name("EmployeeDbPool")
+                .listener(this)
+                .build();
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        if (queryInfoList.isEmpty()) {
+            return;
+        }
+        // A Statement batch of different SQL strings reports one elapsed time for all of them
+        long elapsedMillis = execInfo.getElapsedTime() / queryInfoList.size();
+        boolean slow = execInfo.getElapsedTime() >= thresholdMillis;
+        for (QueryInfo query : queryInfoList) {
+            record(query.getQuery(), elapsedMillis, slow);
+        }
+        if (slow) {
+            logSlow(execInfo, queryInfoList);
+        }
+    }
+
+    // The slowest shapes by "total", "mean" or "max" milliseconds; statements that differ only in literals are merged
+    public List<QueryShapeStatsDto> topShapes(int limit, String orderBy) {
+        Map<String, QueryShapeStatsDto> shapes = new HashMap<>();
+        statements.forEach((sql, stats) -> {
+            long count = stats.count.sum();
+            if (count == 0) {
+                return;
+            }
+            QueryShapeStatsDto shape = shapes.computeIfAbsent(SqlStatementCounter.shapeOf(sql),
+                    key -> new QueryShapeStatsDto(key, 0, 0, 0, 0, 0));
+            shape.setExecutions(shape.getExecutions() + count);
+            shape.setTotalMillis(shape.getTotalMillis() + stats.totalMillis.sum());
+            shape.setMaxMillis(Math.max(shape.getMaxMillis(), stats.maxMillis.get()));
+            shape.setSlowExecutions(shape.getSlowExecutions() + stats.slowCount.sum());
+        });
+        shapes.values().forEach(shape -> shape.setMeanMillis((double) shape.getTotalMillis() / shape.getExecutions()));
+
+        Comparator<QueryShapeStatsDto> order = switch (orderBy) {
+            case "mean" -> Comparator.comparingDouble(QueryShapeStatsDto::getMeanMillis);
+            case "max" -> Comparator.comparingLong(QueryShapeStatsDto::getMaxMillis);
+            default -> Comparator.comparingLong(QueryShapeStatsDto::getTotalMillis);
+        };
+        return shapes.values().stream()
+                .sorted(order.reversed())
+                .limit(limit)
+                .toList();
+    }
+
+    public void reset() {
+        statements.clear();
+        overflowReported.set(false);
+    }
+
+    // Called by the container on shutdown; pending plans are dropped
+    public void close() {
+        planner.shutdownNow();
+        if (planSource != null) {
+            try {
+                planner.awaitTermination(1, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            planSource.destroy();
+        }
+    }
+
+    private void record(String sql, long elapsedMillis, boolean slow) {
+        // Keyed by the SQL string: Hibernate reuses the same strings, so the hot path is a map lookup and the
+        // shape regexes only run when the endpoint is read
+        StatementStats stats = statements.get(sql);
+        if (stats == null) {
+            if (statements.size() >= maxStatements) {
+                if (overflowReported.compareAndSet(false, true)) {
+                    log.warn("Slow-query statistics are full ({} distinct statements); new statements are not aggregated", maxStatements);
+                }
+                return;
+            }
+            stats = statements.computeIfAbsent(sql, key -> new StatementStats());
+        }
+        stats.count.increment();
+        stats.totalMillis.add(elapsedMillis);
+        stats.maxMillis.accumulate(elapsedMillis);
+        if (slow) {
+            stats.slowCount.increment();
+        }
+    }
+
+    private void logSlow(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        String thread = Thread.currentThread().getName();
+        long elapsedMillis = execInfo.getElapsedTime();
+        boolean success = execInfo.isSuccess();
+        List<SlowStatement> slowStatements = queryInfoList.stream()
+                .map(query -> new SlowStatement(query.getQuery(), bindValues(query)))
+                .toList();
+
+        Runnable entry = () -> {
+            StringBuilder text = new StringBuilder()
+                    .append(elapsedMillis).append(" ms, ").append(success ? "success" : "failed")
+                    .append(", thread ").append(thread);
+            for (SlowStatement statement : slowStatements) {
+                text.append(System.lineSeparator()).append("SQL: ").append(statement.sql());
+                appendBindTypes(text, statement.bindValues());
+                if (planSource != null) {
+                    text.append(System.lineSeparator()).append("Plan: ").append(plan(statement));
+                }
+            }
+            SLOW_QUERIES.warn(text.toString());
+        };
+
+        if (planSource == null) {
+            entry.run();
+            return;
+        }
+        try {
+            planner.execute(entry);
+        } catch (RuntimeException e) {
+            // Queue full or shutting down: keep the entry, skip the plan
+            SLOW_QUERIES.warn("{} ms, {}, thread {} (plan skipped){}SQL: {}", elapsedMillis, success ? "success" : "failed",
+                    thread, System.lineSeparator(), slowStatements.get(0).sql());
+        }
+    }
+
+    private String plan(SlowStatement statement) {
+        List<Object> values = statement.bindValues().isEmpty() ? List.of() : statement.bindValues().get(0);
+
+        // The connection stays open between plans; closing it here is a no-op
+        try (Connection connection = planSource.getConnection();
+             PreparedStatement explainStatement = connection.prepareStatement("EXPLAIN " + statement.sql().strip())) {
+            connection.setReadOnly(true);
+            for (int i = 0; i < values.size(); i++) {
+                Object value = values.get(i);
+                if (value instanceof InputStream || value instanceof Reader) {
+                    return "unavailable (stream parameter)";
+                }
+                explainStatement.setObject(i + 1, value);
+            }
+            StringBuilder plan = new StringBuilder();
+            try (ResultSet resultSet = explainStatement.executeQuery()) {
+                while (resultSet.next()) {
+                    plan.append(System.lineSeparator()).append(resultSet.getString(1));
+                }
+            }
+            return plan.toString();
+        } catch (SQLException e) {
+            return "unavailable (" + e.getMessage() + ")";
+        }
+    }
+
+    // Bind values per parameter set, in parameter order; setNull becomes null. Kept only to bind the plan
+    private static List<List<Object>> bindValues(QueryInfo query) {
+        List<List<Object>> sets = new ArrayList<>();
+        for (List<ParameterSetOperation> operations : query.getParametersList()) {
+            List<Object> values = new ArrayList<>();
+            operations.stream()
+                    .filter(operation -> operation.getArgs()[0] instanceof Integer)
+                    .sorted(Comparator.comparingInt(operation -> (Integer) operation.getArgs()[0]))
+                    .forEach(operation -> values.add("setNull".equals(operation.getMethod().getName()) ? null : operation.getArgs()[1]));
+            sets.add(values);
+        }
+        return sets;
+    }
+
+    // Types only, e.g. [Long, String, null]: the values themselves are personal data
+    private static void appendBindTypes(StringBuilder text, List<List<Object>> sets) {
+        for (int i = 0; i < Math.min(sets.size(), LOGGED_PARAMETER_SETS); i++) {
+            List<String> types = sets.get(i).stream()
+                    .map(value -> value == null ? "null" : value.getClass().getSimpleName())
+                    .toList();
+            text.append(System.lineSeparator()).append("Bind types: ").append(types);
+        }
+        if (sets.size() > LOGGED_PARAMETER_SETS) {
+            text.append(System.lineSeparator()).append("... and ").append(sets.size() - LOGGED_PARAMETER_SETS).append(" more parameter sets");
+        }
+    }
+
+    private record SlowStatement(String sql, List<List<Object>> bindValues) {
+    }
+
+    private static final class StatementStats {
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalMillis = new LongAdder();
+        private final LongAccumulator maxMillis = new LongAccumulator(Math::max, 0);
+        private final LongAdder slowCount = new LongAdder();
+    }
+}
@@ -0,0 +1,100 @@
+package com.example.configuration;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * Per-request SQL statement budget, on top of {@link SqlStatementCounter}. As an interceptor (registered in
+ * WebConfig) it opens a counting scope for each request and, once the request completes, logs a warning with the
+ * most executed query shapes when the request ran more than sql.budget.max-statements statements or repeated one
+ * shape more than sql.budget.max-repeats times, the usual N+1 signature. As a response body advice it adds the
+ * count so far in the X-SQL-Statement-Count header when sql.budget.response-header is on. Everything is off unless
+ * sql.budget.enabled is set (the dev profile and tests), since counting normalizes the SQL of every statement.
+ * Statements run on other threads, e.g. by reactive endpoints, are not counted.
+ */
+@RestControllerAdvice
+@Slf4j
+public class SqlStatementBudget implements AsyncHandlerInterceptor, ResponseBodyAdvice<Object> {
+
+    public static final String HEADER = "X-SQL-Statement-Count";
+
+    private static final String SCOPE_ATTRIBUTE = SqlStatementBudget.class.getName() + ".scope";
+    private static final int LOGGED_SHAPES = 3;
+
+    private final boolean enabled;
+    private final int maxStatements;
+    private final int maxRepeats;
+    private final boolean responseHeader;
+
+    public SqlStatementBudget(@Value("${sql.budget.enabled:false}") boolean enabled,
+                              @Value("${sql.budget.max-statements:20}") int maxStatements,
+                              @Value("${sql.budget.max-repeats:5}") int maxRepeats,
+                              @Value("${sql.budget.response-header:false}") boolean responseHeader) {
+        this.enabled = enabled;
+        this.maxStatements = maxStatements;
+        this.maxRepeats = maxRepeats;
+        this.responseHeader = responseHeader;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (enabled) {
+            request.setAttribute(SCOPE_ATTRIBUTE, SqlStatementCounter.open());
+        }
+        return true;
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        check(request);
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        check(request);
+    }
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return enabled && responseHeader;
+    }
+
+    // Runs just before the body is written, after the handler's statements and before the response is committed
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        SqlStatementCounter.Scope scope = SqlStatementCounter.current();
+        if (scope != null) {
+            response.getHeaders().set(HEADER, String.valueOf(scope.count()));
+        }
+        return body;
+    }
+
+    private void check(HttpServletRequest request) {
+        Object attribute = request.getAttribute(SCOPE_ATTRIBUTE);
+        request.removeAttribute(SCOPE_ATTRIBUTE);
+        if (!(attribute instanceof SqlStatementCounter.Scope scope)) {
+            return;
+        }
+        scope.close();
+        if (scope.count() > maxStatements || scope.maxRepeats() > maxRepeats) {
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            log.warn("SQL statement budget exceeded by {} {}: {} statements (budget {}), most repeated shape ran {} times (budget {}):{}{}",
+                    request.getMethod(), pattern == null ? request.getRequestURI() : pattern,
+                    scope.count(), maxStatements, scope.maxRepeats(), maxRepeats,
+                    System.lineSeparator(), scope.topShapes(LOGGED_SHAPES));
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.example.configuration;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Counts the SQL statements Hibernate prepares on the current thread while a {@link Scope} is open, keyed by
+ * query shape: the statement with literals replaced by {@code ?}, IN lists collapsed and whitespace normalized,
+ * so the N lookups of an N+1 share one shape. Registered as Hibernate's statement inspector by H2Config (and by
+ * spring.jpa.properties for slice tests); Hibernate instantiates it, so all state is per thread and static.
+ * A JDBC batch is prepared once and counts as one statement. Outside a scope the SQL passes through untouched.
+ */
+public class SqlStatementCounter implements StatementInspector {
+
+    private static final ThreadLocal<Scope> CURRENT = new ThreadLocal<>();
+
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("\\b\\d+(?:\\.\\d+)?\\b");
+    private static final Pattern IN_LIST = Pattern.compile("(?i)\\bin\\s*\\(\\s*\\?(?:\\s*,\\s*\\?)*\\s*\\)");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    @Override
+    public String inspect(String sql) {
+        Scope scope = CURRENT.get();
+        if (scope != null) {
+            String shape = shapeOf(sql);
+            // Enclosing scopes see the statement too, e.g. a test-wide scope around a request scope
+            for (Scope s = scope; s != null; s = s.parent) {
+                s.record(shape);
+            }
+        }
+        return sql;
+    }
+
+    // Starts counting on this thread; close the scope on the same thread
+    public static Scope open() {
+        Scope scope = new Scope(CURRENT.get());
+        CURRENT.set(scope);
+        return scope;
+    }
+
+    // Innermost open scope on this thread, or null
+    public static Scope current() {
+        return CURRENT.get();
+    }
+
+    static String shapeOf(String sql) {
+        String shape = STRING_LITERAL.matcher(sql).replaceAll("?");
+        shape = NUMBER_LITERAL.matcher(shape).replaceAll("?");
+        shape = IN_LIST.matcher(shape).replaceAll("in (?...)");
+        return WHITESPACE.matcher(shape).replaceAll(" ").trim();
+    }
+
+    public static final class Scope implements AutoCloseable {
+
+        private final Scope parent;
+        private final Map<String, Integer> shapes = new LinkedHashMap<>();
+        private int count;
+
+        private Scope(Scope parent) {
+            this.parent = parent;
+        }
+
+        private void record(String shape) {
+            count++;
+            shapes.merge(shape, 1, Integer::sum);
+        }
+
+        public int count() {
+            return count;
+        }
+
+        // Executions per query shape, in order of first execution
+        public Map<String, Integer> shapes() {
+            return Collections.unmodifiableMap(shapes);
+        }
+
+        // Executions of the most repeated shape; above 1 on a lookup shape is the N+1 signature
+        public int maxRepeats() {
+            return shapes.values().stream().mapToInt(Integer::intValue).max().orElse(0);
+        }
+
+        // The most executed shapes, most repeated first, as "<n>x <shape>" lines for logs and assertion messages
+        public String topShapes(int limit) {
+            return shapes.entrySet().stream()
+                    .sorted(Map.Entry.<String, Integer>comparingByValue(Comparator.reverseOrder()))
+                    .limit(limit)
+                    .map(entry -> entry.getValue() + "x " + entry.getKey())
+                    .collect(Collectors.joining(System.lineSeparator()));
+        }
+
+        @Override
+        public void close() {
+            if (CURRENT.get() == this) {
+                if (parent == null) {
+                    CURRENT.remove();
+                } else {
+                    CURRENT.set(parent);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.example.configuration;
+
+import com.example.service.SyntheticDataLoader;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+/**
+ * Loads synthetic data at startup under the synthetic profile, e.g.
+ * {@code java -jar app.jar --spring.profiles.active=synthetic --synthetic.employees=1000000 --synthetic.exit=true}.
+ * With synthetic.exit the application stops after the load, for use as a one-shot command; otherwise it keeps
+ * serving requests against the loaded data.
+ */
+@Component
+@Profile("synthetic")
+@RequiredArgsConstructor
+public class SyntheticDataRunner implements ApplicationRunner {
+
+    private final SyntheticDataLoader syntheticDataLoader;
+    private final ConfigurableApplicationContext applicationContext;
+
+    @Value("${synthetic.employees:10000}")
+    private long employees;
+
+    @Value("${synthetic.projects:100}")
+    private int projects;
+
+    @Value("${synthetic.seed:42}")
+    private long seed;
+
+    @Value("${synthetic.exit:false}")
+    private boolean exitAfterLoad;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        syntheticDataLoader.load(employees, projects, seed);
+        if (exitAfterLoad) {
+            System.exit(SpringApplication.exit(applicationContext, () -> 0));
+        }
+    }
+}
@@ -1,59 +1,130 @@
 package com.example.controller;
 
+import com.example.configuration.OutboundHttpPoolMetrics;
+import com.example.dto.AICacheStatsDto;
+import com.example.dto.AICircuitBreakerStatsDto;
+import com.example.dto.AILimiterStatsDto;
+import com.example.dto.EmployeeGenerationRequestDto;
+import com.example.dto.EmployeeIngestProgressDto;
 import com.example.dto.GenerateMoreRequestDto;
+import com.example.dto.GeneratedRecordsDto;
+import com.example.dto.HttpPoolStatsDto;
+import com.example.dto.SyntheticLoadRequestDto;
+import com.example.dto.SyntheticLoadResultDto;
 import com.example.dto.UserInputDto;
+import com.example.service.AICircuitBreaker;
+import com.example.service.AIRequestLimiter;
+import com.example.service.AIResponseCache;
+import com.example.service.AIRetryPolicy;
 import com.example.service.AIService;
+import com.example.service.EmployeeIngestService;
+import com.example.service.SyntheticDataLoader;
 import com.fasterxml.jackson.databind.JsonNode;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
+// Generation endpoints return Mono, so the servlet thread is released while the AI call is queued or in flight
 @RestController
 @RequestMapping("/api/ai")
 @RequiredArgsConstructor
 public class AIController {
 
     private final AIService aiService;
+    private final AIRequestLimiter aiRequestLimiter;
+    private final AIResponseCache aiResponseCache;
+    private final OutboundHttpPoolMetrics outboundHttpPoolMetrics;
+    private final AICircuitBreaker aiCircuitBreaker;
+    private final AIRetryPolicy aiRetryPolicy;
+    private final EmployeeIngestService employeeIngestService;
+    private final SyntheticDataLoader syntheticDataLoader;
 
     @PostMapping("/generate-data")
-    public List<String> generateData(@RequestBody UserInputDto requestDto) {
+    public Mono<GeneratedRecordsDto> generateData(@RequestBody UserInputDto requestDto) {
         if (requestDto == null) {
             throw new RuntimeException("User input cannot be null");
         }
 
-        Map<String, Object> result = aiService.generateTestData(requestDto);
+        // Each record is written to the response as a JSON string for consistency
+        return aiService.generateTestDataAsync(requestDto).map(AIController::toRecords);
+    }
 
-        // Extract the data field from the result and return it as a list of strings
-        JsonNode dataJson = (JsonNode) result.get("data");
-        List<String> dataList = new ArrayList<>();
+    // POST /api/ai/generate-data/stream: one SSE event (or NDJSON line with Accept: application/x-ndjson) per record
+    @PostMapping(value = "/generate-data/stream",
+            produces = {MediaType.TEXT_EVENT_STREAM_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public Flux<JsonNode> streamData(@RequestBody UserInputDto requestDto) {
+        if (requestDto == null) {
+            throw new RuntimeException("User input cannot be null");
+        }
 
-        if (dataJson != null && dataJson.isArray()) {
-            dataJson.forEach(item -> dataList.add(item.toString()));  // Convert each record to a string for consistency
+        return aiService.streamTestData(requestDto);
+    }
+
+    // POST /api/ai/generate-employees: generates employees and inserts them into EMPLOYEE_TBL as they arrive.
+    // Streams one progress event per committed batch and a final summary with done=true
+    @PostMapping(value = "/generate-employees",
+            produces = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.TEXT_EVENT_STREAM_VALUE})
+    public Flux<EmployeeIngestProgressDto> generateEmployees(@RequestBody EmployeeGenerationRequestDto requestDto) {
+        return employeeIngestService.generateAndIngest(requestDto);
+    }
+
+    // POST /api/ai/synthetic-data: same outcome as generate-employees without the provider, for large seeded loads.
+    // Writes employees, projects and skills through JDBC and answers with the counts once everything is committed
+    @PostMapping("/synthetic-data")
+    public Mono<SyntheticLoadResultDto> loadSyntheticData(@RequestBody SyntheticLoadRequestDto requestDto) {
+        if (requestDto == null) {
+            throw new RuntimeException("Request cannot be null");
         }
 
-        return dataList;
+        return Mono.fromCallable(() -> syntheticDataLoader.load(requestDto.getEmployeeCount(), requestDto.getProjectCount(), requestDto.getSeed()))
+                .subscribeOn(Schedulers.boundedElastic());
     }
 
     @PostMapping("/generate-more-data")
-    public List<String> generateMoreData(@RequestBody GenerateMoreRequestDto requestDto) {
+    public Mono<GeneratedRecordsDto> generateMoreData(@RequestBody GenerateMoreRequestDto requestDto) {
         if (requestDto == null) {
             throw new RuntimeException("Request cannot be null");
         }
 
-        Map<String, Object> result = aiService.generateMoreTestData(requestDto);
+        // Records are serialized as JSON strings to preserve their structure
+        return aiService.generateMoreTestDataAsync(requestDto).map(AIController::toRecords);
+    }
 
-        // Extract the data field from the result and return it as a list of strings
-        JsonNode dataJson = (JsonNode) result.get("data");
-        List<String> dataList = new ArrayList<>();
+    // GET /api/ai/limiter/stats
+    @GetMapping("/limiter/stats")
+    public AILimiterStatsDto getLimiterStats() {
+        return aiRequestLimiter.stats();
+    }
 
-        if (dataJson != null && dataJson.isArray()) {
-            dataJson.forEach(item -> dataList.add(item.toString()));  // Use toString() to preserve JSON structure
-        }
+    // GET /api/ai/cache/stats
+    @GetMapping("/cache/stats")
+    public AICacheStatsDto getCacheStats() {
+        return aiResponseCache.stats();
+    }
+
+    // GET /api/ai/circuit-breaker/stats
+    @GetMapping("/circuit-breaker/stats")
+    public AICircuitBreakerStatsDto getCircuitBreakerStats() {
+        AICircuitBreakerStatsDto stats = aiCircuitBreaker.stats();
+        stats.setRetryCount(aiRetryPolicy.retryCount());
+        return stats;
+    }
+
+    // GET /api/ai/http-pool/stats
+    @GetMapping("/http-pool/stats")
+    public List<HttpPoolStatsDto> getHttpPoolStats() {
+        return outboundHttpPoolMetrics.stats();
+    }
 
-        return dataList;
+    // Extract the data field from the result; it is only serialized when the response is written
+    private static GeneratedRecordsDto toRecords(Map<String, Object> result) {
+        return new GeneratedRecordsDto((JsonNode) result.get("data"));
     }
 
 }
@@ -0,0 +1,41 @@
+// src/main/java/com/example/controller/AdminController.java
+package com.example.controller;
+
+import com.example.configuration.SlowQueryLog;
+import com.example.dto.QueryShapeStatsDto;
+import com.example.exception.InvalidInputException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.Set;
+
+@RestController
+@RequestMapping("/api/admin")
+@RequiredArgsConstructor
+public class AdminController {
+
+    private static final Set<String> QUERY_ORDERS = Set.of("total", "mean", "max");
+
+    private final SlowQueryLog slowQueryLog;
+
+    // GET /api/admin/slow-queries?limit=10&orderBy=total
+    // Query shapes by total, mean or max milliseconds since startup or the last reset
+    @GetMapping("/slow-queries")
+    public ResponseEntity<List<QueryShapeStatsDto>> getSlowQueries(
+            @RequestParam(name = "limit", defaultValue = "10") int limit,
+            @RequestParam(name = "orderBy", defaultValue = "total") String orderBy) {
+        if (limit <= 0 || !QUERY_ORDERS.contains(orderBy)) {
+            throw new InvalidInputException("limit must be positive and orderBy one of " + QUERY_ORDERS);
+        }
+        return ResponseEntity.ok(slowQueryLog.topShapes(limit, orderBy));
+    }
+
+    // DELETE /api/admin/slow-queries
+    @DeleteMapping("/slow-queries")
+    public ResponseEntity<Void> resetSlowQueries() {
+        slowQueryLog.reset();
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -1,29 +1,59 @@
 // src/main/java/com/example/controller/EmployeeController.java
 package com.example.controller;
 
+import com.example.dto.BulkEmployeeResultDto;
+import com.example.dto.CursorPageDto;
 import com.example.dto.EmployeeDto;
+import com.example.service.EmployeeBulkService;
+import com.example.service.EmployeeExportService;
 import com.example.service.EmployeeService;
+import com.example.service.KeysetCursor;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 
+import java.io.IOException;
+import java.util.List;
+
 @RestController
 @RequestMapping("/api/employees")
 @RequiredArgsConstructor
 public class EmployeeController {
 
     private final EmployeeService employeeService;
+    private final EmployeeBulkService employeeBulkService;
+    private final EmployeeExportService employeeExportService;
 
-    // GET /api/employees?page=0&size=10&sort=name,asc
+    // GET /api/employees?page=0&size=10&sort=name,asc[&withTotal=false]
     @GetMapping("")
-    public ResponseEntity<Page<EmployeeDto>> getAllEmployees(Pageable pageable) {
-        Page<EmployeeDto> employees = employeeService.getAllEmployees(pageable);
+    public ResponseEntity<Slice<EmployeeDto>> getAllEmployees(Pageable pageable,
+                                                              @RequestParam(name = "withTotal", defaultValue = "true") boolean withTotal) {
+        Slice<EmployeeDto> employees = employeeService.getAllEmployees(pageable, withTotal);
+        return ResponseEntity.ok(employees);
+    }
+
+    // GET /api/employees/cursor?after=<cursor>&limit=20
+    @GetMapping("/cursor")
+    public ResponseEntity<CursorPageDto<EmployeeDto>> getEmployeesAfter(
+            @RequestParam(name = "after", required = false) String after,
+            @RequestParam(name = "limit", defaultValue = "" + KeysetCursor.DEFAULT_LIMIT) int limit) {
+        CursorPageDto<EmployeeDto> employees = employeeService.getEmployeesAfter(after, limit);
         return ResponseEntity.ok(employees);
     }
 
+    // GET /api/employees/export
+    // Streams every employee as one JSON object per line, without paging or a count query
+    @GetMapping("/export")
+    public void exportEmployees(HttpServletResponse response) throws IOException {
+        response.setContentType("application/x-ndjson");
+        response.setCharacterEncoding("UTF-8");
+        employeeExportService.exportEmployees(response.getOutputStream());
+    }
+
     // GET /api/employees/{id}
     @GetMapping("/{id}")
     public ResponseEntity<EmployeeDto> getEmployeeById(@PathVariable(name = "id") Long id) {
@@ -38,6 +68,14 @@ public class EmployeeController {
         return ResponseEntity.ok(createdEmployee);
     }
 
+    // POST /api/employees/bulk
+    // Records without employeeId are created, the rest are updated; each record gets its own result
+    @PostMapping("/bulk")
+    public ResponseEntity<List<BulkEmployeeResultDto>> bulkUpsertEmployees(@RequestBody List<EmployeeDto> employeeDtos) {
+        List<BulkEmployeeResultDto> results = employeeBulkService.upsertEmployees(employeeDtos);
+        return ResponseEntity.ok(results);
+    }
+
     // PUT /api/employees/{id}
     @PutMapping("/{id}")
     public ResponseEntity<EmployeeDto> updateEmployee(@PathVariable Long id, @Valid @RequestBody EmployeeDto employeeDto) {
@@ -0,0 +1,90 @@
+package com.example.controller;
+
+import com.example.dto.Message;
+import com.example.dto.OpenAIRequest;
+import com.example.service.SyntheticDataGenerator;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+// OpenAI-compatible chat completions answered by SyntheticDataGenerator, for running /api/ai without the provider.
+// Calls are numbered and call N always draws from the same random stream, so a sequential run is reproducible.
+@RestController
+@RequestMapping("/local-ai/v1")
+@ConditionalOnProperty(name = "ai.local-provider.enabled", havingValue = "true")
+public class LocalAIController {
+
+    private static final String DONE = "[DONE]";
+
+    private final SyntheticDataGenerator generator;
+    private final long seed;
+    private final AtomicLong calls = new AtomicLong();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    public LocalAIController(SyntheticDataGenerator generator, @Value("${ai.local-provider.seed:42}") long seed) {
+        this.generator = generator;
+        this.seed = seed;
+    }
+
+    // POST /local-ai/v1/chat/completions: the whole JSON array as choices[0].message.content
+    @PostMapping(value = "/chat/completions", produces = MediaType.APPLICATION_JSON_VALUE)
+    public JsonNode complete(@RequestBody OpenAIRequest request) {
+        ObjectNode response = objectMapper.createObjectNode()
+                .put("object", "chat.completion")
+                .put("model", request.getModel());
+        ObjectNode choice = response.putArray("choices").addObject().put("index", 0);
+        choice.putObject("message")
+                .put("role", "assistant")
+                .put("content", generate(request).toString());
+        choice.put("finish_reason", "stop");
+        return response;
+    }
+
+    // Same endpoint with stream=true: one delta event per record, then the [DONE] sentinel
+    @PostMapping(value = "/chat/completions", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<ServerSentEvent<String>> stream(@RequestBody OpenAIRequest request) {
+        ArrayNode records = generate(request);
+        List<String> deltas = new ArrayList<>();
+        deltas.add("[");
+        for (int i = 0; i < records.size(); i++) {
+            deltas.add((i == 0 ? "" : ",") + records.get(i).toString());
+        }
+        deltas.add("]");
+
+        return Flux.fromIterable(deltas)
+                .map(this::deltaEvent)
+                .concatWithValues(DONE)
+                .map(data -> ServerSentEvent.builder(data).build());
+    }
+
+    private ArrayNode generate(OpenAIRequest request) {
+        SplittableRandom random = SyntheticDataGenerator.random(seed, calls.getAndIncrement());
+        return generator.recordsForPrompt(lastUserMessage(request), random);
+    }
+
+    private static String lastUserMessage(OpenAIRequest request) {
+        List<Message> messages = request.getMessages();
+        return messages == null || messages.isEmpty() ? "" : messages.get(messages.size() - 1).getContent();
+    }
+
+    private String deltaEvent(String content) {
+        ObjectNode event = objectMapper.createObjectNode().put("object", "chat.completion.chunk");
+        event.putArray("choices").addObject().put("index", 0).putObject("delta").put("content", content);
+        return event.toString();
+    }
+}
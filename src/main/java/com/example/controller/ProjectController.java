@@ -1,11 +1,14 @@
 // src/main/java/com/example/controller/ProjectController.java
 package com.example.controller;
 
+import com.example.dto.CursorPageDto;
 import com.example.dto.ProjectDto;
+import com.example.service.KeysetCursor;
+import com.example.service.MissingIdPolicy;
 import com.example.service.ProjectService;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -24,11 +27,24 @@ public class ProjectController {
     private final ProjectService projectService;
     private static final Logger logger = LoggerFactory.getLogger(ProjectController.class);
 
+    // GET /api/projects?page=0&size=10[&withTotal=false]
     @GetMapping
-    public ResponseEntity<Page<ProjectDto>> getAllProjects(Pageable pageable) {
-        logger.debug("Fetching all projects with pageable: {}", pageable);
-        Page<ProjectDto> projects = projectService.getAllProjects(pageable);
-        logger.debug("Fetched {} projects", projects.getTotalElements());
+    public ResponseEntity<Slice<ProjectDto>> getAllProjects(Pageable pageable,
+                                                            @RequestParam(name = "withTotal", defaultValue = "true") boolean withTotal) {
+        logger.debug("Fetching all projects with pageable: {}, withTotal: {}", pageable, withTotal);
+        Slice<ProjectDto> projects = projectService.getAllProjects(pageable, withTotal);
+        logger.debug("Fetched {} projects", projects.getNumberOfElements());
+        return ResponseEntity.ok(projects);
+    }
+
+    // GET /api/projects/cursor?after=<cursor>&limit=20
+    @GetMapping("/cursor")
+    public ResponseEntity<CursorPageDto<ProjectDto>> getProjectsAfter(
+            @RequestParam(name = "after", required = false) String after,
+            @RequestParam(name = "limit", defaultValue = "" + KeysetCursor.DEFAULT_LIMIT) int limit) {
+        logger.debug("Fetching projects after cursor: {} with limit: {}", after, limit);
+        CursorPageDto<ProjectDto> projects = projectService.getProjectsAfter(after, limit);
+        logger.debug("Fetched {} projects, hasNext: {}", projects.getContent().size(), projects.isHasNext());
         return ResponseEntity.ok(projects);
     }
 
@@ -56,10 +72,12 @@ public class ProjectController {
         return ResponseEntity.ok(updatedProject);
     }
 
+    // PATCH /api/projects/{id}?missingEmployees=FAIL rejects unknown employee IDs instead of skipping them
     @PatchMapping("/{id}")
-    public ResponseEntity<ProjectDto> partialUpdateProject(@PathVariable Long id, @RequestBody ProjectDto projectDto) {
+    public ResponseEntity<ProjectDto> partialUpdateProject(@PathVariable Long id, @RequestBody ProjectDto projectDto,
+                                                           @RequestParam(name = "missingEmployees", defaultValue = "SKIP") MissingIdPolicy missingEmployees) {
         logger.debug("Partially updating project with ID: {} using data: {}", id, projectDto);
-        ProjectDto updatedProject = projectService.partialUpdateProject(id, projectDto);
+        ProjectDto updatedProject = projectService.partialUpdateProject(id, projectDto, missingEmployees);
         logger.debug("Partially updated project: {}", updatedProject);
         return ResponseEntity.ok(updatedProject);
     }
@@ -1,11 +1,14 @@
 // src/main/java/com/example/controller/SkillController.java
 package com.example.controller;
 
+import com.example.dto.CursorPageDto;
+import com.example.dto.SkillCacheStatsDto;
 import com.example.dto.SkillDto;
+import com.example.service.KeysetCursor;
 import com.example.service.SkillService;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -18,13 +21,36 @@ public class SkillController {
 
     private final SkillService skillService;
 
-    // GET /api/skills?page=0&size=10&sort=name,asc
+    // GET /api/skills?page=0&size=10&sort=name,asc[&withTotal=false]
     @GetMapping
-    public ResponseEntity<Page<SkillDto>> getAllSkills(Pageable pageable) {
-        Page<SkillDto> skills = skillService.getAllSkills(pageable);
+    public ResponseEntity<Slice<SkillDto>> getAllSkills(Pageable pageable,
+                                                        @RequestParam(name = "withTotal", defaultValue = "true") boolean withTotal) {
+        Slice<SkillDto> skills = skillService.getAllSkills(pageable, withTotal);
         return ResponseEntity.ok(skills);
     }
 
+    // GET /api/skills/cursor?after=<cursor>&limit=20
+    @GetMapping("/cursor")
+    public ResponseEntity<CursorPageDto<SkillDto>> getSkillsAfter(
+            @RequestParam(name = "after", required = false) String after,
+            @RequestParam(name = "limit", defaultValue = "" + KeysetCursor.DEFAULT_LIMIT) int limit) {
+        CursorPageDto<SkillDto> skills = skillService.getSkillsAfter(after, limit);
+        return ResponseEntity.ok(skills);
+    }
+
+    // GET /api/skills/by-name?name=Java
+    @GetMapping("/by-name")
+    public ResponseEntity<SkillDto> getSkillByName(@RequestParam(name = "name") String name) {
+        SkillDto skill = skillService.getSkillByName(name);
+        return ResponseEntity.ok(skill);
+    }
+
+    // GET /api/skills/cache/stats
+    @GetMapping("/cache/stats")
+    public ResponseEntity<SkillCacheStatsDto> getCacheStats() {
+        return ResponseEntity.ok(skillService.getCacheStats());
+    }
+
     // GET /api/skills/{id}
     @GetMapping("/{id}")
     public ResponseEntity<SkillDto> getSkillById(@PathVariable Long id) {
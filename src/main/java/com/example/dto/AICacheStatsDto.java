@@ -0,0 +1,18 @@
+// src/main/java/com/example/dto/AICacheStatsDto.java
+package com.example.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class AICacheStatsDto {
+    private boolean enabled;
+    private long hitCount;           // Includes requests that joined an identical in-flight call
+    private long missCount;          // Upstream calls actually made
+    private double hitRate;
+    private long savedLatencyMillis; // Sum of the original upstream latency of every hit
+    private long size;
+}
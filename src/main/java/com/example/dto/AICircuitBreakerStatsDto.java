@@ -0,0 +1,23 @@
+// src/main/java/com/example/dto/AICircuitBreakerStatsDto.java
+package com.example.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class AICircuitBreakerStatsDto {
+    private String state;                      // CLOSED, OPEN or HALF_OPEN
+    private int consecutiveFailures;
+    private long successCount;
+    private long failureCount;                 // Transient upstream failures only; a 400 is not the provider's fault
+    private long rejectedCount;                // Calls failed fast while open or while the half-open probe ran
+    private long retryCount;
+    private List<String> transitions;          // Most recent state changes, oldest first
+    private Map<String, Long> latencyHistogram; // Upstream call latency, bucket upper bound -> calls
+}
@@ -0,0 +1,19 @@
+// src/main/java/com/example/dto/AILimiterStatsDto.java
+package com.example.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class AILimiterStatsDto {
+    private int maxInFlight;
+    private int maxQueued;
+    private int inFlight;
+    private int queued;
+    private long started;   // Calls that got a slot, immediately or after queueing
+    private long enqueued;  // Calls that had to wait for a slot
+    private long rejected;  // Calls turned away because the queue was full
+}
@@ -0,0 +1,22 @@
+// src/main/java/com/example/dto/BulkEmployeeResultDto.java
+package com.example.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class BulkEmployeeResultDto {
+    private int index;          // Position of the record in the request body
+    private Long employeeId;    // Assigned or updated ID, null when the record failed
+    private Status status;
+    private String error;       // Populated only for FAILED records
+
+    public enum Status {
+        CREATED,
+        UPDATED,
+        FAILED
+    }
+}
@@ -0,0 +1,18 @@
+// src/main/java/com/example/dto/CursorPageDto.java
+package com.example.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class CursorPageDto<T> {
+    private List<T> content;
+    private int limit;
+    private boolean hasNext;
+    private String nextCursor;  // Pass back as ?after= for the following page; null on the last page
+}
@@ -0,0 +1,14 @@
+// src/main/java/com/example/dto/EmployeeGenerationRequestDto.java
+package com.example.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class EmployeeGenerationRequestDto {
+    private int recordCount;
+    private String description;  // Who the employees are, e.g. "a mid-sized software company"; optional
+}
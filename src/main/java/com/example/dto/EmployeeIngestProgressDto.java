@@ -0,0 +1,20 @@
+// src/main/java/com/example/dto/EmployeeIngestProgressDto.java
+package com.example.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class EmployeeIngestProgressDto {
+    private long generated;         // Records received from the model so far
+    private long inserted;          // Records written to EMPLOYEE_TBL so far
+    private long rejected;          // Records that failed validation or were rolled back
+    private long elapsedMillis;
+    private boolean done;           // Set on the final summary only
+    private List<String> errors;    // First few rejection reasons of the whole run
+}
@@ -0,0 +1,55 @@
+// src/main/java/com/example/dto/GeneratedRecordsDto.java
+package com.example.dto;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.JsonSerializable;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+
+import java.io.CharArrayWriter;
+import java.io.IOException;
+
+/**
+ * Response body of the generate endpoints: a JSON array holding each generated record as a JSON string.
+ * The records are written straight into the response generator, each serialized into one reused buffer,
+ * instead of being copied into a List of Strings first.
+ */
+public class GeneratedRecordsDto implements JsonSerializable {
+
+    private final JsonNode records;
+
+    public GeneratedRecordsDto(JsonNode records) {
+        this.records = records;
+    }
+
+    @Override
+    public void serialize(JsonGenerator generator, SerializerProvider serializers) throws IOException {
+        generator.writeStartArray();
+        if (records != null && records.isArray()) {
+            RecordBuffer buffer = new RecordBuffer();
+            try (JsonGenerator recordGenerator = generator.getCodec().getFactory().createGenerator(buffer)) {
+                recordGenerator.setRootValueSeparator(null);
+                for (JsonNode record : records) {
+                    buffer.reset();
+                    recordGenerator.writeTree(record);
+                    recordGenerator.flush();
+                    generator.writeString(buffer.chars(), 0, buffer.size());
+                }
+            }
+        }
+        generator.writeEndArray();
+    }
+
+    @Override
+    public void serializeWithType(JsonGenerator generator, SerializerProvider serializers, TypeSerializer typeSer) throws IOException {
+        serialize(generator, serializers);
+    }
+
+    // Exposes the backing array so a record can be written out without copying it into a String
+    private static final class RecordBuffer extends CharArrayWriter {
+        char[] chars() {
+            return buf;
+        }
+    }
+}
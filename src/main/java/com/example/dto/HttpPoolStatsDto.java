@@ -0,0 +1,19 @@
+// src/main/java/com/example/dto/HttpPoolStatsDto.java
+package com.example.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class HttpPoolStatsDto {
+    private String pool;            // Pool name and remote address; one pool per upstream host
+    private int acquired;           // Connections currently handling a request
+    private int idle;               // Kept-alive connections ready for reuse
+    private int allocated;
+    private int pendingAcquire;     // Requests waiting for a connection
+    private int maxAllocated;
+    private int maxPendingAcquire;
+}
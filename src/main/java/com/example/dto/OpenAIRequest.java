@@ -1,5 +1,6 @@
 package com.example.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -13,4 +14,11 @@ public class OpenAIRequest {
     private String model;
     private List<Message> messages;  // The list of messages in the chat request
     private int max_tokens;
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Boolean stream;  // true asks the provider for server-sent delta events; omitted for regular completions
+
+    public OpenAIRequest(String model, List<Message> messages, int max_tokens) {
+        this(model, messages, max_tokens, null);
+    }
 }
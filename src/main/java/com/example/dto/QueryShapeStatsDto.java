@@ -0,0 +1,18 @@
+// src/main/java/com/example/dto/QueryShapeStatsDto.java
+package com.example.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class QueryShapeStatsDto {
+    private String shape;               // SQL with literals replaced by ? and IN lists collapsed
+    private long executions;
+    private long totalMillis;
+    private double meanMillis;
+    private long maxMillis;
+    private long slowExecutions;        // Executions at or above sql.slow-query.threshold-ms
+}
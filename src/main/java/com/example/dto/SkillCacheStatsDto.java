@@ -0,0 +1,17 @@
+// src/main/java/com/example/dto/SkillCacheStatsDto.java
+package com.example.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class SkillCacheStatsDto {
+    private long hitCount;
+    private long missCount;
+    private double hitRate;
+    private long evictionCount;
+    private long size;  // Entries keyed by ID; the name index holds the same skills
+}
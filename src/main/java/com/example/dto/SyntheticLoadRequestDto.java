@@ -0,0 +1,15 @@
+// src/main/java/com/example/dto/SyntheticLoadRequestDto.java
+package com.example.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class SyntheticLoadRequestDto {
+    private long employeeCount;
+    private int projectCount;
+    private long seed;  // Same seed, same rows; only the generated IDs differ between runs
+}
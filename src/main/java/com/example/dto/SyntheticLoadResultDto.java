@@ -0,0 +1,21 @@
+// src/main/java/com/example/dto/SyntheticLoadResultDto.java
+package com.example.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class SyntheticLoadResultDto {
+    private long seed;
+    private long employees;
+    private long projects;
+    private long skillsAdded;           // Catalog skills that were not in SKILL_TBL yet
+    private long employeeSkillLinks;
+    private long employeeProjectLinks;
+    private long projectSkillLinks;
+    private long elapsedMillis;
+    private long employeesPerSecond;
+}
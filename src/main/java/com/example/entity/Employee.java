@@ -11,6 +11,14 @@ import java.util.Set;
 
 @Entity
 @Table(name = "EMPLOYEE_TBL")
+@NamedEntityGraph(
+        name = Employee.GRAPH_WITH_ASSOCIATIONS,
+        attributeNodes = {
+                @NamedAttributeNode("skills"),
+                @NamedAttributeNode(value = "projects", subgraph = "projectSkills")
+        },
+        subgraphs = @NamedSubgraph(name = "projectSkills", attributeNodes = @NamedAttributeNode("skills"))
+)
 @Getter
 @Setter
 @NoArgsConstructor
@@ -19,8 +27,13 @@ import java.util.Set;
 @EqualsAndHashCode(onlyExplicitlyIncluded = true)
 public class Employee {
 
+    // Loads everything EmployeeMapper.toDto walks: skills, projects and each project's skills
+    public static final String GRAPH_WITH_ASSOCIATIONS = "Employee.withAssociations";
+
+    // Pooled sequence so Hibernate can batch inserts; IDENTITY forces one INSERT per row
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "employeeSeq")
+    @SequenceGenerator(name = "employeeSeq", sequenceName = "EMPLOYEE_SEQ", initialValue = 1000, allocationSize = 50)
     @Column(name = "EMPLOYEE_ID")
     @EqualsAndHashCode.Include
     private Long employeeId;
@@ -4,20 +4,27 @@ package com.example.entity;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import jakarta.persistence.*;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.ToString;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.util.HashSet;
 import java.util.Set;
 
 @Entity
 @Table(name = "PROJECT_TBL")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE) // Region settings in ehcache.xml
 @Data
 @ToString(exclude = {"employees", "skills"})
+@EqualsAndHashCode(onlyExplicitlyIncluded = true) // Hashing the lazy collections would load them one project at a time
 public class Project {
 
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     @Column(name = "PROJECT_ID")
+    @EqualsAndHashCode.Include
     private Long projectId;
 
     @Column(name = "PROJECT_NAME", nullable = false, length = 255)
@@ -42,5 +49,6 @@ public class Project {
             inverseJoinColumns = @JoinColumn(name = "SKILL_ID")
     )
     @JsonIgnoreProperties({"projects", "employees"})
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
     private Set<Skill> skills = new HashSet<>();
 }
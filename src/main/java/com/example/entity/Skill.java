@@ -4,18 +4,24 @@ package com.example.entity;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.util.HashSet;
 import java.util.Set;
 
 @Entity
 @Table(name = "SKILL_TBL")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE) // Region settings in ehcache.xml
 @Getter
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
 @ToString(exclude = {"employees", "projects"})
 @EqualsAndHashCode(onlyExplicitlyIncluded = true)
+@BatchSize(size = 50) // References handed out by SkillCatalogCache initialize together in one IN query
 public class Skill {
 
     @Id
@@ -32,7 +38,8 @@ public class Skill {
     @JsonIgnoreProperties({"skills", "projects"})
     private Set<Employee> employees = new HashSet<>();
 
-    // Many-to-Many with Project
+    // Many-to-Many with Project. Not cached: Hibernate only invalidates a collection cache from the owning
+    // side (Project.skills), so a cached copy here would go stale whenever a project's skills change
     @ManyToMany(mappedBy = "skills")
     @JsonIgnoreProperties({"skills", "employees"})
     private Set<Project> projects = new HashSet<>();
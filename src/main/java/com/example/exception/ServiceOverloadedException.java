@@ -0,0 +1,19 @@
+package com.example.exception;
+
+import lombok.Getter;
+
+@Getter
+public class ServiceOverloadedException extends RuntimeException {
+    private static final long DEFAULT_RETRY_AFTER_SECONDS = 5;
+
+    private final long retryAfterSeconds;
+
+    public ServiceOverloadedException(String message) {
+        this(message, DEFAULT_RETRY_AFTER_SECONDS);
+    }
+
+    public ServiceOverloadedException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
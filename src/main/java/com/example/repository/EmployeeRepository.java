@@ -1,9 +1,45 @@
 package com.example.repository;
 
 import com.example.entity.Employee;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
 @Repository
 public interface EmployeeRepository extends JpaRepository<Employee, Long> {
+
+    String EXPORT_FETCH_SIZE = "500";
+
+    // Phase one of a paged read: only the IDs are paginated, so LIMIT/OFFSET applies to employee rows.
+    // Returned as a Slice, so no COUNT(*) is issued; totals come from TotalCountCache
+    @Query("SELECT e.employeeId FROM Employee e")
+    Slice<Long> findEmployeeIds(Pageable pageable);
+
+    // Keyset page of IDs: WHERE id > :after ORDER BY id, limited by the pageable without a count query
+    @Query("SELECT e.employeeId FROM Employee e WHERE e.employeeId > :after ORDER BY e.employeeId")
+    List<Long> findEmployeeIdsAfter(@Param("after") Long after, Pageable pageable);
+
+    // Phase two: load the page's employees together with their skills and projects in one round trip
+    @EntityGraph(value = Employee.GRAPH_WITH_ASSOCIATIONS, type = EntityGraph.EntityGraphType.LOAD)
+    @Query("SELECT DISTINCT e FROM Employee e WHERE e.employeeId IN :ids")
+    List<Employee> findWithAssociationsByIdIn(@Param("ids") Collection<Long> ids);
+
+    // Forward-only cursor over every employee; must be consumed inside a transaction and closed
+    @QueryHints({
+            @QueryHint(name = AvailableHints.HINT_FETCH_SIZE, value = EXPORT_FETCH_SIZE),
+            @QueryHint(name = AvailableHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT e FROM Employee e ORDER BY e.employeeId")
+    Stream<Employee> streamAllForExport();
 }
@@ -2,13 +2,32 @@
 package com.example.repository;
 
 import com.example.entity.Project;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
 
 @Repository
 public interface ProjectRepository extends JpaRepository<Project, Long> {
-    // Find all projects by employee ID (many-to-many)
+    String PROJECTS_BY_EMPLOYEE_REGION = "query.projectsByEmployee";
+
+    // Find all projects by employee ID (many-to-many); result IDs are kept in the query cache
+    @QueryHints({
+            @QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = AvailableHints.HINT_CACHE_REGION, value = PROJECTS_BY_EMPLOYEE_REGION)
+    })
     List<Project> findByEmployeesEmployeeId(Long employeeId);
+
+    // Offset page without the COUNT(*) that findAll(Pageable) issues
+    @Query("SELECT p FROM Project p")
+    Slice<Project> findProjectSlice(Pageable pageable);
+
+    // Keyset page: WHERE PROJECT_ID > ? ORDER BY PROJECT_ID, limited by the pageable without a count query
+    List<Project> findByProjectIdGreaterThanOrderByProjectIdAsc(Long projectId, Pageable pageable);
 }
@@ -2,11 +2,23 @@
 package com.example.repository;
 
 import com.example.entity.Skill;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface SkillRepository extends JpaRepository<Skill, Long> {
+    // Offset page without the COUNT(*) that findAll(Pageable) issues
+    @Query("SELECT s FROM Skill s")
+    Slice<Skill> findSkillSlice(Pageable pageable);
+
+    // Keyset page: WHERE SKILL_ID > ? ORDER BY SKILL_ID, limited by the pageable without a count query
+    List<Skill> findBySkillIdGreaterThanOrderBySkillIdAsc(Long skillId, Pageable pageable);
+
+    Optional<Skill> findByName(String name);
 }
@@ -0,0 +1,205 @@
+// src/main/java/com/example/service/AICircuitBreaker.java
+package com.example.service;
+
+import com.example.dto.AICircuitBreakerStatsDto;
+import com.example.exception.ServiceOverloadedException;
+import lombok.extern.slf4j.Slf4j;
+import org.reactivestreams.Publisher;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Stops calling the AI provider after a run of consecutive transient failures. While open, calls fail fast
+ * with {@link ServiceOverloadedException}; once the open period has passed a single probe call is let through
+ * (half-open) and its outcome decides whether the circuit closes again or stays open for another period.
+ */
+@Component
+@Slf4j
+public class AICircuitBreaker {
+
+    public enum State { CLOSED, OPEN, HALF_OPEN }
+
+    private enum Permit { CALL, PROBE, REJECTED }
+
+    private static final long[] LATENCY_BUCKETS_MILLIS = {100, 250, 500, 1_000, 2_500, 5_000, 10_000, 30_000, 60_000};
+    private static final int TRANSITION_HISTORY = 20;
+
+    private final int failureThreshold;
+    private final long openMillis;
+    private final LongSupplier clock;
+
+    private final Object lock = new Object();
+    private final Deque<String> transitions = new ArrayDeque<>();
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private long openedAt;
+    private boolean probeInFlight;
+
+    private final AtomicLong successes = new AtomicLong();
+    private final AtomicLong failures = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+    private final AtomicLongArray latencyBuckets = new AtomicLongArray(LATENCY_BUCKETS_MILLIS.length + 1);
+
+    @Autowired
+    public AICircuitBreaker(@Value("${ai.circuit-breaker.failure-threshold:5}") int failureThreshold,
+                            @Value("${ai.circuit-breaker.open-ms:30000}") long openMillis) {
+        this(failureThreshold, openMillis, System::currentTimeMillis);
+    }
+
+    AICircuitBreaker(int failureThreshold, long openMillis, LongSupplier clock) {
+        if (failureThreshold <= 0 || openMillis <= 0) {
+            throw new IllegalArgumentException("ai.circuit-breaker.failure-threshold and open-ms must be positive.");
+        }
+        this.failureThreshold = failureThreshold;
+        this.openMillis = openMillis;
+        this.clock = clock;
+    }
+
+    // For callers that construct AIService by hand, e.g. tests
+    public static AICircuitBreaker disabled() {
+        return new AICircuitBreaker(Integer.MAX_VALUE, Long.MAX_VALUE);
+    }
+
+    public <T> Mono<T> protect(Supplier<Mono<T>> call) {
+        return protectMany(() -> call.get().flux()).singleOrEmpty();
+    }
+
+    // The permit is taken when the call is subscribed, so a retry asks the breaker again
+    public <T> Flux<T> protectMany(Supplier<? extends Publisher<T>> call) {
+        return Flux.defer(() -> {
+            Permit permit = acquire();
+            if (permit == Permit.REJECTED) {
+                rejected.incrementAndGet();
+                long retryAfterSeconds = Math.max(1, TimeUnit.MILLISECONDS.toSeconds(remainingOpenMillis()));
+                return Flux.error(new ServiceOverloadedException(
+                        "AI provider is failing, calls are paused. Try again later.", retryAfterSeconds));
+            }
+            long start = System.nanoTime();
+            AtomicBoolean recorded = new AtomicBoolean();
+            return Flux.from(call.get())
+                    .doOnComplete(() -> {
+                        if (recorded.compareAndSet(false, true)) {
+                            onResult(permit, start, true);
+                        }
+                    })
+                    .doOnError(e -> {
+                        if (recorded.compareAndSet(false, true)) {
+                            onResult(permit, start, !AIRetryPolicy.isTransient(e));
+                        }
+                    })
+                    .doOnCancel(() -> {
+                        if (recorded.compareAndSet(false, true) && permit == Permit.PROBE) {
+                            synchronized (lock) {
+                                probeInFlight = false;  // Let the next call probe instead
+                            }
+                        }
+                    });
+        });
+    }
+
+    private Permit acquire() {
+        synchronized (lock) {
+            switch (state) {
+                case CLOSED:
+                    return Permit.CALL;
+                case OPEN:
+                    if (remainingOpenMillis() > 0) {
+                        return Permit.REJECTED;
+                    }
+                    transition(State.HALF_OPEN, "open period elapsed");
+                    probeInFlight = true;
+                    return Permit.PROBE;
+                default:
+                    if (probeInFlight) {
+                        return Permit.REJECTED;
+                    }
+                    probeInFlight = true;
+                    return Permit.PROBE;
+            }
+        }
+    }
+
+    private void onResult(Permit permit, long startNanos, boolean healthy) {
+        recordLatency(System.nanoTime() - startNanos);
+        (healthy ? successes : failures).incrementAndGet();
+        synchronized (lock) {
+            if (permit == Permit.PROBE) {
+                probeInFlight = false;
+                if (healthy) {
+                    consecutiveFailures = 0;
+                    transition(State.CLOSED, "probe succeeded");
+                } else {
+                    openedAt = clock.getAsLong();
+                    transition(State.OPEN, "probe failed");
+                }
+            } else if (state == State.CLOSED) {
+                consecutiveFailures = healthy ? 0 : consecutiveFailures + 1;
+                if (consecutiveFailures >= failureThreshold) {
+                    openedAt = clock.getAsLong();
+                    transition(State.OPEN, consecutiveFailures + " consecutive failures");
+                }
+            }
+        }
+    }
+
+    // Caller holds the lock
+    private void transition(State next, String reason) {
+        String entry = Instant.ofEpochMilli(clock.getAsLong()) + " " + state + " -> " + next + " (" + reason + ")";
+        log.warn("AI circuit breaker {}", entry);
+        state = next;
+        transitions.addLast(entry);
+        if (transitions.size() > TRANSITION_HISTORY) {
+            transitions.removeFirst();
+        }
+    }
+
+    private long remainingOpenMillis() {
+        synchronized (lock) {
+            return state == State.OPEN ? Math.max(0, openedAt + openMillis - clock.getAsLong()) : 0;
+        }
+    }
+
+    private void recordLatency(long nanos) {
+        long millis = TimeUnit.NANOSECONDS.toMillis(nanos);
+        int bucket = 0;
+        while (bucket < LATENCY_BUCKETS_MILLIS.length && millis > LATENCY_BUCKETS_MILLIS[bucket]) {
+            bucket++;
+        }
+        latencyBuckets.incrementAndGet(bucket);
+    }
+
+    public State state() {
+        synchronized (lock) {
+            return state;
+        }
+    }
+
+    public AICircuitBreakerStatsDto stats() {
+        Map<String, Long> histogram = new LinkedHashMap<>();
+        for (int i = 0; i < LATENCY_BUCKETS_MILLIS.length; i++) {
+            histogram.put("<=" + LATENCY_BUCKETS_MILLIS[i] + "ms", latencyBuckets.get(i));
+        }
+        histogram.put(">" + LATENCY_BUCKETS_MILLIS[LATENCY_BUCKETS_MILLIS.length - 1] + "ms",
+                latencyBuckets.get(LATENCY_BUCKETS_MILLIS.length));
+        synchronized (lock) {
+            return new AICircuitBreakerStatsDto(state.name(), consecutiveFailures, successes.get(), failures.get(),
+                    rejected.get(), 0, new ArrayList<>(transitions), histogram);
+        }
+    }
+}
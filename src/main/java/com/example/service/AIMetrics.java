@@ -0,0 +1,122 @@
+// src/main/java/com/example/service/AIMetrics.java
+package com.example.service;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+
+import java.io.IOException;
+
+/**
+ * Meters for AIService, which the @Timed service aspect cannot cover: its methods return Mono/Flux, so the
+ * time that matters starts at subscription and ends at the terminal signal. Records end-to-end generation time
+ * per operation, latency of each upstream call (inside the limiter and circuit breaker, so queueing is
+ * excluded), and the token usage the provider reports. Tags are fixed small sets: operation and outcome.
+ */
+@Component
+public class AIMetrics {
+
+    private static final String GENERATION = "ai.generation";
+    private static final String UPSTREAM = "ai.upstream.requests";
+    private static final String TOKENS = "ai.tokens";
+
+    private final MeterRegistry registry;
+    private final Counter promptTokens;
+    private final Counter completionTokens;
+    private final JsonFactory jsonFactory = new JsonFactory();
+
+    public AIMetrics(MeterRegistry registry) {
+        this.registry = registry;
+        this.promptTokens = Counter.builder(TOKENS).tag("type", "prompt")
+                .description("Prompt tokens billed by the AI provider").register(registry);
+        this.completionTokens = Counter.builder(TOKENS).tag("type", "completion")
+                .description("Completion tokens billed by the AI provider").register(registry);
+    }
+
+    // For callers that construct AIService by hand, e.g. tests
+    public static AIMetrics noop() {
+        return new AIMetrics(new SimpleMeterRegistry());
+    }
+
+    public <T> Mono<T> timeGeneration(String operation, Mono<T> call) {
+        return Mono.defer(() -> {
+            Timer.Sample sample = Timer.start(registry);
+            return call.doFinally(signal -> stop(sample, GENERATION, operation, signal));
+        });
+    }
+
+    public <T> Flux<T> timeGeneration(String operation, Flux<T> call) {
+        return Flux.defer(() -> {
+            Timer.Sample sample = Timer.start(registry);
+            return call.doFinally(signal -> stop(sample, GENERATION, operation, signal));
+        });
+    }
+
+    public <T> Mono<T> timeUpstream(String operation, Mono<T> call) {
+        return Mono.defer(() -> {
+            Timer.Sample sample = Timer.start(registry);
+            return call.doFinally(signal -> stop(sample, UPSTREAM, operation, signal));
+        });
+    }
+
+    public <T> Flux<T> timeUpstream(String operation, Flux<T> call) {
+        return Flux.defer(() -> {
+            Timer.Sample sample = Timer.start(registry);
+            return call.doFinally(signal -> stop(sample, UPSTREAM, operation, signal));
+        });
+    }
+
+    // Adds the top-level usage.prompt_tokens and usage.completion_tokens of a completion; other fields are skipped
+    // without being materialized, and a response without usage records nothing
+    public void recordUsage(String rawResponse) {
+        if (rawResponse == null || rawResponse.isEmpty()) {
+            return;
+        }
+        try (JsonParser parser = jsonFactory.createParser(rawResponse)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return;
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                parser.nextToken();
+                if ("usage".equals(field) && parser.currentToken() == JsonToken.START_OBJECT) {
+                    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                        String name = parser.currentName();
+                        parser.nextToken();
+                        if ("prompt_tokens".equals(name)) {
+                            promptTokens.increment(parser.getValueAsLong());
+                        } else if ("completion_tokens".equals(name)) {
+                            completionTokens.increment(parser.getValueAsLong());
+                        } else {
+                            parser.skipChildren();
+                        }
+                    }
+                    return;
+                }
+                parser.skipChildren();
+            }
+        } catch (IOException e) {
+            // Malformed responses are reported by processResponse; usage is best effort
+        }
+    }
+
+    private void stop(Timer.Sample sample, String name, String operation, SignalType signal) {
+        String outcome = switch (signal) {
+            case ON_COMPLETE -> "success";
+            case CANCEL -> "cancelled";
+            default -> "error";
+        };
+        sample.stop(Timer.builder(name)
+                .tag("operation", operation)
+                .tag("outcome", outcome)
+                .register(registry));
+    }
+}
@@ -0,0 +1,122 @@
+// src/main/java/com/example/service/AIRequestLimiter.java
+package com.example.service;
+
+import com.example.dto.AILimiterStatsDto;
+import com.example.exception.ServiceOverloadedException;
+import org.reactivestreams.Publisher;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.context.Context;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * Caps the number of outbound AI calls in flight. Calls beyond the cap wait in a bounded FIFO queue
+ * without holding any thread, and calls beyond the queue fail fast with {@link ServiceOverloadedException}
+ * so slow LLM responses cannot pile up and exhaust the server.
+ */
+@Component
+public class AIRequestLimiter {
+
+    private final int maxInFlight;
+    private final int maxQueued;
+
+    private final Object lock = new Object();
+    private final Deque<Runnable> waiting = new ArrayDeque<>();
+    private int inFlight;
+
+    private final AtomicLong started = new AtomicLong();
+    private final AtomicLong enqueued = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+
+    public AIRequestLimiter(@Value("${ai.concurrency.max-in-flight:4}") int maxInFlight,
+                            @Value("${ai.concurrency.max-queued:16}") int maxQueued) {
+        if (maxInFlight <= 0 || maxQueued < 0) {
+            throw new IllegalArgumentException("ai.concurrency.max-in-flight must be positive and max-queued non-negative.");
+        }
+        this.maxInFlight = maxInFlight;
+        this.maxQueued = maxQueued;
+    }
+
+    public <T> Mono<T> submit(Supplier<Mono<T>> call) {
+        return submitMany(() -> call.get().flux()).singleOrEmpty();
+    }
+
+    // The call is only assembled once a slot is free and keeps the slot until it terminates, so a streaming
+    // response holds it for the whole stream. Cancelling a queued call just removes it from the queue.
+    public <T> Flux<T> submitMany(Supplier<? extends Publisher<T>> call) {
+        return Flux.create(sink -> {
+            AtomicBoolean cancelled = new AtomicBoolean();
+            AtomicReference<Disposable> running = new AtomicReference<>();
+            Runnable start = () -> {
+                if (cancelled.get()) {
+                    release();
+                    return;
+                }
+                started.incrementAndGet();
+                running.set(Flux.defer(call)
+                        .doFinally(signal -> release())
+                        .subscribe(sink::next, sink::error, sink::complete, Context.of(sink.contextView())));
+            };
+            sink.onCancel(() -> {
+                cancelled.set(true);
+                synchronized (lock) {
+                    waiting.remove(start);
+                }
+                Disposable inner = running.get();
+                if (inner != null) {
+                    inner.dispose();
+                }
+            });
+
+            boolean runNow = false;
+            boolean reject = false;
+            synchronized (lock) {
+                if (inFlight < maxInFlight) {
+                    inFlight++;
+                    runNow = true;
+                } else if (waiting.size() < maxQueued) {
+                    waiting.addLast(start);
+                    enqueued.incrementAndGet();
+                } else {
+                    rejected.incrementAndGet();
+                    reject = true;
+                }
+            }
+            if (runNow) {
+                start.run();
+            } else if (reject) {
+                sink.error(new ServiceOverloadedException("AI service is busy, try again later."));
+            }
+        });
+    }
+
+    // Hands the slot straight to the next waiter so a queued call cannot be overtaken by a new one
+    private void release() {
+        Runnable next;
+        synchronized (lock) {
+            next = waiting.pollFirst();
+            if (next == null) {
+                inFlight--;
+            }
+        }
+        if (next != null) {
+            next.run();
+        }
+    }
+
+    public AILimiterStatsDto stats() {
+        synchronized (lock) {
+            return new AILimiterStatsDto(maxInFlight, maxQueued, inFlight, waiting.size(),
+                    started.get(), enqueued.get(), rejected.get());
+        }
+    }
+}
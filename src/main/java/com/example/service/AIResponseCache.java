@@ -0,0 +1,175 @@
+// src/main/java/com/example/service/AIResponseCache.java
+package com.example.service;
+
+import com.example.dto.AICacheStatsDto;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Caches parsed AI completions keyed by model, chunk and whitespace-normalized prompt. Concurrent requests
+ * for the same key share one upstream call, and failed calls are never cached. Entries expire a fixed time
+ * after the upstream call that produced them, even across restarts when a persistence file is configured.
+ */
+@Component
+@Slf4j
+public class AIResponseCache {
+
+    record CachedCompletion(JsonNode data, long createdAtMillis, long latencyNanos) {
+    }
+
+    record PersistedEntry(String key, CachedCompletion completion) {
+    }
+
+    private final boolean enabled;
+    private final long ttlMillis;
+    private final Path persistenceFile;
+    private final AsyncCache<String, CachedCompletion> cache;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final AtomicLong savedLatencyNanos = new AtomicLong();
+
+    public AIResponseCache(@Value("${ai.cache.enabled:true}") boolean enabled,
+                           @Value("${ai.cache.maximum-size:500}") long maximumSize,
+                           @Value("${ai.cache.ttl-minutes:60}") long ttlMinutes,
+                           @Value("${ai.cache.persistence-file:}") String persistenceFile) {
+        this.enabled = enabled;
+        this.ttlMillis = TimeUnit.MINUTES.toMillis(ttlMinutes);
+        this.persistenceFile = persistenceFile == null || persistenceFile.isBlank() ? null : Path.of(persistenceFile);
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new Expiry<String, CachedCompletion>() {
+                    @Override
+                    public long expireAfterCreate(String key, CachedCompletion value, long currentTime) {
+                        return remainingNanos(value);
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, CachedCompletion value, long currentTime, long currentDuration) {
+                        return remainingNanos(value);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, CachedCompletion value, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats()
+                .buildAsync();
+    }
+
+    // For callers that construct AIService by hand, e.g. tests
+    public static AIResponseCache disabled() {
+        return new AIResponseCache(false, 0, 0, "");
+    }
+
+    static String key(String model, int chunk, String prompt) {
+        return model + "|" + chunk + "|" + prompt.trim().replaceAll("\\s+", " ");
+    }
+
+    /**
+     * Returns the cached data for the key or subscribes to the loader, sharing that single subscription with
+     * every concurrent caller of the same key. A caller that cancels does not cancel the shared call.
+     */
+    public Mono<JsonNode> get(String key, Supplier<Mono<JsonNode>> loader) {
+        if (!enabled) {
+            return loader.get();
+        }
+        return Mono.defer(() -> {
+            AtomicBoolean loaded = new AtomicBoolean();
+            CompletableFuture<CachedCompletion> future = cache.get(key, (k, executor) -> {
+                loaded.set(true);
+                long start = System.nanoTime();
+                return loader.get()
+                        .map(data -> new CachedCompletion(data, System.currentTimeMillis(), System.nanoTime() - start))
+                        .toFuture();
+            });
+            return Mono.fromFuture(future, true)
+                    .doOnNext(completion -> {
+                        if (!loaded.get()) {
+                            savedLatencyNanos.addAndGet(completion.latencyNanos());
+                        }
+                    })
+                    .map(CachedCompletion::data);
+        });
+    }
+
+    public AICacheStatsDto stats() {
+        CacheStats stats = cache.synchronous().stats();
+        return new AICacheStatsDto(enabled, stats.hitCount(), stats.missCount(), stats.hitRate(),
+                TimeUnit.NANOSECONDS.toMillis(savedLatencyNanos.get()), cache.synchronous().estimatedSize());
+    }
+
+    @PostConstruct
+    void load() {
+        if (!enabled || persistenceFile == null || !Files.exists(persistenceFile)) {
+            return;
+        }
+        try {
+            PersistedEntry[] entries = objectMapper.readValue(persistenceFile.toFile(), PersistedEntry[].class);
+            int restored = 0;
+            for (PersistedEntry entry : entries) {
+                if (remainingNanos(entry.completion()) > 0) {
+                    cache.synchronous().put(entry.key(), entry.completion());
+                    restored++;
+                }
+            }
+            log.info("Restored {} AI responses from {}", restored, persistenceFile);
+        } catch (IOException e) {
+            log.warn("Could not read AI response cache from {}: {}", persistenceFile, e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    void persist() {
+        if (!enabled || persistenceFile == null) {
+            return;
+        }
+        List<PersistedEntry> entries = new ArrayList<>();
+        for (Map.Entry<String, CachedCompletion> entry : cache.synchronous().asMap().entrySet()) {
+            entries.add(new PersistedEntry(entry.getKey(), entry.getValue()));
+        }
+        try {
+            Path parent = persistenceFile.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            // Write then move, so a crash mid-write never leaves a truncated file behind
+            Path temporary = Files.createTempFile(parent, "ai-cache", ".json");
+            objectMapper.writeValue(temporary.toFile(), entries);
+            Files.move(temporary, persistenceFile, StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.ATOMIC_MOVE);
+            log.info("Persisted {} AI responses to {}", entries.size(), persistenceFile);
+        } catch (IOException e) {
+            log.warn("Could not write AI response cache to {}: {}", persistenceFile, e.getMessage());
+        }
+    }
+
+    private long remainingNanos(CachedCompletion completion) {
+        long remainingMillis = completion.createdAtMillis() + ttlMillis - System.currentTimeMillis();
+        return Math.max(0, Duration.ofMillis(remainingMillis).toNanos());
+    }
+}
@@ -0,0 +1,114 @@
+// src/main/java/com/example/service/AIRetryPolicy.java
+package com.example.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Retries transient upstream failures (429, 5xx, connection errors and timeouts) with jittered exponential
+ * backoff. A Retry-After header from the provider replaces the computed delay; if it asks for longer than
+ * the maximum backoff the call fails instead of holding the client for that long.
+ */
+@Component
+@Slf4j
+public class AIRetryPolicy {
+
+    private final int maxRetries;
+    private final long initialBackoffMillis;
+    private final long maxBackoffMillis;
+
+    private final AtomicLong retries = new AtomicLong();
+
+    public AIRetryPolicy(@Value("${ai.retry.max-retries:3}") int maxRetries,
+                         @Value("${ai.retry.initial-backoff-ms:500}") long initialBackoffMillis,
+                         @Value("${ai.retry.max-backoff-ms:10000}") long maxBackoffMillis) {
+        if (maxRetries < 0 || initialBackoffMillis <= 0 || maxBackoffMillis < initialBackoffMillis) {
+            throw new IllegalArgumentException("ai.retry.* must satisfy max-retries >= 0 and 0 < initial-backoff-ms <= max-backoff-ms.");
+        }
+        this.maxRetries = maxRetries;
+        this.initialBackoffMillis = initialBackoffMillis;
+        this.maxBackoffMillis = maxBackoffMillis;
+    }
+
+    // For callers that construct AIService by hand, e.g. tests
+    public static AIRetryPolicy disabled() {
+        return new AIRetryPolicy(0, 1, 1);
+    }
+
+    /**
+     * Whether the failure says the provider is unhealthy or throttling, rather than that the request was wrong.
+     * The circuit breaker counts the same failures.
+     */
+    public static boolean isTransient(Throwable failure) {
+        if (failure instanceof WebClientResponseException response) {
+            return response.getStatusCode().value() == 429 || response.getStatusCode().is5xxServerError();
+        }
+        return failure instanceof WebClientRequestException || failure instanceof TimeoutException;
+    }
+
+    public Retry retrySpec() {
+        return Retry.from(signals -> signals.concatMap(signal -> {
+            Throwable failure = signal.failure();
+            long attempt = signal.totalRetries();
+            if (!isTransient(failure) || attempt >= maxRetries) {
+                return Mono.error(failure);
+            }
+            Optional<Duration> retryAfter = retryAfter(failure);
+            if (retryAfter.isPresent() && retryAfter.get().toMillis() > maxBackoffMillis) {
+                return Mono.error(failure);
+            }
+            Duration delay = retryAfter.orElseGet(() -> backoff(attempt));
+            retries.incrementAndGet();
+            log.warn("AI call failed ({}), retry {} of {} in {} ms", failure.getMessage(), attempt + 1, maxRetries, delay.toMillis());
+            return Mono.delay(delay).thenReturn(attempt);
+        }));
+    }
+
+    // Equal jitter: half of the exponential step is fixed, half random, so concurrent retries spread out
+    Duration backoff(long attempt) {
+        long exponential = Math.min(maxBackoffMillis, initialBackoffMillis << Math.min(attempt, 20));
+        long half = exponential / 2;
+        return Duration.ofMillis(half + ThreadLocalRandom.current().nextLong(exponential - half + 1));
+    }
+
+    // Retry-After is either delay-seconds or an HTTP date
+    static Optional<Duration> retryAfter(Throwable failure) {
+        if (!(failure instanceof WebClientResponseException response)) {
+            return Optional.empty();
+        }
+        String value = response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER);
+        if (value == null || value.isBlank()) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(Duration.ofSeconds(Math.max(0, Long.parseLong(value.trim()))));
+        } catch (NumberFormatException e) {
+            try {
+                Duration untilDate = Duration.between(ZonedDateTime.now(),
+                        ZonedDateTime.parse(value.trim(), DateTimeFormatter.RFC_1123_DATE_TIME));
+                return Optional.of(untilDate.isNegative() ? Duration.ZERO : untilDate);
+            } catch (DateTimeParseException ignored) {
+                return Optional.empty();
+            }
+        }
+    }
+
+    public long retryCount() {
+        return retries.get();
+    }
+}
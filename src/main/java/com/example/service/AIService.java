@@ -4,7 +4,10 @@ import com.example.dto.GenerateMoreRequestDto;
 import com.example.dto.Message;
 import com.example.dto.OpenAIRequest;
 import com.example.dto.UserInputDto;
+import com.example.exception.ServiceOverloadedException;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ArrayNode;
@@ -14,14 +17,28 @@ import lombok.extern.slf4j.Slf4j;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.IntFunction;
 
 @Service
 @RequiredArgsConstructor
@@ -32,46 +49,254 @@ public class AIService {
     @Value("${openai.api.key:}")
     private String openAiApiKey;
 
+    @Setter
+    @Value("${openai.api.base-url:https://api.openai.com}")
+    private String openAiBaseUrl = "https://api.openai.com";
+
+    // Completion budget per call; large recordCounts are split so each chunk's output fits in it
+    @Setter
+    @Value("${ai.generation.max-tokens:3000}")
+    private int maxTokens = 3000;
+
+    @Setter
+    @Value("${ai.generation.tokens-per-property:10}")
+    private int tokensPerProperty = 10;
+
+    @Setter
+    @Value("${ai.generation.max-parallel-chunks:4}")
+    private int maxParallelChunks = 4;
+
+    // Deadline for one upstream attempt, including a streamed body; the client's response timeout only
+    // bounds the silence between reads, so a provider trickling bytes could otherwise hold a limiter slot forever
+    @Setter
+    @Value("${ai.http.call-timeout-ms:90000}")
+    private long callTimeoutMs = 90000;
+
     private final WebClient webClient;
+    private final AIRequestLimiter aiRequestLimiter;
+    private final AIResponseCache aiResponseCache;
+    private final AIRetryPolicy aiRetryPolicy;
+    private final AICircuitBreaker aiCircuitBreaker;
+    private final AIMetrics aiMetrics;
     private final ObjectMapper objectMapper = new ObjectMapper();
 
     private static final Logger logger = LoggerFactory.getLogger(AIService.class);
 
+    private static final int TOKENS_PER_RECORD_OVERHEAD = 5;   // Braces, separators and whitespace
+    private static final double OUTPUT_BUDGET_SHARE = 0.8;     // Headroom for the model's own padding
+    private static final int DEFAULT_PROPERTY_COUNT = 5;       // When generate-more does not list properties
+    private static final String MODEL = "gpt-4o-mini";
+    private static final int EMPLOYEE_PROPERTY_COUNT = 4;
+
+    private static final String FENCE = "```";
+    private static final int MAX_CONTENT_EXCERPT = 500;         // Characters of bad content quoted in errors
+    private static final String STREAM_DONE = "[DONE]";
+    private static final ParameterizedTypeReference<ServerSentEvent<String>> SERVER_SENT_EVENTS =
+            new ParameterizedTypeReference<>() {
+            };
+
+    private OpenAIRequest buildStreamingOpenAIRequest(String prompt) {
+        OpenAIRequest request = buildOpenAIRequest(prompt);
+        request.setStream(true);
+        return request;
+    }
+
     private OpenAIRequest buildOpenAIRequest(String prompt) {
         Message userMessage = new Message("user", prompt);
         return new OpenAIRequest(
-                "gpt-4o-mini",
+                MODEL,
                 List.of(userMessage),
-                3000
+                maxTokens
         );
     }
 
+    // Blocking variant for callers outside the request path; controllers use generateTestDataAsync
     public Map<String, Object> generateTestData(UserInputDto userInput) {
+        return generateTestDataAsync(userInput).block();
+    }
+
+    public Mono<Map<String, Object>> generateTestDataAsync(UserInputDto userInput) {
         if (userInput == null) {
             throw new IllegalArgumentException("User input cannot be null");
         }
+        int propertyCount = userInput.getPropertyCount();
+        return aiMetrics.timeGeneration("generate-data", generateInChunks(userInput.getRecordCount(), propertyCount,
+                count -> generateCombinedPrompt(userInput.getTopic(), propertyCount, count)));
+    }
+
+    // Splits recordCount into chunks that fit the token budget and runs up to maxParallelChunks of them at once.
+    // Failed chunks are logged and skipped; the request only fails if every chunk failed.
+    private Mono<Map<String, Object>> generateInChunks(int recordCount, int propertyCount, IntFunction<String> promptForCount) {
+        Queue<Throwable> failures = new ConcurrentLinkedQueue<>();
+
+        return completeChunks(recordCount, propertyCount, promptForCount, failures)
+                .collectList()
+                .flatMap(arrays -> arrays.isEmpty() && !failures.isEmpty()
+                        ? Mono.error(failures.peek())
+                        : Mono.just(mergeChunks(arrays, failures.size())));
+    }
+
+    // Emits each chunk's record array as soon as it completes, adding failed chunks to failures instead.
+    // New chunks are only started as emitted arrays are consumed, so a slow subscriber throttles generation.
+    private Flux<JsonNode> completeChunks(int recordCount, int propertyCount, IntFunction<String> promptForCount,
+                                          Queue<Throwable> failures) {
+        List<Integer> chunks = chunkSizes(recordCount, recordsPerChunk(propertyCount));
+        return Flux.range(0, chunks.size())
+                .flatMap(chunk -> complete(promptForCount.apply(chunks.get(chunk)), chunk)
+                        .onErrorResume(e -> {
+                            log.warn("Chunk of {} records failed: {}", chunks.get(chunk), e.getMessage());
+                            failures.add(e);
+                            return Mono.empty();
+                        }), maxParallelChunks);
+    }
 
+    // Employee-shaped records (name, dateOfBirth, jobRole, gender), one array per completed chunk.
+    // Errors only if every chunk failed.
+    public Flux<JsonNode> generateEmployeeRecords(int recordCount, String description) {
+        return aiMetrics.timeGeneration("generate-employees", Flux.defer(() -> {
+            Queue<Throwable> failures = new ConcurrentLinkedQueue<>();
+            AtomicBoolean emitted = new AtomicBoolean();
+            return completeChunks(recordCount, EMPLOYEE_PROPERTY_COUNT,
+                    count -> generateEmployeePrompt(description, count), failures)
+                    .doOnNext(records -> emitted.set(true))
+                    .concatWith(Flux.defer(() -> !emitted.get() && !failures.isEmpty()
+                            ? Flux.error(failures.peek())
+                            : Flux.empty()));
+        }));
+    }
+
+    private String generateEmployeePrompt(String description, int recordCount) {
+        return String.format(
+                "Generate exactly %d realistic employee records for %s. " +
+                        "Respond with a JSON array only, with no additional text or explanations. " +
+                        "Each record must have exactly these properties: " +
+                        "\"name\" (first and last name), " +
+                        "\"dateOfBirth\" (YYYY-MM-DD, for an age between 18 and 70), " +
+                        "\"jobRole\" and " +
+                        "\"gender\". " +
+                        "Use diverse names, roles and ages.",
+                recordCount, description);
+    }
+
+    int recordsPerChunk(int propertyCount) {
+        int tokensPerRecord = TOKENS_PER_RECORD_OVERHEAD + Math.max(propertyCount, 1) * tokensPerProperty;
+        return Math.max(1, (int) (maxTokens * OUTPUT_BUDGET_SHARE) / tokensPerRecord);
+    }
+
+    static List<Integer> chunkSizes(int recordCount, int recordsPerChunk) {
+        List<Integer> chunks = new ArrayList<>();
+        for (int remaining = recordCount; remaining > 0; remaining -= recordsPerChunk) {
+            chunks.add(Math.min(remaining, recordsPerChunk));
+        }
+        return chunks;
+    }
+
+    // Concatenates the chunk arrays in completion order, dropping records that are identical to an earlier one
+    private Map<String, Object> mergeChunks(List<JsonNode> arrays, int failedChunks) {
+        ArrayNode merged = objectMapper.createArrayNode();
+        Set<JsonNode> seen = new HashSet<>();
+        for (JsonNode array : arrays) {
+            for (JsonNode record : array) {
+                if (seen.add(record)) {
+                    merged.add(record);
+                }
+            }
+        }
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("data", merged);
+        if (failedChunks > 0) {
+            result.put("failedChunks", failedChunks);
+        }
+        return result;
+    }
+
+    // Sends the prompt through the concurrency limiter; no thread waits while the request is queued or in flight.
+    // The chunk index is part of the cache key: equal-sized chunks share a prompt but must not share an answer.
+    // Each retry queues for a fresh slot, so backoff delays never hold one; each attempt is timed on its own.
+    private Mono<JsonNode> complete(String prompt, int chunk) {
+        return aiResponseCache.get(AIResponseCache.key(MODEL, chunk, prompt), () -> aiRequestLimiter.submit(() -> aiCircuitBreaker.protect(() -> aiMetrics.timeUpstream("completion", webClient.post()
+                                .uri(openAiBaseUrl + "/v1/chat/completions")
+                                .header("Authorization", "Bearer " + openAiApiKey)
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .accept(MediaType.APPLICATION_JSON)
+                                .bodyValue(buildOpenAIRequest(prompt))
+                                .retrieve()
+                                .bodyToMono(String.class)
+                                .timeout(Duration.ofMillis(callTimeoutMs)))
+                                .doOnNext(aiMetrics::recordUsage)))
+                        .retryWhen(aiRetryPolicy.retrySpec())
+                        .defaultIfEmpty("")
+                        .map(rawResponse -> (JsonNode) processResponse(rawResponse).get("data")))
+                .onErrorMap(e -> !(e instanceof ServiceOverloadedException), AIService::toGenerationException);
+    }
+
+    // Same chunking as generateTestDataAsync, but every record is emitted as soon as its closing brace streams in.
+    // Duplicates across chunks are dropped on the fly; the stream only errors if no chunk produced anything.
+    public Flux<JsonNode> streamTestData(UserInputDto userInput) {
+        if (userInput == null) {
+            throw new IllegalArgumentException("User input cannot be null");
+        }
+        int propertyCount = userInput.getPropertyCount();
+        List<Integer> chunks = chunkSizes(userInput.getRecordCount(), recordsPerChunk(propertyCount));
+
+        return aiMetrics.timeGeneration("stream-data", Flux.defer(() -> {
+            Set<JsonNode> seen = ConcurrentHashMap.newKeySet();
+            Queue<Throwable> failures = new ConcurrentLinkedQueue<>();
+            return Flux.fromIterable(chunks)
+                    .flatMap(count -> streamCompletion(generateCombinedPrompt(userInput.getTopic(), propertyCount, count))
+                            .onErrorResume(e -> {
+                                log.warn("Streamed chunk of {} records failed: {}", count, e.getMessage());
+                                failures.add(e);
+                                return Flux.empty();
+                            }), maxParallelChunks)
+                    .filter(seen::add)
+                    .concatWith(Flux.defer(() -> seen.isEmpty() && !failures.isEmpty()
+                            ? Flux.error(failures.peek())
+                            : Flux.empty()));
+        }));
+    }
+
+    // Streaming completion: the provider sends server-sent events whose deltas concatenate to the JSON array.
+    // Not retried, since records may already have reached the client; the circuit breaker still applies.
+    private Flux<JsonNode> streamCompletion(String prompt) {
+        return aiRequestLimiter.submitMany(() -> aiCircuitBreaker.protectMany(() -> {
+                    JsonArrayStreamParser parser = new JsonArrayStreamParser(objectMapper);
+                    // One deadline for the whole stream: every event is timed against the same delay
+                    Mono<Long> deadline = Mono.delay(Duration.ofMillis(callTimeoutMs)).cache();
+                    return aiMetrics.timeUpstream("stream", webClient.post()
+                            .uri(openAiBaseUrl + "/v1/chat/completions")
+                            .header("Authorization", "Bearer " + openAiApiKey)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .accept(MediaType.TEXT_EVENT_STREAM)
+                            .bodyValue(buildStreamingOpenAIRequest(prompt))
+                            .retrieve()
+                            .bodyToFlux(SERVER_SENT_EVENTS)
+                            .timeout(deadline, event -> deadline))
+                            .mapNotNull(ServerSentEvent::data)
+                            .takeWhile(data -> !STREAM_DONE.equals(data))
+                            .mapNotNull(this::extractDeltaContent)
+                            .concatMapIterable(parser::feed);
+                }))
+                .onErrorMap(e -> !(e instanceof ServiceOverloadedException), AIService::toGenerationException);
+    }
+
+    // choices[0].delta.content of one streamed chunk; null for role-only and final events
+    private String extractDeltaContent(String event) {
         try {
-            String combinedPrompt = generateCombinedPrompt(userInput.getTopic(), userInput.getPropertyCount(), userInput.getRecordCount());
-            String rawResponse = webClient.post()
-                    .uri("https://api.openai.com/v1/chat/completions")
-                    .header("Authorization", "Bearer " + openAiApiKey)
-                    .contentType(MediaType.APPLICATION_JSON)
-                    .bodyValue(buildOpenAIRequest(combinedPrompt))
-                    .retrieve()
-                    .bodyToMono(String.class)
-                    .block();
-
-            log.debug("Raw response: {}", rawResponse);
-            return processResponse(rawResponse);
-
-        } catch (WebClientResponseException e) {
-            log.error("Error from OpenAI: {}", e.getResponseBodyAsString());
-            throw new RuntimeException("Failed to generate data from OpenAI API", e);
-        } catch (Exception e) {
-            log.error("Unexpected error: {}", e.getMessage(), e);
-            throw new RuntimeException("Unexpected error occurred while generating data", e);
+            JsonNode content = objectMapper.readTree(event).path("choices").path(0).path("delta").path("content");
+            return content.isTextual() ? content.asText() : null;
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Malformed stream event from AI service: " + event, e);
+        }
+    }
+
+    private static RuntimeException toGenerationException(Throwable e) {
+        if (e instanceof WebClientResponseException responseException) {
+            log.error("Error from OpenAI: {}", responseException.getResponseBodyAsString());
+            return new RuntimeException("Failed to generate data from OpenAI API", e);
         }
+        log.error("Unexpected error: {}", e.getMessage(), e);
+        return new RuntimeException("Unexpected error occurred while generating data", e);
     }
 
     private String generateCombinedPrompt(String userTopic, int propertyCount, int recordCount) {
@@ -98,35 +323,22 @@ public class AIService {
         );
     }
 
+    // Blocking variant for callers outside the request path; controllers use generateMoreTestDataAsync
     public Map<String, Object> generateMoreTestData(GenerateMoreRequestDto requestDto) {
+        return generateMoreTestDataAsync(requestDto).block();
+    }
+
+    public Mono<Map<String, Object>> generateMoreTestDataAsync(GenerateMoreRequestDto requestDto) {
         if (requestDto == null) {
             throw new IllegalArgumentException("Request data cannot be null");
         }
         if (requestDto.getTopic() == null || requestDto.getTopic().isEmpty()) {
             throw new IllegalArgumentException("Topic cannot be null or empty");
         }
-
-        try {
-            String prompt = generateMoreDataPrompt(requestDto);
-            String rawResponse = webClient.post()
-                    .uri("https://api.openai.com/v1/chat/completions")
-                    .header("Authorization", "Bearer " + openAiApiKey)
-                    .contentType(MediaType.APPLICATION_JSON)
-                    .bodyValue(buildOpenAIRequest(prompt))
-                    .retrieve()
-                    .bodyToMono(String.class)
-                    .block();
-
-            log.debug("Raw response: {}", rawResponse);
-            return processResponse(rawResponse);
-
-        } catch (WebClientResponseException e) {
-            log.error("Error from OpenAI: {}", e.getResponseBodyAsString());
-            throw new RuntimeException("Failed to generate data from OpenAI API", e);
-        } catch (Exception e) {
-            log.error("Unexpected error: {}", e.getMessage(), e);
-            throw new RuntimeException("Unexpected error occurred while generating data", e);
-        }
+        List<String> properties = requestDto.getProperties();
+        int propertyCount = properties == null || properties.isEmpty() ? DEFAULT_PROPERTY_COUNT : properties.size();
+        return aiMetrics.timeGeneration("generate-more-data", generateInChunks(requestDto.getRecordCount(), propertyCount,
+                count -> generateMoreDataPrompt(new GenerateMoreRequestDto(requestDto.getTopic(), count, properties))));
     }
 
     private String generateMoreDataPrompt(GenerateMoreRequestDto requestDto) {
@@ -150,58 +362,20 @@ public class AIService {
         return promptBuilder.toString();
     }
 
+    // Walks the provider envelope with a streaming parser down to choices[0].message.content and parses the content
+    // straight from the parser's character buffer, so neither the envelope tree nor the content String is built
     Map<String, Object> processResponse(String rawResponse) {
         Map<String, Object> result = new LinkedHashMap<>();
 
-        logger.debug("Raw AI Response: {}", rawResponse);
-
         if (rawResponse == null || rawResponse.isEmpty()) {
             throw new RuntimeException("Empty response from AI service");
         }
+        logger.trace("Processing AI response of {} chars", rawResponse.length());
 
-        try {
-            // Parse the raw response as JSON
-            JsonNode root = objectMapper.readTree(rawResponse);
-
-            // Extract the content from choices[0].message.content
-            JsonNode choicesNode = root.get("choices");
-            if (choicesNode != null && choicesNode.isArray() && !choicesNode.isEmpty()) {
-                JsonNode messageNode = choicesNode.get(0).get("message");
-                if (messageNode == null) {
-                    throw new RuntimeException("Message node is missing in choices[0]");
-                }
-
-                String content = messageNode.get("content").asText();
-
-                // Log the extracted content
-                logger.debug("Extracted content: {}", content);
-
-                // Remove markdown code block indicators (```json and ```)
-                String cleanedContent = content.replaceAll("```json", "").replaceAll("```", "").trim();
-                logger.debug("Cleaned content: {}", cleanedContent);
-
-                // Attempt to parse the cleaned content as JSON
-                try {
-                    JsonNode dataArray = objectMapper.readTree(cleanedContent);
-
-                    // Make sure the content is an array
-                    if (dataArray.isArray()) {
-                        result.put("data", dataArray);
-                    } else {
-                        logger.warn("Expected JSON array but got something else, wrapping in array for safety.");
-                        // If not an array, wrap it in an array to keep consistent format
-                        ArrayNode arrayNode = objectMapper.createArrayNode();
-                        arrayNode.add(dataArray);
-                        result.put("data", arrayNode);
-                    }
-                } catch (JsonProcessingException e) {
-                    logger.error("Failed to parse cleaned content as JSON: {}", cleanedContent, e);
-                    throw new RuntimeException("Malformed JSON in cleaned content. Cleaned content: " + cleanedContent, e);
-                }
-            } else {
-                throw new RuntimeException("Choices array is missing or empty");
-            }
-
+        try (JsonParser parser = objectMapper.getFactory().createParser(rawResponse)) {
+            moveToFirstChoice(parser);
+            moveToMessageContent(parser);
+            result.put("data", parseContent(parser.getTextCharacters(), parser.getTextOffset(), parser.getTextLength()));
         } catch (JsonProcessingException e) {
             logger.error("Failed to parse raw response as JSON: {}", rawResponse, e);
             throw new RuntimeException("Malformed JSON received from AI service. Raw response: " + rawResponse, e);
@@ -216,5 +390,106 @@ public class AIService {
         return result;
     }
 
+    // Leaves the parser on the START_OBJECT of choices[0]
+    private static void moveToFirstChoice(JsonParser parser) throws IOException {
+        if (parser.nextToken() == JsonToken.START_OBJECT) {
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                if ("choices".equals(field) && value == JsonToken.START_ARRAY) {
+                    JsonToken first = parser.nextToken();
+                    if (first == JsonToken.START_OBJECT) {
+                        return;
+                    }
+                    if (first != JsonToken.END_ARRAY) {
+                        throw new RuntimeException("Message node is missing in choices[0]");
+                    }
+                    break;
+                }
+                parser.skipChildren();
+            }
+        }
+        throw new RuntimeException("Choices array is missing or empty");
+    }
+
+    // Leaves the parser on the VALUE_STRING of message.content
+    private static void moveToMessageContent(JsonParser parser) throws IOException {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            if ("message".equals(field) && value == JsonToken.START_OBJECT) {
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    String messageField = parser.currentName();
+                    JsonToken messageValue = parser.nextToken();
+                    if ("content".equals(messageField) && messageValue == JsonToken.VALUE_STRING) {
+                        return;
+                    }
+                    parser.skipChildren();
+                }
+                throw new RuntimeException("Message content is missing in choices[0]");
+            }
+            parser.skipChildren();
+        }
+        throw new RuntimeException("Message node is missing in choices[0]");
+    }
+
+    // Parses content[offset, offset + length) after trimming it and dropping a surrounding ```json ... ``` fence
+    private JsonNode parseContent(char[] content, int offset, int length) {
+        int start = offset;
+        int end = offset + length;
+        while (start < end && Character.isWhitespace(content[start])) {
+            start++;
+        }
+        while (end > start && Character.isWhitespace(content[end - 1])) {
+            end--;
+        }
+        if (startsWithFence(content, start, end)) {
+            start += FENCE.length();
+            while (start < end && Character.isLetter(content[start])) {
+                start++;  // Language tag, e.g. json
+            }
+        }
+        if (end - start >= FENCE.length() && startsWithFence(content, end - FENCE.length(), end)) {
+            end -= FENCE.length();
+        }
+
+        try (JsonParser contentParser = objectMapper.getFactory().createParser(content, start, end - start)) {
+            JsonNode data = objectMapper.readTree(contentParser);
+            if (data == null || data.isMissingNode()) {
+                throw new RuntimeException("Malformed JSON in cleaned content, no JSON value found. Cleaned content: "
+                        + excerpt(content, start, end));
+            }
+            if (data.isArray()) {
+                return data;
+            }
+            logger.warn("Expected JSON array but got something else, wrapping in array for safety.");
+            // If not an array, wrap it in an array to keep consistent format
+            return objectMapper.createArrayNode().add(data);
+        } catch (IOException e) {
+            String cleanedContent = excerpt(content, start, end);
+            logger.error("Failed to parse cleaned content as JSON: {}", cleanedContent, e);
+            throw new RuntimeException("Malformed JSON in cleaned content. Cleaned content: " + cleanedContent, e);
+        }
+    }
+
+    // Content can be megabytes; errors quote its start only
+    private static String excerpt(char[] content, int start, int end) {
+        int length = Math.min(end - start, MAX_CONTENT_EXCERPT);
+        String excerpt = new String(content, start, length);
+        return length < end - start ? excerpt + "... (" + (end - start) + " chars)" : excerpt;
+    }
+
+    private static boolean startsWithFence(char[] content, int start, int end) {
+        if (end - start < FENCE.length()) {
+            return false;
+        }
+        for (int i = 0; i < FENCE.length(); i++) {
+            if (content[start + i] != FENCE.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
 }
 
@@ -0,0 +1,69 @@
+// src/main/java/com/example/service/BatchLookup.java
+package com.example.service;
+
+import com.example.exception.ResourceNotFoundException;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Association lookups by ID shared by the services: one loader call (an IN query or the skill catalog) for a
+ * whole set of IDs, and every ID that was not found reported at once in a {@link ResourceNotFoundException},
+ * e.g. "Skill not found with ID: 7" or "Skills not found with IDs: [7, 9]". Null IDs are ignored.
+ */
+final class BatchLookup {
+
+    private BatchLookup() {
+    }
+
+    // Loads the rows for all IDs in one call and fails on any that do not exist
+    static <T> Set<T> findAll(Function<Set<Long>, List<T>> loader, Set<Long> ids, Function<T, Long> idExtractor,
+                              String entityName) {
+        return pick(loadAll(loader, ids, idExtractor), ids, entityName);
+    }
+
+    // Rows by ID, for callers that load the IDs of many records at once and pick per record
+    static <T> Map<Long, T> loadAll(Function<Set<Long>, List<T>> loader, Set<Long> ids, Function<T, Long> idExtractor) {
+        Set<Long> present = ids == null ? Set.of() : ids.stream().filter(Objects::nonNull).collect(Collectors.toSet());
+        if (present.isEmpty()) {
+            return Map.of();
+        }
+        return loader.apply(present).stream()
+                .collect(Collectors.toMap(idExtractor, Function.identity(), (first, duplicate) -> first));
+    }
+
+    // The loaded rows for ids, failing on any that were not loaded
+    static <T> Set<T> pick(Map<Long, T> loaded, Set<Long> ids, String entityName) {
+        Set<Long> missingIds = missingIds(loaded, ids);
+        if (!missingIds.isEmpty()) {
+            throw notFound(entityName, missingIds);
+        }
+        Set<T> picked = new HashSet<>();
+        if (ids != null) {
+            ids.stream().filter(Objects::nonNull).map(loaded::get).forEach(picked::add);
+        }
+        return picked;
+    }
+
+    // Requested IDs without a loaded row, in ascending order
+    static Set<Long> missingIds(Map<Long, ?> loaded, Set<Long> ids) {
+        Set<Long> missingIds = new TreeSet<>();
+        if (ids != null) {
+            ids.stream().filter(id -> id != null && !loaded.containsKey(id)).forEach(missingIds::add);
+        }
+        return missingIds;
+    }
+
+    static ResourceNotFoundException notFound(String entityName, Set<Long> missingIds) {
+        if (missingIds.size() == 1) {
+            return new ResourceNotFoundException(entityName + " not found with ID: " + missingIds.iterator().next());
+        }
+        return new ResourceNotFoundException(entityName + "s not found with IDs: " + missingIds);
+    }
+}
@@ -0,0 +1,180 @@
+// src/main/java/com/example/service/EmployeeBulkService.java
+package com.example.service;
+
+import com.example.dto.BulkEmployeeResultDto;
+import com.example.dto.BulkEmployeeResultDto.Status;
+import com.example.dto.EmployeeDto;
+import com.example.entity.Employee;
+import com.example.entity.Project;
+import com.example.entity.Skill;
+import com.example.exception.InvalidInputException;
+import com.example.exception.ResourceNotFoundException;
+import com.example.mapper.EmployeeMapper;
+import com.example.repository.EmployeeRepository;
+import com.example.repository.ProjectRepository;
+import jakarta.persistence.EntityManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Creates and updates employees in bulk. Records are written in chunks: each chunk runs in its own
+ * transaction, resolves its project and employee IDs with one query per type and its skill IDs through
+ * the skill catalog cache, and is flushed as JDBC batches and then cleared so the persistence context
+ * never holds more than one chunk.
+ */
+@Service
+public class EmployeeBulkService {
+
+    private static final Logger logger = LoggerFactory.getLogger(EmployeeBulkService.class);
+
+    private final EmployeeRepository employeeRepository;
+    private final ProjectRepository projectRepository;
+    private final SkillCatalogCache skillCatalogCache;
+    private final EmployeeService employeeService;
+    private final EmployeeMapper employeeMapper;
+    private final TotalCountCache totalCountCache;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+
+    public EmployeeBulkService(EmployeeRepository employeeRepository,
+                               ProjectRepository projectRepository,
+                               SkillCatalogCache skillCatalogCache,
+                               EmployeeService employeeService,
+                               EmployeeMapper employeeMapper,
+                               TotalCountCache totalCountCache,
+                               EntityManager entityManager,
+                               PlatformTransactionManager transactionManager,
+                               @Value("${employee.bulk.chunk-size:500}") int chunkSize) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("employee.bulk.chunk-size must be positive.");
+        }
+        this.employeeRepository = employeeRepository;
+        this.projectRepository = projectRepository;
+        this.skillCatalogCache = skillCatalogCache;
+        this.employeeService = employeeService;
+        this.employeeMapper = employeeMapper;
+        this.totalCountCache = totalCountCache;
+        this.entityManager = entityManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+    }
+
+    // Records without an employeeId are created, records with one update the existing employee
+    public List<BulkEmployeeResultDto> upsertEmployees(List<EmployeeDto> employeeDtos) {
+        if (employeeDtos == null || employeeDtos.isEmpty()) {
+            throw new InvalidInputException("At least one employee is required.");
+        }
+
+        List<BulkEmployeeResultDto> results = new ArrayList<>(employeeDtos.size());
+        for (int from = 0; from < employeeDtos.size(); from += chunkSize) {
+            int to = Math.min(from + chunkSize, employeeDtos.size());
+            results.addAll(processChunk(employeeDtos, from, to));
+        }
+        // Created rows change the employee total; the next page request recounts instead of serving the cached one
+        totalCountCache.invalidate(EmployeeService.TOTAL_COUNT_KEY);
+        return results;
+    }
+
+    private List<BulkEmployeeResultDto> processChunk(List<EmployeeDto> employeeDtos, int from, int to) {
+        try {
+            return transactionTemplate.execute(status -> writeChunk(employeeDtos, from, to));
+        } catch (RuntimeException e) {
+            // A failed flush rolls back the whole chunk, so none of its records were written
+            logger.warn("Bulk chunk [{}, {}) rolled back: {}", from, to, e.getMessage());
+            List<BulkEmployeeResultDto> failed = new ArrayList<>(to - from);
+            for (int index = from; index < to; index++) {
+                failed.add(new BulkEmployeeResultDto(index, null, Status.FAILED, "Chunk rolled back: " + e.getMessage()));
+            }
+            return failed;
+        }
+    }
+
+    private List<BulkEmployeeResultDto> writeChunk(List<EmployeeDto> employeeDtos, int from, int to) {
+        List<EmployeeDto> chunk = employeeDtos.subList(from, to);
+        Map<Long, Skill> skillsById = BatchLookup.loadAll(skillCatalogCache::getReferences,
+                collectIds(chunk, EmployeeDto::getSkillIds), Skill::getSkillId);
+        Map<Long, Project> projectsById = BatchLookup.loadAll(projectRepository::findAllById,
+                collectIds(chunk, EmployeeDto::getProjectIds), Project::getProjectId);
+        Map<Long, Employee> existingById = BatchLookup.loadAll(employeeRepository::findAllById,
+                chunk.stream().filter(Objects::nonNull).map(EmployeeDto::getEmployeeId).filter(Objects::nonNull)
+                        .collect(Collectors.toSet()),
+                Employee::getEmployeeId);
+
+        List<BulkEmployeeResultDto> results = new ArrayList<>(chunk.size());
+        List<Employee> written = new ArrayList<>(chunk.size());
+        List<BulkEmployeeResultDto> writtenResults = new ArrayList<>(chunk.size());
+
+        for (int i = 0; i < chunk.size(); i++) {
+            EmployeeDto dto = chunk.get(i);
+            BulkEmployeeResultDto result = new BulkEmployeeResultDto(from + i, null, null, null);
+            results.add(result);
+            try {
+                // Everything that can reject the record is checked before any managed entity is touched
+                if (dto == null) {
+                    throw new InvalidInputException("Employee record is required.");
+                }
+                employeeService.validateEmployeeInput(dto);
+                Set<Skill> skills = BatchLookup.pick(skillsById, dto.getSkillIds(), "Skill");
+                Set<Project> projects = BatchLookup.pick(projectsById, dto.getProjectIds(), "Project");
+
+                Employee employee;
+                if (dto.getEmployeeId() == null) {
+                    employee = employeeMapper.toEntity(dto);
+                    result.setStatus(Status.CREATED);
+                } else {
+                    employee = existingById.get(dto.getEmployeeId());
+                    if (employee == null) {
+                        throw new ResourceNotFoundException("Employee not found with ID: " + dto.getEmployeeId());
+                    }
+                    employeeMapper.updateFromDto(dto, employee);
+                    result.setStatus(Status.UPDATED);
+                }
+                employee.setSkills(skills);
+                employee.setProjects(projects);
+                employee.setAge(employeeService.calculateAge(employee.getDateOfBirth()));
+                employee.setEmail(employeeService.generateEmail(employee.getName()));
+
+                if (result.getStatus() == Status.CREATED) {
+                    entityManager.persist(employee);
+                }
+                written.add(employee);
+                writtenResults.add(result);
+            } catch (InvalidInputException | ResourceNotFoundException e) {
+                result.setStatus(Status.FAILED);
+                result.setError(e.getMessage());
+            }
+        }
+
+        entityManager.flush();
+        for (int i = 0; i < written.size(); i++) {
+            writtenResults.get(i).setEmployeeId(written.get(i).getEmployeeId());
+        }
+        entityManager.clear();
+
+        logger.debug("Bulk chunk [{}, {}) wrote {} of {} employees", from, to, written.size(), chunk.size());
+        return results;
+    }
+
+    private static Set<Long> collectIds(List<EmployeeDto> chunk, Function<EmployeeDto, Set<Long>> idsExtractor) {
+        return chunk.stream()
+                .filter(Objects::nonNull)
+                .map(idsExtractor)
+                .filter(Objects::nonNull)
+                .flatMap(Set::stream)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+    }
+}
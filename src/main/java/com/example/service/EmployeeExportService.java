@@ -0,0 +1,98 @@
+// src/main/java/com/example/service/EmployeeExportService.java
+package com.example.service;
+
+import com.example.dto.EmployeeDto;
+import com.example.entity.Employee;
+import com.example.mapper.EmployeeMapper;
+import com.example.repository.EmployeeRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import jakarta.persistence.EntityManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Writes the whole employee directory as newline-delimited JSON. Rows come from a forward-only
+ * cursor and are processed in windows: each window gets its associations in one query, is written
+ * and flushed to the client, and is then evicted from the persistence context, so memory stays flat
+ * regardless of table size.
+ */
+@Service
+public class EmployeeExportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(EmployeeExportService.class);
+    private static final byte NEWLINE = '\n';
+
+    private final EmployeeRepository employeeRepository;
+    private final EmployeeMapper employeeMapper;
+    private final EntityManager entityManager;
+    private final ObjectWriter employeeWriter;
+    private final int windowSize;
+
+    public EmployeeExportService(EmployeeRepository employeeRepository,
+                                 EmployeeMapper employeeMapper,
+                                 EntityManager entityManager,
+                                 ObjectMapper objectMapper,
+                                 @Value("${employee.export.window-size:" + EmployeeRepository.EXPORT_FETCH_SIZE + "}") int windowSize) {
+        if (windowSize <= 0) {
+            throw new IllegalArgumentException("employee.export.window-size must be positive.");
+        }
+        this.employeeRepository = employeeRepository;
+        this.employeeMapper = employeeMapper;
+        this.entityManager = entityManager;
+        this.employeeWriter = objectMapper.writerFor(EmployeeDto.class);
+        this.windowSize = windowSize;
+    }
+
+    // Returns the number of employees written
+    @Transactional(readOnly = true)
+    public long exportEmployees(OutputStream out) {
+        long exported = 0;
+        List<Employee> window = new ArrayList<>(windowSize);
+        try (Stream<Employee> employees = employeeRepository.streamAllForExport()) {
+            Iterator<Employee> iterator = employees.iterator();
+            while (iterator.hasNext()) {
+                window.add(iterator.next());
+                if (window.size() == windowSize) {
+                    exported += writeWindow(window, out);
+                }
+            }
+            exported += writeWindow(window, out);
+        }
+        logger.debug("Exported {} employees", exported);
+        return exported;
+    }
+
+    private int writeWindow(List<Employee> window, OutputStream out) {
+        if (window.isEmpty()) {
+            return 0;
+        }
+        // Initializes skills, projects and project skills of the managed instances in one query
+        employeeRepository.findWithAssociationsByIdIn(window.stream().map(Employee::getEmployeeId).toList());
+        try {
+            for (Employee employee : window) {
+                out.write(employeeWriter.writeValueAsBytes(employeeMapper.toDto(employee)));
+                out.write(NEWLINE);
+            }
+            out.flush();
+        } catch (IOException e) {
+            // Typically the client went away; abort the cursor instead of reading the rest of the table
+            throw new UncheckedIOException("Failed to write employee export", e);
+        }
+        int written = window.size();
+        window.clear();
+        entityManager.clear();
+        return written;
+    }
+}
@@ -0,0 +1,148 @@
+// src/main/java/com/example/service/EmployeeIngestService.java
+package com.example.service;
+
+import com.example.dto.BulkEmployeeResultDto;
+import com.example.dto.BulkEmployeeResultDto.Status;
+import com.example.dto.EmployeeDto;
+import com.example.dto.EmployeeGenerationRequestDto;
+import com.example.dto.EmployeeIngestProgressDto;
+import com.example.exception.InvalidInputException;
+import com.fasterxml.jackson.databind.JsonNode;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Seeds EMPLOYEE_TBL with AI-generated employees. Records are validated as each generated chunk arrives and
+ * written through {@link EmployeeBulkService} in batches, one batch at a time on a blocking-friendly scheduler.
+ * Generation only runs ahead of persistence by the AI service's parallel chunks: the next batch is not requested
+ * until the previous one is committed, and cancelling the response stops generation.
+ */
+@Service
+public class EmployeeIngestService {
+
+    private static final Logger logger = LoggerFactory.getLogger(EmployeeIngestService.class);
+
+    private static final String DEFAULT_DESCRIPTION = "a mid-sized software company";
+    private static final int MAX_REPORTED_ERRORS = 10;
+
+    private final AIService aiService;
+    private final EmployeeBulkService employeeBulkService;
+    private final EmployeeService employeeService;
+    private final int maxRecords;
+    private final int batchSize;
+
+    public EmployeeIngestService(AIService aiService,
+                                 EmployeeBulkService employeeBulkService,
+                                 EmployeeService employeeService,
+                                 @Value("${ai.ingest.max-records:100000}") int maxRecords,
+                                 @Value("${ai.ingest.batch-size:500}") int batchSize) {
+        if (maxRecords <= 0 || batchSize <= 0) {
+            throw new IllegalArgumentException("ai.ingest.max-records and ai.ingest.batch-size must be positive.");
+        }
+        this.aiService = aiService;
+        this.employeeBulkService = employeeBulkService;
+        this.employeeService = employeeService;
+        this.maxRecords = maxRecords;
+        this.batchSize = batchSize;
+    }
+
+    // Emits cumulative progress after every committed batch, then a final summary with done set
+    public Flux<EmployeeIngestProgressDto> generateAndIngest(EmployeeGenerationRequestDto request) {
+        if (request == null) {
+            throw new InvalidInputException("Generation request is required.");
+        }
+        int recordCount = request.getRecordCount();
+        if (recordCount <= 0 || recordCount > maxRecords) {
+            throw new InvalidInputException("recordCount must be between 1 and " + maxRecords + ".");
+        }
+        String description = request.getDescription() == null || request.getDescription().isBlank()
+                ? DEFAULT_DESCRIPTION : request.getDescription().trim();
+
+        return Flux.defer(() -> {
+            Progress progress = new Progress(System.nanoTime());
+            return aiService.generateEmployeeRecords(recordCount, description)
+                    .concatMapIterable(records -> records)
+                    .take(recordCount)
+                    .mapNotNull(record -> toValidEmployee(record, progress))
+                    .buffer(batchSize)
+                    .concatMap(batch -> Mono.fromCallable(() -> employeeBulkService.upsertEmployees(batch))
+                            .subscribeOn(Schedulers.boundedElastic())
+                            .map(results -> progress.record(results, false)), 0)
+                    .concatWith(Mono.fromSupplier(() -> progress.snapshot(true)))
+                    .doOnComplete(() -> logger.info("Employee ingest finished: {}", progress.snapshot(true)));
+        });
+    }
+
+    // Maps one generated record onto EmployeeDto and applies the same checks as POST /api/employees
+    private EmployeeDto toValidEmployee(JsonNode record, Progress progress) {
+        long index = progress.countGenerated();
+        try {
+            EmployeeDto dto = new EmployeeDto();
+            dto.setName(text(record, "name"));
+            dto.setJobRole(text(record, "jobRole"));
+            dto.setGender(text(record, "gender"));
+            String dateOfBirth = text(record, "dateOfBirth");
+            dto.setDateOfBirth(dateOfBirth == null ? null : LocalDate.parse(dateOfBirth));
+            employeeService.validateEmployeeInput(dto);
+            return dto;
+        } catch (InvalidInputException | DateTimeParseException e) {
+            progress.reject("Record " + index + ": " + e.getMessage());
+            return null;
+        }
+    }
+
+    private static String text(JsonNode record, String field) {
+        JsonNode value = record.get(field);
+        return value == null || value.isNull() ? null : value.asText().trim();
+    }
+
+    // Validation and persistence run concurrently on different threads, so every update is synchronized
+    private static final class Progress {
+        private final long startNanos;
+        private final List<String> errors = new ArrayList<>();
+        private long generated;
+        private long inserted;
+        private long rejected;
+
+        private Progress(long startNanos) {
+            this.startNanos = startNanos;
+        }
+
+        private synchronized long countGenerated() {
+            return ++generated;
+        }
+
+        private synchronized void reject(String error) {
+            rejected++;
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add(error);
+            }
+        }
+
+        private synchronized EmployeeIngestProgressDto record(List<BulkEmployeeResultDto> results, boolean done) {
+            for (BulkEmployeeResultDto result : results) {
+                if (result.getStatus() == Status.FAILED) {
+                    reject("Insert failed: " + result.getError());
+                } else {
+                    inserted++;
+                }
+            }
+            return snapshot(done);
+        }
+
+        private synchronized EmployeeIngestProgressDto snapshot(boolean done) {
+            return new EmployeeIngestProgressDto(generated, inserted, rejected,
+                    (System.nanoTime() - startNanos) / 1_000_000, done, List.copyOf(errors));
+        }
+    }
+}
@@ -1,6 +1,7 @@
 // src/main/java/com/example/service/EmployeeService.java
 package com.example.service;
 
+import com.example.dto.CursorPageDto;
 import com.example.dto.EmployeeDto;
 import com.example.entity.Employee;
 import com.example.entity.Project;
@@ -10,37 +11,76 @@ import com.example.exception.ResourceNotFoundException;
 import com.example.mapper.EmployeeMapper;
 import com.example.repository.EmployeeRepository;
 import com.example.repository.ProjectRepository;
-import com.example.repository.SkillRepository;
+import io.micrometer.core.annotation.Timed;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.time.Period;
-import java.util.HashSet;
 import java.util.List;
-import java.util.Set;
+import java.util.Map;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
+@Timed("service.calls")
 public class EmployeeService {
 
     private final EmployeeRepository employeeRepository;
     private final ProjectRepository projectRepository;
-    private final SkillRepository skillRepository;
+    private final SkillCatalogCache skillCatalogCache;
     private final EmployeeMapper employeeMapper;
+    private final TotalCountCache totalCountCache;
 
-    // Returning paginated Employee data
+    static final String TOTAL_COUNT_KEY = "employees";  // Also invalidated by EmployeeBulkService
+
+    // Returning paginated Employee data with a cached total instead of a COUNT(*) per request
+    @Transactional(readOnly = true)
     public Page<EmployeeDto> getAllEmployees(Pageable pageable) {
-        Page<Employee> employees = employeeRepository.findAll(pageable);
-        if (employees.isEmpty()) {
+        return totalCountCache.toPage(TOTAL_COUNT_KEY, getEmployeeSlice(pageable), employeeRepository::count);
+    }
+
+    // withTotal=false skips the total entirely and only reports whether a next page exists
+    @Transactional(readOnly = true)
+    public Slice<EmployeeDto> getAllEmployees(Pageable pageable, boolean withTotal) {
+        return withTotal ? getAllEmployees(pageable) : getEmployeeSlice(pageable);
+    }
+
+    // Slice of IDs first, then one fetch-joined query for the page
+    private Slice<EmployeeDto> getEmployeeSlice(Pageable pageable) {
+        Slice<Long> employeeIds = employeeRepository.findEmployeeIds(pageable);
+        if (employeeIds.isEmpty()) {
             throw new ResourceNotFoundException("No employees found.");
         }
-        return employees.map(employeeMapper::toDto);
+        Map<Long, Employee> employeesById = findWithAssociations(employeeIds.getContent());
+        // Keep the ordering of the ID page, the IN query does not preserve it
+        return employeeIds.map(id -> employeeMapper.toDto(employeesById.get(id)));
+    }
+
+    // Keyset pagination: GET /api/employees/cursor?after=<cursor>&limit=N
+    @Transactional(readOnly = true)
+    public CursorPageDto<EmployeeDto> getEmployeesAfter(String after, int limit) {
+        List<Long> employeeIds = employeeRepository.findEmployeeIdsAfter(KeysetCursor.decode(after), KeysetCursor.lookahead(limit));
+        CursorPageDto<Long> idPage = KeysetCursor.page(employeeIds, limit, Function.identity(), Function.identity());
+        Map<Long, Employee> employeesById = findWithAssociations(idPage.getContent());
+        List<EmployeeDto> employees = idPage.getContent().stream()
+                .map(id -> employeeMapper.toDto(employeesById.get(id)))
+                .collect(Collectors.toList());
+        return new CursorPageDto<>(employees, limit, idPage.isHasNext(), idPage.getNextCursor());
+    }
+
+    private Map<Long, Employee> findWithAssociations(List<Long> employeeIds) {
+        if (employeeIds.isEmpty()) {
+            return Map.of();
+        }
+        return employeeRepository.findWithAssociationsByIdIn(employeeIds).stream()
+                .collect(Collectors.toMap(Employee::getEmployeeId, Function.identity()));
     }
 
     public EmployeeDto getEmployeeById(Long employeeId) {
@@ -52,35 +92,17 @@ public class EmployeeService {
         return employeeMapper.toDto(employee);
     }
 
+    @Transactional
     public EmployeeDto createEmployee(EmployeeDto employeeDto) {
         validateEmployeeInput(employeeDto);
         Employee employee = employeeMapper.toEntity(employeeDto);
 
-        // Set skills
-        Set<Skill> skills = new HashSet<>();
-        if (employeeDto.getSkillIds() != null && !employeeDto.getSkillIds().isEmpty()) {
-            skills.addAll(skillRepository.findAllById(employeeDto.getSkillIds()));
-            if (skills.size() != employeeDto.getSkillIds().size()) {
-                throw new EntityNotFoundException("One or more skills not found.");
-            }
-        }
-        employee.setSkills(skills);
-
-        // Set projects
-        Set<Project> projects = new HashSet<>();
-        if (employeeDto.getProjectIds() != null && !employeeDto.getProjectIds().isEmpty()) {
-            projects.addAll(projectRepository.findAllById(employeeDto.getProjectIds()));
-            if (projects.size() != employeeDto.getProjectIds().size()) {
-                throw new EntityNotFoundException("One or more projects not found.");
-            }
-        }
-        employee.setProjects(projects);
-
-        // Process employee data to set Age and Email
+        // Resolve skills and projects, then set Age and Email
         processEmployeeData(employee, employeeDto);
 
         // Save employee
         Employee savedEmployee = employeeRepository.save(employee);
+        totalCountCache.invalidate(TOTAL_COUNT_KEY);
 
         // Return EmployeeDto
         return employeeMapper.toDto(savedEmployee);
@@ -99,33 +121,9 @@ public class EmployeeService {
         employee.setJobRole(dto.getJobRole());
         employee.setGender(dto.getGender());
 
-        // Process employee data to set Age and Email
+        // Replace skills and projects, then set Age and Email
         processEmployeeData(employee, dto);
 
-        // Fetch and set skills
-        Set<Skill> skills = new HashSet<>();
-        if (dto.getSkillIds() != null && !dto.getSkillIds().isEmpty()) {
-            skills.addAll(skillRepository.findAllById(dto.getSkillIds()));
-            if (skills.size() != dto.getSkillIds().size()) {
-                throw new EntityNotFoundException("One or more skills not found.");
-            }
-        }
-        // Clear existing skills and set new ones
-        employee.getSkills().clear();
-        employee.getSkills().addAll(skills);
-
-        // Fetch and set projects
-        Set<Project> projects = new HashSet<>();
-        if (dto.getProjectIds() != null && !dto.getProjectIds().isEmpty()) {
-            projects.addAll(projectRepository.findAllById(dto.getProjectIds()));
-            if (projects.size() != dto.getProjectIds().size()) {
-                throw new EntityNotFoundException("One or more projects not found.");
-            }
-        }
-        // Clear existing projects and set new ones
-        employee.getProjects().clear();
-        employee.getProjects().addAll(projects);
-
         // Save the updated employee
         Employee updatedEmployee = employeeRepository.save(employee);
 
@@ -140,30 +138,15 @@ public class EmployeeService {
         Employee employee = employeeRepository.findById(employeeId)
                 .orElseThrow(() -> new ResourceNotFoundException("Employee not found with ID: " + employeeId));
         employeeRepository.delete(employee);
+        totalCountCache.invalidate(TOTAL_COUNT_KEY);
     }
 
-    // Process employee to calculate age, generate email, and set projects and skills
+    // Process employee to calculate age, generate email, and set projects and skills.
+    // Projects are resolved with a single IN query, skills from the catalog cache; any unknown ID fails the whole request.
     void processEmployeeData(Employee employee, EmployeeDto employeeDto) {
         if (employeeDto != null) {
-            // Set Projects
-            if (employeeDto.getProjectIds() != null && !employeeDto.getProjectIds().isEmpty()) {
-                Set<Project> projects = employeeDto.getProjectIds().stream()
-                        .map(projectRepository::findById)
-                        .filter(java.util.Optional::isPresent)
-                        .map(java.util.Optional::get)
-                        .collect(Collectors.toSet());
-                employee.setProjects(projects);
-            }
-
-            // Set Skills
-            if (employeeDto.getSkillIds() != null && !employeeDto.getSkillIds().isEmpty()) {
-                Set<Skill> skills = employeeDto.getSkillIds().stream()
-                        .map(skillRepository::findById)
-                        .filter(java.util.Optional::isPresent)
-                        .map(java.util.Optional::get)
-                        .collect(Collectors.toSet());
-                employee.setSkills(skills);
-            }
+            employee.setProjects(BatchLookup.findAll(projectRepository::findAllById, employeeDto.getProjectIds(), Project::getProjectId, "Project"));
+            employee.setSkills(BatchLookup.findAll(skillCatalogCache::getReferences, employeeDto.getSkillIds(), Skill::getSkillId, "Skill"));
         }
 
         employee.setAge(calculateAge(employee.getDateOfBirth()));
@@ -190,7 +173,7 @@ public class EmployeeService {
     }
 
     // Validation logic for input
-    private void validateEmployeeInput(EmployeeDto employeeDto) {
+    void validateEmployeeInput(EmployeeDto employeeDto) {
         if (employeeDto.getName() == null || employeeDto.getName().trim().isEmpty()) { //Apache commonslang
             throw new InvalidInputException("Employee name is required.");
         }
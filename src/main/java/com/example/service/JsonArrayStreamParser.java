@@ -0,0 +1,78 @@
+// src/main/java/com/example/service/JsonArrayStreamParser.java
+package com.example.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Pulls the elements out of a JSON array that arrives in arbitrary text fragments, such as the deltas of
+ * a streamed completion. Each object element is returned as soon as its closing brace has been fed.
+ * Anything before the opening bracket (a markdown fence, say) and after the closing bracket is ignored.
+ * Not thread-safe: use one instance per stream.
+ */
+class JsonArrayStreamParser {
+
+    private final ObjectMapper objectMapper;
+    private final StringBuilder element = new StringBuilder();
+
+    private boolean inArray;
+    private boolean finished;
+    private int depth;            // Nesting inside the current element; 0 between elements
+    private boolean inString;
+    private boolean escaped;
+
+    JsonArrayStreamParser(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    List<JsonNode> feed(String fragment) {
+        List<JsonNode> completed = new ArrayList<>();
+        for (int i = 0; i < fragment.length() && !finished; i++) {
+            char c = fragment.charAt(i);
+            if (!inArray) {
+                inArray = c == '[';
+                continue;
+            }
+            if (depth == 0) {
+                if (c == '{') {
+                    depth = 1;
+                    element.append(c);
+                } else if (c == ']') {
+                    finished = true;
+                }
+                continue;   // Commas, whitespace and non-object elements between records
+            }
+
+            element.append(c);
+            if (inString) {
+                if (escaped) {
+                    escaped = false;
+                } else if (c == '\\') {
+                    escaped = true;
+                } else if (c == '"') {
+                    inString = false;
+                }
+            } else if (c == '"') {
+                inString = true;
+            } else if (c == '{' || c == '[') {
+                depth++;
+            } else if ((c == '}' || c == ']') && --depth == 0) {
+                completed.add(parse(element.toString()));
+                element.setLength(0);
+            }
+        }
+        return completed;
+    }
+
+    private JsonNode parse(String json) {
+        try {
+            return objectMapper.readTree(json);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Malformed record in streamed content: " + json, e);
+        }
+    }
+}
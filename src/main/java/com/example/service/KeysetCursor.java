@@ -0,0 +1,65 @@
+// src/main/java/com/example/service/KeysetCursor.java
+package com.example.service;
+
+import com.example.dto.CursorPageDto;
+import com.example.exception.InvalidInputException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Opaque cursors for keyset (seek) pagination. A cursor wraps the last ID of the previous page, and
+ * the next page is read with WHERE id > ? ORDER BY id LIMIT ?, so deep pages cost the same as the
+ * first one and no count query is needed. One extra row is fetched to find out whether a next page exists.
+ */
+public final class KeysetCursor {
+
+    public static final int DEFAULT_LIMIT = 20;
+    public static final int MAX_LIMIT = 100;
+
+    private static final String PREFIX = "id:";
+
+    private KeysetCursor() {
+    }
+
+    public static String encode(long lastId) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((PREFIX + lastId).getBytes(StandardCharsets.UTF_8));
+    }
+
+    // A missing cursor starts from the beginning
+    public static long decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return 0L;
+        }
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            if (!decoded.startsWith(PREFIX)) {
+                throw new InvalidInputException("Invalid cursor: " + cursor);
+            }
+            return Long.parseLong(decoded.substring(PREFIX.length()));
+        } catch (IllegalArgumentException e) {
+            throw new InvalidInputException("Invalid cursor: " + cursor);
+        }
+    }
+
+    // Requests limit + 1 rows so hasNext can be answered without a count
+    public static Pageable lookahead(int limit) {
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new InvalidInputException("Limit must be between 1 and " + MAX_LIMIT + ".");
+        }
+        return PageRequest.ofSize(limit + 1);
+    }
+
+    public static <E, D> CursorPageDto<D> page(List<E> rows, int limit, Function<E, Long> idExtractor, Function<E, D> mapper) {
+        boolean hasNext = rows.size() > limit;
+        List<E> pageRows = hasNext ? rows.subList(0, limit) : rows;
+        String nextCursor = hasNext ? encode(idExtractor.apply(pageRows.get(pageRows.size() - 1))) : null;
+        List<D> content = pageRows.stream().map(mapper).toList();
+        return new CursorPageDto<>(content, limit, hasNext, nextCursor);
+    }
+}
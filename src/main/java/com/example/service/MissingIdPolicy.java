@@ -0,0 +1,13 @@
+// src/main/java/com/example/service/MissingIdPolicy.java
+package com.example.service;
+
+/**
+ * How association IDs that do not exist in the database are treated when
+ * they are resolved in bulk.
+ */
+public enum MissingIdPolicy {
+    // Reject the request and report every unknown ID
+    FAIL,
+    // Log the unknown IDs and keep only the rows that were found
+    SKIP
+}
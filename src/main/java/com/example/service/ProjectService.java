@@ -1,6 +1,7 @@
 // src/main/java/com/example/service/ProjectService.java
 package com.example.service;
 
+import com.example.dto.CursorPageDto;
 import com.example.dto.ProjectDto;
 import com.example.entity.Employee;
 import com.example.entity.Project;
@@ -9,39 +10,63 @@ import com.example.exception.ResourceNotFoundException;
 import com.example.mapper.ProjectMapper;
 import com.example.repository.EmployeeRepository;
 import com.example.repository.ProjectRepository;
-import com.example.repository.SkillRepository;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 
 import org.springframework.transaction.annotation.Transactional;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.HashSet;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
+@Timed("service.calls")
 public class ProjectService {
 
     private final ProjectRepository projectRepository;
     private final EmployeeRepository employeeRepository;
-    private final SkillRepository skillRepository;
     private final ProjectMapper projectMapper;
+    private final TotalCountCache totalCountCache;
+    private final SkillCatalogCache skillCatalogCache;
+
+    private static final String TOTAL_COUNT_KEY = "projects";
 
     private static final Logger logger = LoggerFactory.getLogger(ProjectService.class);
 
     public Page<ProjectDto> getAllProjects(Pageable pageable) {
-        logger.debug("Retrieving all projects with pageable: {}", pageable);
-        Page<Project> projectsPage = projectRepository.findAll(pageable);
+        Page<ProjectDto> projectsPage = totalCountCache.toPage(TOTAL_COUNT_KEY, getProjectSlice(pageable), projectRepository::count);
         logger.debug("Retrieved {} projects", projectsPage.getTotalElements());
-        return projectsPage.map(projectMapper::toDto);
+        return projectsPage;
+    }
+
+    // withTotal=false skips the total entirely and only reports whether a next page exists
+    public Slice<ProjectDto> getAllProjects(Pageable pageable, boolean withTotal) {
+        return withTotal ? getAllProjects(pageable) : getProjectSlice(pageable);
+    }
+
+    private Slice<ProjectDto> getProjectSlice(Pageable pageable) {
+        logger.debug("Retrieving all projects with pageable: {}", pageable);
+        return projectRepository.findProjectSlice(pageable).map(projectMapper::toDto);
+    }
+
+    public CursorPageDto<ProjectDto> getProjectsAfter(String after, int limit) {
+        logger.debug("Retrieving projects after cursor: {} with limit: {}", after, limit);
+        List<Project> projects = projectRepository.findByProjectIdGreaterThanOrderByProjectIdAsc(
+                KeysetCursor.decode(after), KeysetCursor.lookahead(limit));
+        return KeysetCursor.page(projects, limit, Project::getProjectId, projectMapper::toDto);
     }
 
+    @Transactional(readOnly = true)
     public ProjectDto getProjectById(Long projectId) {
         logger.debug("Retrieving project with ID: {}", projectId);
         Project project = projectRepository.findById(projectId)
@@ -59,6 +84,7 @@ public class ProjectService {
         Project project = projectMapper.toEntity(projectDto);
         processProjectData(project, projectDto);
         Project savedProject = projectRepository.save(project);
+        totalCountCache.invalidate(TOTAL_COUNT_KEY);
         return projectMapper.toDto(savedProject);
     }
 
@@ -78,8 +104,14 @@ public class ProjectService {
         return projectMapper.toDto(updatedProject);
     }
 
+    // PATCH historically ignores unknown employee IDs, so that stays the default
     @Transactional
     public ProjectDto partialUpdateProject(Long projectId, ProjectDto projectDto) {
+        return partialUpdateProject(projectId, projectDto, MissingIdPolicy.SKIP);
+    }
+
+    @Transactional
+    public ProjectDto partialUpdateProject(Long projectId, ProjectDto projectDto, MissingIdPolicy missingEmployees) {
         logger.debug("Partially updating project ID: {} with DTO: {}", projectId, projectDto);
         Project existingProject = projectRepository.findById(projectId)
                 .orElseThrow(() -> new ResourceNotFoundException("Project not found with ID: " + projectId));
@@ -99,17 +131,8 @@ public class ProjectService {
         // Handle Employees
         if (projectDto.getEmployeeIds() != null) {
             if (!projectDto.getEmployeeIds().isEmpty()) {
-                Set<Employee> employees = projectDto.getEmployeeIds().stream()
-                        .map(id -> {
-                            Optional<Employee> employeeOpt = employeeRepository.findById(id);
-                            if (employeeOpt.isEmpty()) {
-                                logger.warn("Employee ID {} not found. Skipping.", id);
-                            }
-                            return employeeOpt;
-                        })
-                        .filter(Optional::isPresent)
-                        .map(Optional::get)
-                        .collect(Collectors.toSet());
+                Set<Employee> employees = resolveAll(employeeRepository::findAllById, projectDto.getEmployeeIds(),
+                        Employee::getEmployeeId, "Employee", missingEmployees);
                 existingProject.setEmployees(employees);
                 logger.debug("Assigned Employees to Project ID {}: {}", projectId, employees);
             } else {
@@ -120,10 +143,8 @@ public class ProjectService {
 
         // Handle Skills if necessary
         if (projectDto.getSkillIds() != null) {
-            Set<Skill> skills = projectDto.getSkillIds().stream()
-                    .map(id -> skillRepository.findById(id)
-                            .orElseThrow(() -> new ResourceNotFoundException("Skill not found with ID: " + id)))
-                    .collect(Collectors.toSet());
+            Set<Skill> skills = resolveAll(skillCatalogCache::getReferences, projectDto.getSkillIds(),
+                    Skill::getSkillId, "Skill", MissingIdPolicy.FAIL);
             existingProject.setSkills(skills);
         }
 
@@ -138,6 +159,7 @@ public class ProjectService {
         Project project = projectRepository.findById(projectId)
                 .orElseThrow(() -> new ResourceNotFoundException("Project not found with ID: " + projectId));
         projectRepository.delete(project);
+        totalCountCache.invalidate(TOTAL_COUNT_KEY);
         logger.debug("Deleted project with ID: {}", projectId);
     }
 
@@ -154,22 +176,32 @@ public class ProjectService {
     private void processProjectData(Project project, ProjectDto projectDto) {
         // Set Employees
         if (projectDto.getEmployeeIds() != null) {
-            Set<Employee> employees = projectDto.getEmployeeIds().stream()
-                    .map(id -> employeeRepository.findById(id)
-                            .orElseThrow(() -> new ResourceNotFoundException("Employee not found with ID: " + id)))
-                    .collect(Collectors.toSet());
+            Set<Employee> employees = resolveAll(employeeRepository::findAllById, projectDto.getEmployeeIds(),
+                    Employee::getEmployeeId, "Employee", MissingIdPolicy.FAIL);
             project.setEmployees(employees);
             logger.debug("Assigned Employees: {}", employees);
         }
 
         // Set Skills
         if (projectDto.getSkillIds() != null) {
-            Set<Skill> skills = projectDto.getSkillIds().stream()
-                    .map(id -> skillRepository.findById(id)
-                            .orElseThrow(() -> new ResourceNotFoundException("Skill not found with ID: " + id)))
-                    .collect(Collectors.toSet());
+            Set<Skill> skills = resolveAll(skillCatalogCache::getReferences, projectDto.getSkillIds(),
+                    Skill::getSkillId, "Skill", MissingIdPolicy.FAIL);
             project.setSkills(skills);
             logger.debug("Assigned Skills: {}", skills);
         }
     }
-}
\ No newline at end of file
+
+    // Load all requested rows in one batch (IN query or skill cache) and apply the policy to any IDs that were not found
+    private <T> Set<T> resolveAll(Function<Set<Long>, List<T>> loader, Set<Long> ids, Function<T, Long> idExtractor,
+                                  String entityName, MissingIdPolicy policy) {
+        Map<Long, T> loaded = BatchLookup.loadAll(loader, ids, idExtractor);
+        if (policy == MissingIdPolicy.SKIP) {
+            Set<Long> missingIds = BatchLookup.missingIds(loaded, ids);
+            if (!missingIds.isEmpty()) {
+                logger.warn("{} IDs {} not found. Skipping.", entityName, missingIds);
+            }
+            return new HashSet<>(loaded.values());
+        }
+        return BatchLookup.pick(loaded, ids, entityName);
+    }
+}
@@ -0,0 +1,127 @@
+// src/main/java/com/example/service/SkillCatalogCache.java
+package com.example.service;
+
+import com.example.dto.SkillCacheStatsDto;
+import com.example.dto.SkillDto;
+import com.example.entity.Skill;
+import com.example.mapper.SkillMapper;
+import com.example.repository.SkillRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * In-process copy of the skill catalog, keyed by ID and by unique name. Only immutable snapshots are cached,
+ * never entities or DTOs, so a cached value can be shared across sessions and threads; every caller gets
+ * its own {@link SkillDto} copy and may modify it freely.
+ * Association resolution validates IDs against the cache and hands out lazy references, which means
+ * a write that only links existing skills does not need to SELECT them.
+ */
+@Component
+public class SkillCatalogCache {
+
+    private record CachedSkill(Long skillId, String name) {
+
+        SkillDto toDto() {
+            return new SkillDto(skillId, name);
+        }
+    }
+
+    private final SkillRepository skillRepository;
+    private final SkillMapper skillMapper;
+    private final Cache<Long, CachedSkill> byId;
+    private final Cache<String, CachedSkill> byName;
+
+    public SkillCatalogCache(SkillRepository skillRepository,
+                             SkillMapper skillMapper,
+                             @Value("${skill.cache.maximum-size:1000}") long maximumSize,
+                             @Value("${skill.cache.ttl-seconds:600}") long ttlSeconds) {
+        this.skillRepository = skillRepository;
+        this.skillMapper = skillMapper;
+        this.byId = newCache(maximumSize, ttlSeconds);
+        this.byName = newCache(maximumSize, ttlSeconds);
+    }
+
+    private static <K> Cache<K, CachedSkill> newCache(long maximumSize, long ttlSeconds) {
+        return Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+    }
+
+    public Optional<SkillDto> findById(Long skillId) {
+        CachedSkill cached = byId.getIfPresent(skillId);
+        if (cached != null) {
+            return Optional.of(cached.toDto());
+        }
+        return skillRepository.findById(skillId).map(this::put);
+    }
+
+    public Optional<SkillDto> findByName(String name) {
+        CachedSkill cached = byName.getIfPresent(name);
+        if (cached != null) {
+            return Optional.of(cached.toDto());
+        }
+        return skillRepository.findByName(name).map(this::put);
+    }
+
+    /**
+     * Returns a reference for every requested ID that exists; unknown IDs are simply absent so callers
+     * can report them. Cache misses are loaded with one IN query. The references are uninitialized
+     * proxies unless the skill was just loaded, so this must run inside a transaction.
+     */
+    public List<Skill> getReferences(Collection<Long> skillIds) {
+        Map<Long, CachedSkill> cached = byId.getAllPresent(skillIds);
+        Set<Long> misses = skillIds.stream()
+                .filter(id -> !cached.containsKey(id))
+                .collect(Collectors.toSet());
+
+        List<Skill> references = new ArrayList<>(skillIds.size());
+        if (!misses.isEmpty()) {
+            for (Skill skill : skillRepository.findAllById(misses)) {
+                put(skill);
+                references.add(skill);
+            }
+        }
+        for (Long skillId : cached.keySet()) {
+            references.add(skillRepository.getReferenceById(skillId));
+        }
+        return references;
+    }
+
+    // Drops every entry for the skill, including the one under a name it no longer has
+    public void evict(Long skillId) {
+        byId.invalidate(skillId);
+        byName.asMap().values().removeIf(skill -> skill.skillId().equals(skillId));
+    }
+
+    public void evictName(String name) {
+        byName.invalidate(name);
+    }
+
+    public SkillCacheStatsDto stats() {
+        CacheStats stats = byId.stats().plus(byName.stats());
+        return new SkillCacheStatsDto(stats.hitCount(), stats.missCount(), stats.hitRate(),
+                stats.evictionCount(), byId.estimatedSize());
+    }
+
+    private SkillDto put(Skill skill) {
+        SkillDto dto = skillMapper.toDto(skill);
+        CachedSkill snapshot = new CachedSkill(dto.getSkillId(), dto.getName());
+        byId.put(snapshot.skillId(), snapshot);
+        byName.put(snapshot.name(), snapshot);
+        return dto;
+    }
+}
@@ -1,39 +1,77 @@
 // src/main/java/com/example/service/SkillService.java
 package com.example.service;
 
+import com.example.dto.CursorPageDto;
+import com.example.dto.SkillCacheStatsDto;
 import com.example.dto.SkillDto;
 import com.example.entity.Skill;
 import com.example.exception.ResourceNotFoundException;
 import com.example.mapper.SkillMapper;
 import com.example.repository.SkillRepository;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
+
 @Service
 @RequiredArgsConstructor
+@Timed("service.calls")
 public class SkillService {
 
     private final SkillRepository skillRepository;
     private final SkillMapper skillMapper;
+    private final TotalCountCache totalCountCache;
+    private final SkillCatalogCache skillCatalogCache;
+
+    private static final String TOTAL_COUNT_KEY = "skills";
 
-    // Retrieve all skills with pagination
+    // Retrieve all skills with pagination; the total comes from the count cache
     public Page<SkillDto> getAllSkills(Pageable pageable) {
-        return skillRepository.findAll(pageable).map(skillMapper::toDto);
+        return totalCountCache.toPage(TOTAL_COUNT_KEY, getSkillSlice(pageable), skillRepository::count);
+    }
+
+    // Retrieve all skills without any total, only whether a next page exists
+    public Slice<SkillDto> getAllSkills(Pageable pageable, boolean withTotal) {
+        return withTotal ? getAllSkills(pageable) : getSkillSlice(pageable);
     }
 
-    // Retrieve a skill by ID
+    private Slice<SkillDto> getSkillSlice(Pageable pageable) {
+        return skillRepository.findSkillSlice(pageable).map(skillMapper::toDto);
+    }
+
+    // Retrieve the page of skills following the cursor (keyset pagination, no count query)
+    public CursorPageDto<SkillDto> getSkillsAfter(String after, int limit) {
+        List<Skill> skills = skillRepository.findBySkillIdGreaterThanOrderBySkillIdAsc(
+                KeysetCursor.decode(after), KeysetCursor.lookahead(limit));
+        return KeysetCursor.page(skills, limit, Skill::getSkillId, skillMapper::toDto);
+    }
+
+    // Retrieve a skill by ID, served from the catalog cache
     public SkillDto getSkillById(Long skillId) {
-        Skill skill = skillRepository.findById(skillId)
+        return skillCatalogCache.findById(skillId)
                 .orElseThrow(() -> new ResourceNotFoundException("Skill not found with ID: " + skillId));
-        return skillMapper.toDto(skill);
+    }
+
+    // Retrieve a skill by its unique name, served from the catalog cache
+    public SkillDto getSkillByName(String name) {
+        return skillCatalogCache.findByName(name)
+                .orElseThrow(() -> new ResourceNotFoundException("Skill not found with name: " + name));
+    }
+
+    public SkillCacheStatsDto getCacheStats() {
+        return skillCatalogCache.stats();
     }
 
     // Create a new skill
     public SkillDto createSkill(SkillDto skillDto) {
         Skill skill = skillMapper.toEntity(skillDto);
         Skill savedSkill = skillRepository.save(skill);
+        totalCountCache.invalidate(TOTAL_COUNT_KEY);
+        skillCatalogCache.evictName(savedSkill.getName());
         return skillMapper.toDto(savedSkill);
     }
 
@@ -43,6 +81,7 @@ public class SkillService {
                 .orElseThrow(() -> new ResourceNotFoundException("Skill not found with ID: " + skillId));
         existingSkill.setName(skillDto.getName());
         Skill updatedSkill = skillRepository.save(existingSkill);
+        skillCatalogCache.evict(skillId);
         return skillMapper.toDto(updatedSkill);
     }
 
@@ -51,5 +90,7 @@ public class SkillService {
         Skill skill = skillRepository.findById(skillId)
                 .orElseThrow(() -> new ResourceNotFoundException("Skill not found with ID: " + skillId));
         skillRepository.delete(skill);
+        totalCountCache.invalidate(TOTAL_COUNT_KEY);
+        skillCatalogCache.evict(skillId);
     }
 }
@@ -0,0 +1,244 @@
+// src/main/java/com/example/service/SyntheticDataGenerator.java
+package com.example.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.springframework.stereotype.Component;
+
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Seeded generator of realistic employee, project and skill values, used instead of the AI provider when it is
+ * slow, costly or unreachable. Nothing here is shared mutable state: callers pass the random source, and
+ * {@link #random(long, long)} derives one independent stream per (seed, block) so work can be split across
+ * threads and still produce the same data for the same seed.
+ */
+@Component
+public class SyntheticDataGenerator {
+
+    public record SyntheticEmployee(String name, LocalDate dateOfBirth, String avatarUrl, String jobRole, String gender) {
+    }
+
+    public record SyntheticProject(String name, String description, int targetTeamSize) {
+    }
+
+    // Skill catalog in rough order of popularity; employees pick from the front far more often
+    public static final List<String> SKILLS = List.of(
+            "Java", "SQL", "Git", "JavaScript", "Python", "Spring Boot", "REST APIs", "Docker", "Agile Methodologies",
+            "React", "TypeScript", "AWS", "Kubernetes", "Microservices", "Jenkins", "DevOps", "C#", "NoSQL",
+            "Quality Assurance", "Security", "Project Management", "UI/UX Design", "Go", "Machine Learning", "C++",
+            "Terraform", "Kafka", "GraphQL", "PHP", "Ruby", "Swift", "Kotlin", "Scala", "Rust", "Perl");
+
+    private static final List<String> FEMALE_NAMES = List.of(
+            "Olivia", "Emma", "Amelia", "Sophia", "Mia", "Isabella", "Ava", "Charlotte", "Harper", "Evelyn",
+            "Priya", "Aisha", "Mei", "Yuki", "Fatima", "Sofia", "Lucia", "Ingrid", "Chloe", "Grace",
+            "Hannah", "Laura", "Nina", "Rachel", "Tina", "Zara", "Leila", "Ana", "Elena", "Noor");
+    private static final List<String> MALE_NAMES = List.of(
+            "Liam", "Noah", "Oliver", "James", "Elijah", "William", "Henry", "Lucas", "Benjamin", "Theodore",
+            "Arjun", "Omar", "Wei", "Hiroshi", "Mateo", "Diego", "Lars", "Kwame", "Ethan", "Daniel",
+            "Kevin", "Michael", "Oscar", "Steven", "George", "Ian", "Rahul", "Ali", "Jonas", "Marco");
+    private static final List<String> NEUTRAL_NAMES = List.of(
+            "Alex", "Jordan", "Taylor", "Morgan", "Riley", "Casey", "Avery", "Quinn", "Rowan", "Sage");
+    private static final List<String> LAST_NAMES = List.of(
+            "Smith", "Johnson", "Williams", "Brown", "Jones", "Garcia", "Miller", "Davis", "Rodriguez", "Martinez",
+            "Hernandez", "Lopez", "Wilson", "Anderson", "Thomas", "Taylor", "Moore", "Jackson", "Martin", "Lee",
+            "Patel", "Kim", "Nguyen", "Chen", "Singh", "Khan", "Tanaka", "Muller", "Rossi", "Silva",
+            "Novak", "Okafor", "Haddad", "Larsen", "Cohen", "Ivanova", "Clark", "Lewis", "Walker", "Young");
+
+    // Job roles weighted roughly like the headcount of a software company
+    private static final String[] JOB_ROLES = {
+            "Software Engineer", "Senior Software Engineer", "Backend Developer", "Frontend Developer", "QA Engineer",
+            "DevOps Engineer", "Data Scientist", "Data Analyst", "Product Manager", "Project Manager",
+            "UI/UX Designer", "Business Analyst", "Engineering Manager", "Solutions Architect", "Support Engineer",
+            "Security Analyst", "Scrum Master", "HR Specialist"};
+    private static final int[] JOB_ROLE_WEIGHTS = {22, 12, 9, 8, 7, 6, 4, 4, 4, 4, 4, 3, 3, 2, 4, 2, 1, 1};
+
+    private static final String[] PROJECT_ADJECTIVES = {
+            "Atlas", "Beacon", "Cobalt", "Delta", "Ember", "Falcon", "Granite", "Harbor", "Indigo", "Juniper",
+            "Kestrel", "Lumen", "Meridian", "Nimbus", "Orion", "Phoenix", "Quartz", "Raven", "Summit", "Tundra"};
+    private static final String[] PROJECT_AREAS = {
+            "Billing", "Onboarding", "Analytics", "Search", "Payments", "Identity", "Reporting", "Mobile",
+            "Inventory", "Notifications", "Data Platform", "Checkout", "Scheduling", "Compliance", "Support Portal"};
+    private static final String[] PROJECT_VERBS = {
+            "Rebuilding", "Migrating", "Scaling", "Modernizing", "Launching", "Hardening", "Redesigning", "Automating"};
+
+    private static final String[] CITIES = {
+            "London", "Berlin", "Toronto", "Austin", "Bangalore", "Singapore", "Sydney", "Lisbon", "Warsaw", "Nairobi"};
+    private static final String[] DEPARTMENTS = {
+            "Engineering", "Product", "Design", "Data", "Operations", "Sales", "Marketing", "Finance", "People"};
+
+    private static final Pattern EMPLOYEE_PROMPT = Pattern.compile("Generate exactly (\\d+) realistic employee records");
+    private static final Pattern COMBINED_PROMPT = Pattern.compile("generate exactly (\\d+) records with exactly (\\d+) properties");
+    private static final Pattern MORE_PROMPT = Pattern.compile("generate (\\d+) additional records");
+    private static final Pattern QUOTED = Pattern.compile("\"([^\"]+)\"");
+    private static final String PROPERTIES_MARKER = "following properties:";
+    private static final int DEFAULT_RECORD_COUNT = 10;
+
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    // Independent, reproducible stream for one unit of work (a block of employees, the project list, one reply)
+    public static SplittableRandom random(long seed, long stream) {
+        return new SplittableRandom(seed ^ (stream + 1) * GOLDEN_GAMMA);
+    }
+
+    public SyntheticEmployee employee(SplittableRandom random, LocalDate today) {
+        int genderRoll = random.nextInt(100);
+        String gender;
+        String firstName;
+        if (genderRoll < 49) {
+            gender = "Female";
+            firstName = pick(random, FEMALE_NAMES);
+        } else if (genderRoll < 98) {
+            gender = "Male";
+            firstName = pick(random, MALE_NAMES);
+        } else {
+            gender = "Non-binary";
+            firstName = pick(random, NEUTRAL_NAMES);
+        }
+        String name = firstName + " " + pick(random, LAST_NAMES);
+
+        // Working-age population: normal around 38, clamped to 21..67
+        int age = (int) Math.round(Math.max(21, Math.min(67, 38 + random.nextGaussian() * 10)));
+        LocalDate dateOfBirth = today.minusYears(age).minusDays(random.nextInt(365));
+        String avatarUrl = "https://api.dicebear.com/6.x/adventurer/png?seed=" + URLEncoder.encode(name, StandardCharsets.UTF_8).replace("+", "%20");
+
+        return new SyntheticEmployee(name, dateOfBirth, avatarUrl, weighted(random, JOB_ROLES, JOB_ROLE_WEIGHTS), gender);
+    }
+
+    public SyntheticProject project(SplittableRandom random, long index) {
+        String area = PROJECT_AREAS[random.nextInt(PROJECT_AREAS.length)];
+        String name = "Project " + PROJECT_ADJECTIVES[(int) (index % PROJECT_ADJECTIVES.length)] + " " + area
+                + (index >= PROJECT_ADJECTIVES.length ? " " + (index / PROJECT_ADJECTIVES.length + 1) : "");
+        String description = PROJECT_VERBS[random.nextInt(PROJECT_VERBS.length)] + " the " + area.toLowerCase() + " platform";
+        // Team sizes are right-skewed: most teams 4-12 people, a few large programmes
+        int teamSize = (int) Math.round(Math.max(2, Math.min(60, Math.exp(Math.log(8) + 0.6 * random.nextGaussian()))));
+        return new SyntheticProject(name, description, teamSize);
+    }
+
+    // 1..8 skills, most people list 2-5
+    public int skillsPerEmployee(SplittableRandom random) {
+        return Math.max(1, Math.min(8, (int) Math.round(3.5 + random.nextGaussian() * 1.5)));
+    }
+
+    public int skillsPerProject(SplittableRandom random) {
+        return 2 + random.nextInt(5);
+    }
+
+    // 0 to 3 projects per employee; a few are on the bench
+    public int projectsPerEmployee(SplittableRandom random) {
+        int roll = random.nextInt(100);
+        return roll < 10 ? 0 : roll < 65 ? 1 : roll < 90 ? 2 : 3;
+    }
+
+    // Index in [0, size) skewed towards the front, so popular catalog entries dominate
+    public int skewedIndex(SplittableRandom random, int size) {
+        double u = random.nextDouble();
+        return Math.min(size - 1, (int) (size * u * u));
+    }
+
+    /**
+     * Records for one of AIService's prompts: employee records for the employee prompt, property1..N for the
+     * combined prompt and the listed properties for the generate-more prompt.
+     */
+    public ArrayNode recordsForPrompt(String prompt, SplittableRandom random) {
+        LocalDate today = LocalDate.now();
+        ArrayNode records = objectMapper.createArrayNode();
+
+        Matcher employees = EMPLOYEE_PROMPT.matcher(prompt);
+        if (employees.find()) {
+            for (int i = 0; i < Integer.parseInt(employees.group(1)); i++) {
+                SyntheticEmployee employee = employee(random, today);
+                records.addObject()
+                        .put("name", employee.name())
+                        .put("dateOfBirth", employee.dateOfBirth().toString())
+                        .put("jobRole", employee.jobRole())
+                        .put("gender", employee.gender());
+            }
+            return records;
+        }
+
+        int count = DEFAULT_RECORD_COUNT;
+        List<String> properties = new ArrayList<>();
+        Matcher combined = COMBINED_PROMPT.matcher(prompt);
+        Matcher more = MORE_PROMPT.matcher(prompt);
+        if (combined.find()) {
+            count = Integer.parseInt(combined.group(1));
+            for (int i = 1; i <= Integer.parseInt(combined.group(2)); i++) {
+                properties.add("property" + i);
+            }
+        } else if (more.find()) {
+            count = Integer.parseInt(more.group(1));
+            int marker = prompt.indexOf(PROPERTIES_MARKER);
+            if (marker >= 0) {
+                String list = prompt.substring(marker + PROPERTIES_MARKER.length(), prompt.indexOf('.', marker));
+                Matcher quoted = QUOTED.matcher(list);
+                while (quoted.find()) {
+                    properties.add(quoted.group(1));
+                }
+            }
+        }
+        if (properties.isEmpty()) {
+            properties = List.of("name", "email", "jobRole", "department", "city");
+        }
+
+        for (int i = 0; i < count; i++) {
+            SyntheticEmployee employee = employee(random, today);
+            ObjectNode record = records.addObject();
+            for (int p = 0; p < properties.size(); p++) {
+                record.put(properties.get(p), value(properties.get(p), p, employee, random));
+            }
+        }
+        return records;
+    }
+
+    // Known property names get matching values; unknown ones (property1..N) cycle through employee attributes
+    private static String value(String property, int position, SyntheticEmployee employee, SplittableRandom random) {
+        String key = property.toLowerCase().replaceAll("[^a-z]", "");
+        return switch (key) {
+            case "name", "fullname" -> employee.name();
+            case "email" -> employee.name().toLowerCase().replace(' ', '.') + "@example.com";
+            case "jobrole", "role", "title", "jobtitle" -> employee.jobRole();
+            case "gender" -> employee.gender();
+            case "dateofbirth", "dob", "birthdate" -> employee.dateOfBirth().toString();
+            case "city", "location" -> CITIES[random.nextInt(CITIES.length)];
+            case "department", "team" -> DEPARTMENTS[random.nextInt(DEPARTMENTS.length)];
+            case "skill", "skills" -> SKILLS.get(random.nextInt(SKILLS.size()));
+            default -> switch (position % 5) {
+                case 0 -> employee.name();
+                case 1 -> employee.jobRole();
+                case 2 -> DEPARTMENTS[random.nextInt(DEPARTMENTS.length)];
+                case 3 -> CITIES[random.nextInt(CITIES.length)];
+                default -> employee.dateOfBirth().toString();
+            };
+        };
+    }
+
+    private static String pick(SplittableRandom random, List<String> values) {
+        return values.get(random.nextInt(values.size()));
+    }
+
+    private static String weighted(SplittableRandom random, String[] values, int[] weights) {
+        int total = 0;
+        for (int weight : weights) {
+            total += weight;
+        }
+        int roll = random.nextInt(total);
+        for (int i = 0; i < values.length; i++) {
+            roll -= weights[i];
+            if (roll < 0) {
+                return values[i];
+            }
+        }
+        return values[values.length - 1];
+    }
+}
@@ -0,0 +1,369 @@
+// src/main/java/com/example/service/SyntheticDataLoader.java
+package com.example.service;
+
+import com.example.dto.SyntheticLoadResultDto;
+import com.example.exception.InvalidInputException;
+import com.example.service.SyntheticDataGenerator.SyntheticEmployee;
+import com.example.service.SyntheticDataGenerator.SyntheticProject;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Fills the database with synthetic employees, projects and skills straight through JDBC, without the AI
+ * provider or the persistence context. Projects and missing catalog skills are written first; employees are
+ * then split into fixed-size blocks that run in parallel, each on its own connection and transaction with
+ * batched inserts into EMPLOYEE_TBL and both join tables. Every block draws from its own random stream, so a
+ * seed always produces the same rows regardless of thread count or scheduling; only the IDs differ between runs.
+ */
+@Service
+@Slf4j
+public class SyntheticDataLoader {
+
+    // Employee IDs come from EMPLOYEE_SEQ like Hibernate's pooled optimizer: each value v covers (v - 50, v].
+    // Values whose range would dip below the sequence start are skipped, since Hibernate claims those itself.
+    private static final String NEXT_EMPLOYEE_ID_BLOCK = "SELECT NEXT VALUE FOR EMPLOYEE_SEQ";
+    private static final int EMPLOYEE_ID_BLOCK = 50;
+    private static final long FIRST_EMPLOYEE_ID = 1000;
+
+    private static final String INSERT_EMPLOYEE = "INSERT INTO EMPLOYEE_TBL "
+            + "(EMPLOYEE_ID, NAME, DATE_OF_BIRTH, AVATAR_URL, JOB_ROLE, GENDER, AGE, EMAIL) VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_EMPLOYEE_SKILL = "INSERT INTO EMPLOYEE_SKILL_TBL (EMPLOYEE_ID, SKILL_ID) VALUES (?, ?)";
+    private static final String INSERT_EMPLOYEE_PROJECT = "INSERT INTO EMPLOYEE_PROJECT_TBL (EMPLOYEE_ID, PROJECT_ID) VALUES (?, ?)";
+    private static final String INSERT_PROJECT = "INSERT INTO PROJECT_TBL (PROJECT_NAME, DESCRIPTION) VALUES (?, ?)";
+    private static final String INSERT_PROJECT_SKILL = "INSERT INTO PROJECT_SKILL_TBL (PROJECT_ID, SKILL_ID) VALUES (?, ?)";
+    private static final String INSERT_SKILL = "INSERT INTO SKILL_TBL (NAME) VALUES (?)";
+    private static final String SELECT_SKILLS = "SELECT SKILL_ID, NAME FROM SKILL_TBL";
+
+    private static final long PROJECT_STREAM = -1;   // Random stream for the project list; employee blocks use 0..n
+
+    private final DataSource dataSource;
+    private final SyntheticDataGenerator generator;
+    private final EmployeeService employeeService;
+    private final TotalCountCache totalCountCache;
+    private final EntityManagerFactory entityManagerFactory;
+    private final int threads;
+    private final int blockSize;
+    private final int batchSize;
+    private final long maxEmployees;
+
+    public SyntheticDataLoader(DataSource dataSource,
+                               SyntheticDataGenerator generator,
+                               EmployeeService employeeService,
+                               TotalCountCache totalCountCache,
+                               EntityManagerFactory entityManagerFactory,
+                               @Value("${synthetic.threads:2}") int threads,
+                               @Value("${synthetic.block-size:5000}") int blockSize,
+                               @Value("${synthetic.batch-size:500}") int batchSize,
+                               @Value("${synthetic.max-employees:10000000}") long maxEmployees) {
+        if (threads <= 0 || blockSize <= 0 || batchSize <= 0) {
+            throw new IllegalArgumentException("synthetic.threads, synthetic.block-size and synthetic.batch-size must be positive.");
+        }
+        this.dataSource = dataSource;
+        this.generator = generator;
+        this.employeeService = employeeService;
+        this.totalCountCache = totalCountCache;
+        this.entityManagerFactory = entityManagerFactory;
+        this.threads = threads;
+        this.blockSize = blockSize;
+        this.batchSize = batchSize;
+        this.maxEmployees = maxEmployees;
+    }
+
+    private record ProjectPool(long[] ids, long[] cumulativeTeamSizes) {
+    }
+
+    private record BlockResult(long employees, long skillLinks, long projectLinks) {
+    }
+
+    public SyntheticLoadResultDto load(long employeeCount, int projectCount, long seed) {
+        if (employeeCount < 0 || employeeCount > maxEmployees) {
+            throw new InvalidInputException("Employee count must be between 0 and " + maxEmployees + ".");
+        }
+        if (projectCount < 0) {
+            throw new InvalidInputException("Project count cannot be negative.");
+        }
+        long start = System.nanoTime();
+        LocalDate today = LocalDate.now();
+
+        long[] skillIds = new long[SyntheticDataGenerator.SKILLS.size()];
+        long skillsAdded;
+        ProjectPool projects;
+        long projectSkillLinks;
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            skillsAdded = ensureSkills(connection, skillIds);
+            long[] projectIds = new long[projectCount];
+            long[] cumulativeTeamSizes = new long[projectCount];
+            projectSkillLinks = insertProjects(connection, seed, projectIds, cumulativeTeamSizes, skillIds);
+            connection.commit();
+            projects = new ProjectPool(projectIds, cumulativeTeamSizes);
+        } catch (SQLException e) {
+            throw new IllegalStateException("Could not write synthetic projects and skills: " + e.getMessage(), e);
+        }
+
+        BlockResult total = loadEmployees(employeeCount, seed, today, skillIds, projects);
+
+        // Rows were written behind JPA's back: drop cached totals and second-level cache entries
+        totalCountCache.invalidateAll();
+        entityManagerFactory.getCache().evictAll();
+
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        long perSecond = elapsedMillis == 0 ? total.employees() : total.employees() * 1000 / elapsedMillis;
+        log.info("Synthetic load (seed {}): {} employees, {} projects, {} new skills in {} ms ({} employees/s)",
+                seed, total.employees(), projectCount, skillsAdded, elapsedMillis, perSecond);
+        return new SyntheticLoadResultDto(seed, total.employees(), projectCount, skillsAdded, total.skillLinks(),
+                total.projectLinks(), projectSkillLinks, elapsedMillis, perSecond);
+    }
+
+    private BlockResult loadEmployees(long employeeCount, long seed, LocalDate today, long[] skillIds, ProjectPool projects) {
+        long blocks = (employeeCount + blockSize - 1) / blockSize;
+        ExecutorService executor = Executors.newFixedThreadPool((int) Math.max(1, Math.min(threads, blocks)));
+        try {
+            List<Future<BlockResult>> results = new ArrayList<>();
+            for (long block = 0; block < blocks; block++) {
+                long index = block;
+                int size = (int) Math.min(blockSize, employeeCount - block * blockSize);
+                results.add(executor.submit(() -> writeBlock(index, size, seed, today, skillIds, projects)));
+            }
+            long employees = 0;
+            long skillLinks = 0;
+            long projectLinks = 0;
+            for (Future<BlockResult> result : results) {
+                BlockResult block = result.get();
+                employees += block.employees();
+                skillLinks += block.skillLinks();
+                projectLinks += block.projectLinks();
+            }
+            return new BlockResult(employees, skillLinks, projectLinks);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Synthetic load was interrupted.", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Synthetic load failed: " + e.getCause().getMessage(), e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    // One block, one transaction: a failed block rolls back alone and fails the load
+    private BlockResult writeBlock(long block, int size, long seed, LocalDate today, long[] skillIds, ProjectPool projects) throws SQLException {
+        SplittableRandom random = SyntheticDataGenerator.random(seed, block);
+        long skillLinks = 0;
+        long projectLinks = 0;
+
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            try (PreparedStatement employees = connection.prepareStatement(INSERT_EMPLOYEE);
+                 PreparedStatement employeeSkills = connection.prepareStatement(INSERT_EMPLOYEE_SKILL);
+                 PreparedStatement employeeProjects = connection.prepareStatement(INSERT_EMPLOYEE_PROJECT)) {
+                long[] ids = reserveEmployeeIds(connection, size);
+                for (int i = 0; i < size; i++) {
+                    SyntheticEmployee employee = generator.employee(random, today);
+                    employees.setLong(1, ids[i]);
+                    employees.setString(2, employee.name());
+                    employees.setDate(3, Date.valueOf(employee.dateOfBirth()));
+                    employees.setString(4, employee.avatarUrl());
+                    employees.setString(5, employee.jobRole());
+                    employees.setString(6, employee.gender());
+                    employees.setInt(7, employeeService.calculateAge(employee.dateOfBirth()));
+                    employees.setString(8, employeeService.generateEmail(employee.name()));
+                    employees.addBatch();
+
+                    for (int skill : distinctPicks(random, generator.skillsPerEmployee(random), skillIds.length)) {
+                        employeeSkills.setLong(1, ids[i]);
+                        employeeSkills.setLong(2, skillIds[skill]);
+                        employeeSkills.addBatch();
+                        skillLinks++;
+                    }
+                    for (long projectId : pickProjects(random, generator.projectsPerEmployee(random), projects)) {
+                        employeeProjects.setLong(1, ids[i]);
+                        employeeProjects.setLong(2, projectId);
+                        employeeProjects.addBatch();
+                        projectLinks++;
+                    }
+
+                    if ((i + 1) % batchSize == 0 || i == size - 1) {
+                        // Parents first, so the join rows' foreign keys resolve
+                        employees.executeBatch();
+                        employeeSkills.executeBatch();
+                        employeeProjects.executeBatch();
+                    }
+                }
+                connection.commit();
+            } catch (SQLException | RuntimeException e) {
+                connection.rollback();
+                throw e;
+            }
+        }
+        return new BlockResult(size, skillLinks, projectLinks);
+    }
+
+    private long[] reserveEmployeeIds(Connection connection, int count) throws SQLException {
+        long[] ids = new long[count];
+        int filled = 0;
+        try (PreparedStatement nextBlock = connection.prepareStatement(NEXT_EMPLOYEE_ID_BLOCK)) {
+            while (filled < count) {
+                long high;
+                try (ResultSet resultSet = nextBlock.executeQuery()) {
+                    resultSet.next();
+                    high = resultSet.getLong(1);
+                }
+                long low = high - EMPLOYEE_ID_BLOCK + 1;
+                if (low < FIRST_EMPLOYEE_ID) {
+                    continue;
+                }
+                for (long id = low; id <= high && filled < count; id++) {
+                    ids[filled++] = id;
+                }
+            }
+        }
+        return ids;
+    }
+
+    // Looks up every catalog skill by name, inserting the missing ones; fills skillIds in catalog order
+    private long ensureSkills(Connection connection, long[] skillIds) throws SQLException {
+        Map<String, Long> existing = new HashMap<>();
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(SELECT_SKILLS)) {
+            while (resultSet.next()) {
+                existing.put(resultSet.getString(2), resultSet.getLong(1));
+            }
+        }
+
+        List<String> catalog = SyntheticDataGenerator.SKILLS;
+        List<Integer> missing = new ArrayList<>();
+        for (int i = 0; i < catalog.size(); i++) {
+            Long id = existing.get(catalog.get(i));
+            if (id == null) {
+                missing.add(i);
+            } else {
+                skillIds[i] = id;
+            }
+        }
+        if (missing.isEmpty()) {
+            return 0;
+        }
+        try (PreparedStatement insert = connection.prepareStatement(INSERT_SKILL, new String[]{"SKILL_ID"})) {
+            for (int index : missing) {
+                insert.setString(1, catalog.get(index));
+                insert.addBatch();
+            }
+            insert.executeBatch();
+            try (ResultSet keys = insert.getGeneratedKeys()) {
+                for (int index : missing) {
+                    keys.next();
+                    skillIds[index] = keys.getLong(1);
+                }
+            }
+        }
+        return missing.size();
+    }
+
+    // Projects get their IDs from the identity column; returns the number of project-skill links written
+    private long insertProjects(Connection connection, long seed, long[] projectIds, long[] cumulativeTeamSizes,
+                                long[] skillIds) throws SQLException {
+        if (projectIds.length == 0) {
+            return 0;
+        }
+        SplittableRandom random = SyntheticDataGenerator.random(seed, PROJECT_STREAM);
+        try (PreparedStatement insert = connection.prepareStatement(INSERT_PROJECT, new String[]{"PROJECT_ID"})) {
+            long teamSizes = 0;
+            for (int i = 0; i < projectIds.length; i++) {
+                SyntheticProject project = generator.project(random, i);
+                insert.setString(1, project.name());
+                insert.setString(2, project.description());
+                insert.addBatch();
+                teamSizes += project.targetTeamSize();
+                cumulativeTeamSizes[i] = teamSizes;
+            }
+            insert.executeBatch();
+            try (ResultSet keys = insert.getGeneratedKeys()) {
+                for (int i = 0; i < projectIds.length; i++) {
+                    keys.next();
+                    projectIds[i] = keys.getLong(1);
+                }
+            }
+        }
+
+        long links = 0;
+        try (PreparedStatement insert = connection.prepareStatement(INSERT_PROJECT_SKILL)) {
+            for (long projectId : projectIds) {
+                for (int skill : distinctPicks(random, generator.skillsPerProject(random), skillIds.length)) {
+                    insert.setLong(1, projectId);
+                    insert.setLong(2, skillIds[skill]);
+                    insert.addBatch();
+                    links++;
+                }
+            }
+            insert.executeBatch();
+        }
+        return links;
+    }
+
+    // Up to count distinct indexes, skewed towards the popular end of the catalog
+    private int[] distinctPicks(SplittableRandom random, int count, int size) {
+        int[] picks = new int[Math.min(count, size)];
+        int picked = 0;
+        while (picked < picks.length) {
+            int candidate = generator.skewedIndex(random, size);
+            if (!contains(picks, picked, candidate)) {
+                picks[picked++] = candidate;
+            }
+        }
+        return picks;
+    }
+
+    // Projects are chosen in proportion to their target team size, so team sizes follow the generated distribution
+    private long[] pickProjects(SplittableRandom random, int count, ProjectPool projects) {
+        long[] ids = projects.ids();
+        if (ids.length == 0 || count == 0) {
+            return new long[0];
+        }
+        long[] cumulative = projects.cumulativeTeamSizes();
+        int[] picks = new int[Math.min(count, ids.length)];
+        int picked = 0;
+        while (picked < picks.length) {
+            int found = Arrays.binarySearch(cumulative, random.nextLong(cumulative[cumulative.length - 1]) + 1);
+            int candidate = found >= 0 ? found : -found - 1;
+            if (!contains(picks, picked, candidate)) {
+                picks[picked++] = candidate;
+            }
+        }
+        long[] picksIds = new long[picks.length];
+        for (int i = 0; i < picks.length; i++) {
+            picksIds[i] = ids[picks[i]];
+        }
+        return picksIds;
+    }
+
+    private static boolean contains(int[] values, int length, int value) {
+        for (int i = 0; i < length; i++) {
+            if (values[i] == value) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,79 @@
+// src/main/java/com/example/service/TotalCountCache.java
+package com.example.service;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.LongSupplier;
+
+/**
+ * Approximate row counts for paged list endpoints. A COUNT(*) runs at most once per key per TTL
+ * instead of once per request. When a slice reaches the end of the table the exact total is already
+ * known from the slice itself, so that value is used and cached without touching the database.
+ */
+@Component
+public class TotalCountCache {
+
+    // Futures, so the COUNT(*) runs outside the cache's lock: concurrent callers for a key wait on the same
+    // future instead of on a map bin, and other keys are never blocked. Failed counts are not cached.
+    private final AsyncCache<String, Long> totals;
+
+    public TotalCountCache(@Value("${pagination.total-count.ttl-seconds:30}") long ttlSeconds) {
+        this.totals = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .buildAsync();
+    }
+
+    public long getTotal(String key, LongSupplier counter) {
+        CompletableFuture<Long> pending = new CompletableFuture<>();
+        CompletableFuture<Long> total = totals.get(key, (k, executor) -> pending);
+        // Only the caller whose future was stored counts, on its own thread; an invalidate() meanwhile drops it
+        if (total == pending) {
+            try {
+                pending.complete(counter.getAsLong());
+            } catch (RuntimeException e) {
+                pending.completeExceptionally(e);
+            }
+        }
+        try {
+            return total.join();
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException cause ? cause : e;
+        }
+    }
+
+    public void invalidate(String key) {
+        totals.synchronous().invalidate(key);
+    }
+
+    // For writers that bypass the services, e.g. bulk loads through plain JDBC
+    public void invalidateAll() {
+        totals.synchronous().invalidateAll();
+    }
+
+    // Turns a count-free slice into a page whose total is exact on the last page and cached otherwise
+    public <T> Page<T> toPage(String key, Slice<T> slice, LongSupplier counter) {
+        Pageable pageable = slice.getPageable();
+        long offset = pageable.isPaged() ? pageable.getOffset() : 0;
+        long seen = offset + slice.getNumberOfElements();
+
+        long total;
+        if (!slice.hasNext() && (slice.hasContent() || offset == 0)) {
+            total = seen;
+            totals.put(key, CompletableFuture.completedFuture(total));
+        } else {
+            // The cached value may be stale; never report fewer rows than this request has proven exist
+            total = Math.max(getTotal(key, counter), slice.hasNext() ? seen + 1 : seen);
+        }
+        return new PageImpl<>(slice.getContent(), pageable, total);
+    }
+}
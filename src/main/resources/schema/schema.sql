@@ -12,6 +12,9 @@ CREATE TABLE IF NOT EXISTS EMPLOYEE_TBL (
                                             EMAIL VARCHAR(255)
 );
 
+-- Pooled ID sequence for EMPLOYEE_TBL; starts past the seed rows inserted by data.sql
+CREATE SEQUENCE IF NOT EXISTS EMPLOYEE_SEQ START WITH 1000 INCREMENT BY 50;
+
 -- Existing Project Table Creation
 CREATE TABLE IF NOT EXISTS PROJECT_TBL (
                                            PROJECT_ID BIGINT PRIMARY KEY AUTO_INCREMENT,
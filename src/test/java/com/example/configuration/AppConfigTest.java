@@ -0,0 +1,125 @@
+// src/test/java/com/example/configuration/AppConfigTest.java
+package com.example.configuration;
+
+import com.example.dto.HttpPoolStatsDto;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Calls a local HTTP stub through the WebClient that AppConfig builds.
+ */
+class AppConfigTest {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withUserConfiguration(AppConfig.class, OutboundHttpPoolMetrics.class)
+            .withBean(SimpleMeterRegistry.class)
+            .withPropertyValues("ai.http.response-timeout-ms=300");
+
+    private volatile String acceptEncoding;
+    private HttpServer server;
+    private String baseUrl;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.createContext("/ok", exchange -> {
+            acceptEncoding = exchange.getRequestHeaders().getFirst("Accept-Encoding");
+            respond(exchange, "ok");
+        });
+        server.createContext("/slow", exchange -> {
+            try {
+                Thread.sleep(2000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            respond(exchange, "late");
+        });
+        server.start();
+        baseUrl = "http://localhost:" + server.getAddress().getPort();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    void testWebClient_ReusesPooledConnectionAndRequestsGzip() {
+        contextRunner.withPropertyValues("openai.api.base-url=" + baseUrl).run(context -> {
+            // Arrange
+            WebClient webClient = context.getBean(WebClient.class);
+            OutboundHttpPoolMetrics poolMetrics = context.getBean(OutboundHttpPoolMetrics.class);
+
+            // Act
+            String first = webClient.get().uri(baseUrl + "/ok").retrieve().bodyToMono(String.class).block();
+            // The connection goes back to the pool just after the body completes; wait for it before reusing
+            awaitReleased(poolMetrics);
+            String second = webClient.get().uri(baseUrl + "/ok").retrieve().bodyToMono(String.class).block();
+            awaitReleased(poolMetrics);
+
+            // Assert
+            assertEquals("ok", first);
+            assertEquals("ok", second);
+            assertTrue(acceptEncoding != null && acceptEncoding.contains("gzip"), "Client should ask for gzip.");
+            List<HttpPoolStatsDto> pools = poolMetrics.stats();
+            assertEquals(1, pools.size(), "One pool should be opened for the stub host.");
+            assertEquals(1, pools.get(0).getAllocated(), "Both calls should share one kept-alive connection.");
+            assertEquals(0, pools.get(0).getAcquired(), "The connection should be back in the pool.");
+            Gauge total = context.getBean(MeterRegistry.class).find("reactor.netty.connection.provider.total.connections")
+                    .tag("name", "outbound-http")
+                    .gauge();
+            assertNotNull(total, "Pool gauges should be published to the meter registry.");
+            assertEquals(1, total.value(), "The gauge should read the live pool.");
+        });
+    }
+
+    @Test
+    void testWebClient_FailsWhenResponseExceedsTimeout() {
+        contextRunner.run(context -> {
+            WebClient webClient = context.getBean(WebClient.class);
+
+            long start = System.nanoTime();
+            assertThrows(WebClientRequestException.class,
+                    () -> webClient.get().uri(baseUrl + "/slow").retrieve().bodyToMono(String.class).block());
+            long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+            assertTrue(elapsedMillis < 2000, "A stuck upstream should fail at the response timeout, not hang.");
+        });
+    }
+
+    private static void awaitReleased(OutboundHttpPoolMetrics poolMetrics) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 2000;
+        while (System.currentTimeMillis() < deadline
+                && poolMetrics.stats().stream().anyMatch(pool -> pool.getAcquired() > 0)) {
+            Thread.sleep(10);
+        }
+    }
+
+    private static void respond(HttpExchange exchange, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "text/plain");
+        exchange.sendResponseHeaders(200, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+}
@@ -0,0 +1,58 @@
+// src/test/java/com/example/configuration/MetricsConfigTest.java
+package com.example.configuration;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Full application on a random port: one request to a {@code @Timed} service must show up as a service.calls
+ * timer, a repository.calls.per.request sample and in the Prometheus scrape.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {"OPENAI_API_KEY=test-key", "sql.slow-query.log-dir=target/logs"})
+@AutoConfigureObservability(tracing = false)
+class MetricsConfigTest {
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void testGetEmployeeById_RecordsServiceTimerRepositoryCallsAndScrape() {
+        // Act
+        ResponseEntity<String> response = restTemplate.getForEntity("/api/employees/{id}", String.class, 1);
+
+        // Assert
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+
+        Timer serviceTimer = meterRegistry.find("service.calls")
+                .tag("class", "com.example.service.EmployeeService")
+                .tag("method", "getEmployeeById")
+                .timer();
+        assertNotNull(serviceTimer, "TimedAspect should time EmployeeService.getEmployeeById.");
+        assertTrue(serviceTimer.count() >= 1, "The service call should be counted.");
+
+        DistributionSummary repositoryCalls = meterRegistry.find("repository.calls.per.request")
+                .tag("method", "GET")
+                .tag("uri", "/api/employees/{id}")
+                .summary();
+        assertNotNull(repositoryCalls, "The request should record its repository calls under the URI template.");
+        assertTrue(repositoryCalls.totalAmount() >= 1, "The employee lookup should count at least one repository call.");
+
+        ResponseEntity<String> scrape = restTemplate.getForEntity("/actuator/prometheus", String.class);
+        assertEquals(HttpStatus.OK, scrape.getStatusCode(), "The Prometheus endpoint should be exposed.");
+        assertTrue(scrape.getBody().contains("service_calls_seconds_count{"), "The scrape should include service.calls.");
+        assertTrue(scrape.getBody().contains("repository_calls_per_request_count{"), "The scrape should include repository.calls.per.request.");
+    }
+}
@@ -0,0 +1,138 @@
+// src/test/java/com/example/configuration/SlowQueryLogTest.java
+package com.example.configuration;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import com.example.dto.QueryShapeStatsDto;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs statements through the proxy against a private in-memory H2 database.
+ */
+class SlowQueryLogTest {
+
+    private final Logger slowQueryLogger = (Logger) LoggerFactory.getLogger("slow-query");
+    private final ListAppender<ILoggingEvent> appender = new ListAppender<>();
+
+    private SlowQueryLog slowQueryLog;
+
+    @BeforeEach
+    void setUp() {
+        appender.start();
+        slowQueryLogger.addAppender(appender);
+    }
+
+    @AfterEach
+    void tearDown() {
+        slowQueryLogger.detachAppender(appender);
+        slowQueryLog.close();
+    }
+
+    @Test
+    void testTopShapes_MergesStatementsThatDifferOnlyInLiterals() throws SQLException {
+        // Arrange
+        slowQueryLog = new SlowQueryLog(Long.MAX_VALUE, 100, null);
+        DataSource dataSource = slowQueryLog.wrap(h2("shapes"));
+
+        // Act
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE T (ID INT PRIMARY KEY, NAME VARCHAR(20))");
+            statement.execute("INSERT INTO T VALUES (1, 'a')");
+            statement.execute("INSERT INTO T VALUES (2, 'b')");
+            statement.execute("SELECT NAME FROM T WHERE ID = 1");
+        }
+        List<QueryShapeStatsDto> shapes = slowQueryLog.topShapes(10, "total");
+
+        // Assert
+        QueryShapeStatsDto insert = shapes.stream().filter(shape -> shape.getShape().startsWith("INSERT")).findFirst().orElseThrow();
+        assertEquals("INSERT INTO T VALUES (?, ?)", insert.getShape(), "Literals should be replaced in the shape.");
+        assertEquals(2, insert.getExecutions(), "Both inserts should be merged into one shape.");
+        assertEquals(3, shapes.size(), "CREATE, INSERT and SELECT shapes expected.");
+        assertTrue(appender.list.isEmpty(), "Nothing should be logged below the threshold.");
+    }
+
+    @Test
+    void testSlowStatement_LoggedWithBindTypesAndPlan() throws Exception {
+        // Arrange
+        slowQueryLog = new SlowQueryLog(0, 100, new SingleConnectionDataSource(url("plans"), "sa", "", true));
+        DataSource dataSource = slowQueryLog.wrap(h2("plans"));
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE T (ID INT PRIMARY KEY, NAME VARCHAR(20))");
+        }
+        appender.list.clear();
+
+        // Act
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement("SELECT NAME FROM T WHERE ID = ? AND NAME = ?")) {
+            statement.setInt(1, 42);
+            statement.setString(2, "Jane Doe");
+            statement.executeQuery().close();
+        }
+
+        // Assert
+        String entry = awaitEntry("SELECT NAME FROM T WHERE ID = ? AND NAME = ?");
+        assertTrue(entry.contains("Bind types: [Integer, String]"), "Bind types should be logged: " + entry);
+        assertFalse(entry.contains("42") || entry.contains("Jane Doe"), "Bind values must not be logged: " + entry);
+        assertTrue(entry.contains("Plan: ") && !entry.contains("unavailable"), "The H2 plan should be logged: " + entry);
+        assertEquals(1, slowQueryLog.topShapes(1, "max").size(), "Limit should be applied.");
+    }
+
+    @Test
+    void testRecord_StopsAggregatingWhenFull() throws SQLException {
+        // Arrange
+        slowQueryLog = new SlowQueryLog(Long.MAX_VALUE, 2, null);
+        DataSource dataSource = slowQueryLog.wrap(h2("full"));
+
+        // Act
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+            statement.execute("SELECT 1");
+            statement.execute("SELECT 1 + 1");
+            statement.execute("SELECT 1 + 1 + 1");
+        }
+        long aggregated = slowQueryLog.topShapes(10, "total").stream().mapToLong(QueryShapeStatsDto::getExecutions).sum();
+        slowQueryLog.reset();
+
+        // Assert
+        assertEquals(2, aggregated, "Only the first two distinct statements should be aggregated.");
+        assertTrue(slowQueryLog.topShapes(10, "total").isEmpty(), "Reset should clear the statistics.");
+    }
+
+    private String awaitEntry(String sql) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (System.currentTimeMillis() < deadline) {
+            for (ILoggingEvent event : List.copyOf(appender.list)) {
+                if (event.getFormattedMessage().contains(sql)) {
+                    return event.getFormattedMessage();
+                }
+            }
+            Thread.sleep(20);
+        }
+        return fail("No slow-query entry for " + sql);
+    }
+
+    private static DataSource h2(String name) {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL(url(name));
+        dataSource.setUser("sa");
+        return dataSource;
+    }
+
+    private static String url(String name) {
+        return "jdbc:h2:mem:slow_query_" + name + ";DB_CLOSE_DELAY=-1";
+    }
+}
@@ -0,0 +1,45 @@
+// src/test/java/com/example/configuration/SqlStatementBudgetTest.java
+package com.example.configuration;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SqlStatementBudgetTest {
+
+    @Test
+    void testPreHandle_DisabledBudgetOpensNoScope() {
+        // Arrange
+        SqlStatementBudget budget = new SqlStatementBudget(false, 20, 5, true);
+        MockHttpServletRequest request = new MockHttpServletRequest();
+
+        // Act
+        budget.preHandle(request, new MockHttpServletResponse(), null);
+
+        // Assert
+        assertTrue(Collections.list(request.getAttributeNames()).isEmpty(), "No counting scope should be opened.");
+        assertFalse(budget.supports(null, null), "No header should be written while the budget is disabled.");
+    }
+
+    @Test
+    void testPreHandle_EnabledBudgetOpensAndClosesScope() {
+        // Arrange
+        SqlStatementBudget budget = new SqlStatementBudget(true, 20, 5, true);
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // Act
+        budget.preHandle(request, response, null);
+        boolean opened = request.getAttributeNames().hasMoreElements();
+        budget.afterCompletion(request, response, null, null);
+
+        // Assert
+        assertTrue(opened, "A counting scope should be opened per request.");
+        assertFalse(request.getAttributeNames().hasMoreElements(), "The scope should be closed after completion.");
+        assertTrue(budget.supports(null, null), "The header should be written when enabled.");
+    }
+}
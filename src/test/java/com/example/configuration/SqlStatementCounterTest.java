@@ -0,0 +1,74 @@
+// src/test/java/com/example/configuration/SqlStatementCounterTest.java
+package com.example.configuration;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SqlStatementCounterTest {
+
+    private final SqlStatementCounter counter = new SqlStatementCounter();
+
+    @Test
+    void testShapeOf_ReplacesLiteralsAndCollapsesInLists() {
+        // Act
+        String shape = SqlStatementCounter.shapeOf("select e1_0.name\n  from employee_tbl e1_0\n where e1_0.employee_id in (?, ?, ?)\n   and e1_0.name = 'O''Brien' and e1_0.age > 30");
+
+        // Assert
+        assertEquals("select e1_0.name from employee_tbl e1_0 where e1_0.employee_id in (?...) and e1_0.name = ? and e1_0.age > ?", shape,
+                "Literals, IN lists and whitespace should be normalized, aliases kept.");
+    }
+
+    @Test
+    void testInspect_CountsPerShapeInsideScope() {
+        // Arrange
+        String lookup = "select * from project_tbl where project_id = ?";
+
+        // Act
+        SqlStatementCounter.Scope scope = SqlStatementCounter.open();
+        try {
+            counter.inspect(lookup);
+            counter.inspect(lookup);
+            counter.inspect("select count(*) from employee_tbl");
+        } finally {
+            scope.close();
+        }
+
+        // Assert
+        assertEquals(3, scope.count(), "Statement count mismatch.");
+        assertEquals(2, scope.maxRepeats(), "The repeated lookup should be counted under one shape.");
+        assertTrue(scope.topShapes(1).startsWith("2x select * from project_tbl"), "Most repeated shape should come first.");
+    }
+
+    @Test
+    void testInspect_NestedScopeAlsoCountsInParent() {
+        // Arrange
+        SqlStatementCounter.Scope outer = SqlStatementCounter.open();
+        try {
+            counter.inspect("select 1");
+
+            // Act
+            SqlStatementCounter.Scope inner = SqlStatementCounter.open();
+            counter.inspect("select 2");
+            inner.close();
+
+            // Assert
+            assertEquals(1, inner.count(), "Inner scope should only see its own statement.");
+            assertEquals(2, outer.count(), "Outer scope should see both statements.");
+            assertSame(outer, SqlStatementCounter.current(), "Closing the inner scope should restore the outer one.");
+        } finally {
+            outer.close();
+        }
+        assertNull(SqlStatementCounter.current(), "No scope should remain open.");
+    }
+
+    @Test
+    void testInspect_OutsideScopeReturnsSqlUnchanged() {
+        // Arrange
+        String sql = "select * from skill_tbl where name = 'Java'";
+
+        // Act & Assert
+        assertSame(sql, counter.inspect(sql), "The inspector must never rewrite SQL.");
+        assertNull(SqlStatementCounter.current(), "Inspecting must not open a scope.");
+    }
+}
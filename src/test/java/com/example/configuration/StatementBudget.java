@@ -0,0 +1,27 @@
+// src/test/java/com/example/configuration/StatementBudget.java
+package com.example.configuration;
+
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Fails a test that runs more SQL statements than {@link #value()}, or repeats one query shape more than
+ * {@link #maxRepeats()} times, while the test method itself executes (set-up in @BeforeEach is not counted).
+ * MockMvc requests run on the test thread, so controller tests backed by real services are measured end to end.
+ * On a class, applies to every test method that has no annotation of its own.
+ */
+@Target({ElementType.METHOD, ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+@ExtendWith(StatementBudgetExtension.class)
+public @interface StatementBudget {
+
+    // Most statements the test may run
+    int value();
+
+    // Most executions of a single query shape; 1 forbids any repeated statement
+    int maxRepeats() default Integer.MAX_VALUE;
+}
@@ -0,0 +1,66 @@
+// src/test/java/com/example/configuration/StatementBudgetExtension.java
+package com.example.configuration;
+
+import org.junit.jupiter.api.extension.AfterTestExecutionCallback;
+import org.junit.jupiter.api.extension.BeforeTestExecutionCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.ParameterContext;
+import org.junit.jupiter.api.extension.ParameterResolver;
+import org.junit.platform.commons.support.AnnotationSupport;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Opens a {@link SqlStatementCounter} scope around each test method and checks it against {@link StatementBudget}.
+ * Test methods can also declare a {@link SqlStatementCounter.Scope} parameter to assert on the counts themselves.
+ */
+public class StatementBudgetExtension implements BeforeTestExecutionCallback, AfterTestExecutionCallback, ParameterResolver {
+
+    private static final ExtensionContext.Namespace NAMESPACE = ExtensionContext.Namespace.create(StatementBudgetExtension.class);
+    private static final int REPORTED_SHAPES = 5;
+
+    @Override
+    public void beforeTestExecution(ExtensionContext context) {
+        context.getStore(NAMESPACE).put(context.getUniqueId(), SqlStatementCounter.open());
+    }
+
+    @Override
+    public void afterTestExecution(ExtensionContext context) {
+        SqlStatementCounter.Scope scope = context.getStore(NAMESPACE).remove(context.getUniqueId(), SqlStatementCounter.Scope.class);
+        if (scope == null) {
+            return;
+        }
+        scope.close();
+        // A failing test reports its own error, not the budget
+        if (context.getExecutionException().isPresent()) {
+            return;
+        }
+        Optional<StatementBudget> budget = findBudget(context);
+        if (budget.isEmpty()) {
+            return;
+        }
+        String shapes = System.lineSeparator() + scope.topShapes(REPORTED_SHAPES);
+        assertTrue(scope.count() <= budget.get().value(),
+                "Expected at most " + budget.get().value() + " SQL statements but got " + scope.count() + ":" + shapes);
+        assertTrue(scope.maxRepeats() <= budget.get().maxRepeats(),
+                "Expected no query shape more than " + budget.get().maxRepeats() + " times (N+1?) but one ran "
+                        + scope.maxRepeats() + " times:" + shapes);
+    }
+
+    @Override
+    public boolean supportsParameter(ParameterContext parameterContext, ExtensionContext extensionContext) {
+        return parameterContext.getParameter().getType() == SqlStatementCounter.Scope.class;
+    }
+
+    @Override
+    public Object resolveParameter(ParameterContext parameterContext, ExtensionContext extensionContext) {
+        return extensionContext.getStore(NAMESPACE).get(extensionContext.getUniqueId(), SqlStatementCounter.Scope.class);
+    }
+
+    private static Optional<StatementBudget> findBudget(ExtensionContext context) {
+        Optional<StatementBudget> onMethod = AnnotationSupport.findAnnotation(context.getRequiredTestMethod(), StatementBudget.class);
+        return onMethod.isPresent() ? onMethod : AnnotationSupport.findAnnotation(context.getRequiredTestClass(), StatementBudget.class);
+    }
+}
@@ -1,14 +1,19 @@
 package com.example.controller;
 
 import com.example.dto.GenerateMoreRequestDto;
+import com.example.dto.GeneratedRecordsDto;
 import com.example.dto.UserInputDto;
 import com.example.service.AIService;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 import java.util.HashMap;
 import java.util.List;
@@ -31,16 +36,16 @@ public class AIControllerTest {
     }
 
     @Test
-    void testGenerateData_validRequest() {
+    void testGenerateData_validRequest() throws Exception {
         UserInputDto requestDto = new UserInputDto();
         // Setup the mock response for aiService
         Map<String, Object> mockResult = new HashMap<>();
         mockResult.put("data", new ObjectMapper().createArrayNode().add("Generated Data 1").add("Generated Data 2"));
 
-        when(aiService.generateTestData(requestDto)).thenReturn(mockResult);
+        when(aiService.generateTestDataAsync(requestDto)).thenReturn(Mono.just(mockResult));
 
         // Call the method and verify the response
-        List<String> response = aiController.generateData(requestDto);
+        List<String> response = writeAndRead(aiController.generateData(requestDto).block());
         assertEquals(2, response.size());
         assertEquals("\"Generated Data 1\"", response.get(0));  // Expect quotes around the string
     }
@@ -55,28 +60,49 @@ public class AIControllerTest {
     }
 
     @Test
-    void testGenerateMoreData_validRequest() {
+    void testGenerateMoreData_validRequest() throws Exception {
         GenerateMoreRequestDto requestDto = new GenerateMoreRequestDto();
         // Setup the mock response for aiService
         Map<String, Object> mockResult = new HashMap<>();
         mockResult.put("data", new ObjectMapper().createArrayNode().add("More Data 1").add("More Data 2"));
 
-        when(aiService.generateMoreTestData(requestDto)).thenReturn(mockResult);
+        when(aiService.generateMoreTestDataAsync(requestDto)).thenReturn(Mono.just(mockResult));
 
         // Call the method and verify the response
-        List<String> response = aiController.generateMoreData(requestDto);
+        List<String> response = writeAndRead(aiController.generateMoreData(requestDto).block());
         assertEquals(2, response.size());
         assertEquals("\"More Data 1\"", response.get(0));  // Expect quotes around the string
     }
 
     @Test
-    void testGenerateMoreData_emptyProperties() {
+    void testGenerateMoreData_emptyProperties() throws Exception {
         GenerateMoreRequestDto requestDto = new GenerateMoreRequestDto();
         // Simulate empty response from the service
-        when(aiService.generateMoreTestData(requestDto)).thenReturn(new HashMap<>());
+        when(aiService.generateMoreTestDataAsync(requestDto)).thenReturn(Mono.just(new HashMap<>()));
 
         // Call the method and verify that it handles empty data gracefully
-        List<String> response = aiController.generateMoreData(requestDto);
+        List<String> response = writeAndRead(aiController.generateMoreData(requestDto).block());
         assertTrue(response.isEmpty());
     }
+
+    @Test
+    void testStreamData_validRequest() {
+        UserInputDto requestDto = new UserInputDto("People", 1, 2);
+        ObjectMapper mapper = new ObjectMapper();
+        when(aiService.streamTestData(requestDto)).thenReturn(Flux.just(
+                mapper.createObjectNode().put("name", "Alice"),
+                mapper.createObjectNode().put("name", "Bob")));
+
+        // Records are passed through as they arrive, one event each
+        List<JsonNode> records = aiController.streamData(requestDto).collectList().block();
+        assertEquals(2, records.size());
+        assertEquals("Alice", records.get(0).get("name").asText());
+    }
+
+    // Serializes the response body the way the message converter does and reads it back as the wire format
+    private static List<String> writeAndRead(GeneratedRecordsDto body) throws Exception {
+        ObjectMapper mapper = new ObjectMapper();
+        return mapper.readValue(mapper.writeValueAsString(body), new TypeReference<List<String>>() {
+        });
+    }
 }
@@ -0,0 +1,54 @@
+// src/test/java/com/example/controller/AdminControllerTest.java
+package com.example.controller;
+
+import com.example.configuration.SlowQueryLog;
+import com.example.dto.QueryShapeStatsDto;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(AdminController.class)
+public class AdminControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private SlowQueryLog slowQueryLog;
+
+    @Test
+    void testGetSlowQueries() throws Exception {
+        QueryShapeStatsDto shape = new QueryShapeStatsDto("select * from employee_tbl where employee_id=?", 4, 800, 200.0, 350, 3);
+        Mockito.when(slowQueryLog.topShapes(5, "max")).thenReturn(List.of(shape));
+
+        mockMvc.perform(get("/api/admin/slow-queries").param("limit", "5").param("orderBy", "max"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].shape").value(shape.getShape()))
+                .andExpect(jsonPath("$[0].maxMillis").value(350))
+                .andExpect(jsonPath("$[0].slowExecutions").value(3));
+    }
+
+    @Test
+    void testGetSlowQueries_InvalidOrder() throws Exception {
+        mockMvc.perform(get("/api/admin/slow-queries").param("orderBy", "name"))
+                .andExpect(status().isBadRequest());
+
+        Mockito.verifyNoInteractions(slowQueryLog);
+    }
+
+    @Test
+    void testResetSlowQueries() throws Exception {
+        mockMvc.perform(delete("/api/admin/slow-queries"))
+                .andExpect(status().isNoContent());
+
+        Mockito.verify(slowQueryLog).reset();
+    }
+}
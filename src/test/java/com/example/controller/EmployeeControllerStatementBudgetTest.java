@@ -0,0 +1,73 @@
+// src/test/java/com/example/controller/EmployeeControllerStatementBudgetTest.java
+package com.example.controller;
+
+import com.example.configuration.SqlStatementBudget;
+import com.example.configuration.SqlStatementCounter;
+import com.example.configuration.StatementBudget;
+import com.example.configuration.StatementBudgetExtension;
+import com.example.mapper.EmployeeMapperImpl;
+import com.example.mapper.SkillMapperImpl;
+import com.example.service.EmployeeBulkService;
+import com.example.service.EmployeeExportService;
+import com.example.service.EmployeeService;
+import com.example.service.SkillCatalogCache;
+import com.example.service.TotalCountCache;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.AutoConfigureDataJpa;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.hamcrest.Matchers.hasSize;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * EmployeeController backed by the real service and an embedded database, so the statements each request
+ * runs are measured end to end by {@link StatementBudget}.
+ */
+@WebMvcTest(value = EmployeeController.class, properties = {"sql.budget.enabled=true", "sql.budget.response-header=true"})
+@AutoConfigureDataJpa
+@AutoConfigureTestDatabase
+@Import({EmployeeService.class, TotalCountCache.class, SkillCatalogCache.class, EmployeeMapperImpl.class, SkillMapperImpl.class})
+@ExtendWith(StatementBudgetExtension.class)
+class EmployeeControllerStatementBudgetTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private EmployeeBulkService employeeBulkService;
+
+    @MockBean
+    private EmployeeExportService employeeExportService;
+
+    // ID slice, one fetch-joined query for the associations and at most one COUNT(*), whatever the page size
+    @Test
+    @StatementBudget(value = 3, maxRepeats = 1)
+    void testGetAllEmployees_WithinStatementBudget(SqlStatementCounter.Scope statements) throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/api/employees").param("page", "0").param("size", "20"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(20)))
+                .andExpect(header().string(SqlStatementBudget.HEADER, String.valueOf(statements.count())));
+    }
+
+    @Test
+    void testGetEmployeeById_RepeatedLookupsShareOneShape(SqlStatementCounter.Scope statements) throws Exception {
+        // Act
+        for (long id = 1; id <= 3; id++) {
+            mockMvc.perform(get("/api/employees/{id}", id)).andExpect(status().isOk());
+        }
+
+        // Assert
+        assertTrue(statements.count() >= 3, "Each lookup should run at least one statement.");
+        assertTrue(statements.maxRepeats() >= 3,
+                "Lookups differing only by ID should be counted under one shape:" + System.lineSeparator() + statements.topShapes(5));
+    }
+}
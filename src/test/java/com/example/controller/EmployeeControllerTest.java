@@ -1,7 +1,11 @@
 // src/test/java/com/example/controller/EmployeeControllerTest.java
 package com.example.controller;
 
+import com.example.dto.BulkEmployeeResultDto;
 import com.example.dto.EmployeeDto;
+import com.example.exception.InvalidInputException;
+import com.example.service.EmployeeBulkService;
+import com.example.service.EmployeeExportService;
 import com.example.service.EmployeeService;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
@@ -12,6 +16,8 @@ import org.springframework.data.domain.*;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.util.List;
 
@@ -29,6 +35,12 @@ public class EmployeeControllerTest {
     @MockBean
     private EmployeeService employeeService;
 
+    @MockBean
+    private EmployeeBulkService employeeBulkService;
+
+    @MockBean
+    private EmployeeExportService employeeExportService;
+
     @Test
     void testGetAllEmployees() throws Exception {
         EmployeeDto employeeDto = new EmployeeDto(
@@ -49,7 +61,7 @@ public class EmployeeControllerTest {
         // Mocking pageable
         Pageable pageable = PageRequest.of(0, 10);
         Page<EmployeeDto> employeePage = new PageImpl<>(List.of(employeeDto), pageable, 1);
-        Mockito.when(employeeService.getAllEmployees(any(Pageable.class))).thenReturn(employeePage);
+        Mockito.when(employeeService.getAllEmployees(any(Pageable.class), eq(true))).thenReturn(employeePage);
 
         mockMvc.perform(get("/api/employees").contentType(MediaType.APPLICATION_JSON))
                 .andExpect(status().isOk())
@@ -122,6 +134,18 @@ public class EmployeeControllerTest {
                 .andExpect(jsonPath("$.name").value("John Doe"));
     }
 
+    @Test
+    void testCreateEmployee_InvalidInputIsBadRequest() throws Exception {
+        Mockito.when(employeeService.createEmployee(any(EmployeeDto.class)))
+                .thenThrow(new InvalidInputException("Invalid date of birth. It cannot be in the future."));
+
+        mockMvc.perform(post("/api/employees")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\": \"John Doe\", \"dateOfBirth\": \"2999-01-01\", \"jobRole\": \"Developer\", \"gender\": \"Male\"}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(content().string("Invalid date of birth. It cannot be in the future."));
+    }
+
     @Test
     void testUpdateEmployee() throws Exception {
         EmployeeDto employeeDto = new EmployeeDto(
@@ -169,4 +193,37 @@ public class EmployeeControllerTest {
         mockMvc.perform(delete("/api/employees/1").contentType(MediaType.APPLICATION_JSON))
                 .andExpect(status().isNoContent());
     }
+
+    @Test
+    void testBulkUpsertEmployees() throws Exception {
+        List<BulkEmployeeResultDto> results = List.of(
+                new BulkEmployeeResultDto(0, 1000L, BulkEmployeeResultDto.Status.CREATED, null),
+                new BulkEmployeeResultDto(1, null, BulkEmployeeResultDto.Status.FAILED, "Employee name is required.")
+        );
+        Mockito.when(employeeBulkService.upsertEmployees(anyList())).thenReturn(results);
+
+        mockMvc.perform(post("/api/employees/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[{\"name\": \"John Doe\", \"dateOfBirth\": \"1990-01-01\", \"jobRole\": \"Developer\", \"gender\": \"Male\"}, {\"jobRole\": \"Developer\"}]"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[0].employeeId").value(1000L))
+                .andExpect(jsonPath("$[0].status").value("CREATED"))
+                .andExpect(jsonPath("$[1].status").value("FAILED"))
+                .andExpect(jsonPath("$[1].error").value("Employee name is required."));
+    }
+
+    @Test
+    void testExportEmployees() throws Exception {
+        Mockito.when(employeeExportService.exportEmployees(any(OutputStream.class))).thenAnswer(invocation -> {
+            OutputStream out = invocation.getArgument(0);
+            out.write("{\"employeeId\":1}\n{\"employeeId\":2}\n".getBytes(StandardCharsets.UTF_8));
+            return 2L;
+        });
+
+        mockMvc.perform(get("/api/employees/export"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith("application/x-ndjson"))
+                .andExpect(content().string("{\"employeeId\":1}\n{\"employeeId\":2}\n"));
+    }
 }
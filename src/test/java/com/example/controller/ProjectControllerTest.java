@@ -2,6 +2,7 @@
 package com.example.controller;
 
 import com.example.dto.ProjectDto;
+import com.example.service.MissingIdPolicy;
 import com.example.service.ProjectService;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
@@ -37,7 +38,7 @@ public class ProjectControllerTest {
         // Mocking pageable
         Pageable pageable = PageRequest.of(0, 10);
         Page<ProjectDto> projectPage = new PageImpl<>(List.of(projectDto), pageable, 1);
-        Mockito.when(projectService.getAllProjects(Mockito.any(Pageable.class))).thenReturn(projectPage);
+        Mockito.when(projectService.getAllProjects(Mockito.any(Pageable.class), Mockito.eq(true))).thenReturn(projectPage);
 
         mockMvc.perform(get("/api/projects").contentType(MediaType.APPLICATION_JSON))
                 .andExpect(status().isOk())
@@ -99,7 +100,7 @@ public class ProjectControllerTest {
         partialUpdateDto.setDescription("Updated description");
 
         ProjectDto updatedProjectDto = new ProjectDto(projectId, "Project X", "Updated description", null, null, null, null);
-        Mockito.when(projectService.partialUpdateProject(Mockito.eq(projectId), Mockito.any(ProjectDto.class))).thenReturn(updatedProjectDto);
+        Mockito.when(projectService.partialUpdateProject(Mockito.eq(projectId), Mockito.any(ProjectDto.class), Mockito.eq(MissingIdPolicy.SKIP))).thenReturn(updatedProjectDto);
 
         mockMvc.perform(patch("/api/projects/" + projectId)
                         .contentType(MediaType.APPLICATION_JSON)
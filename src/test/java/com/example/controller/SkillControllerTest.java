@@ -1,7 +1,9 @@
 // src/test/java/com/example/controller/SkillControllerTest.java
 package com.example.controller;
 
+import com.example.dto.CursorPageDto;
 import com.example.dto.SkillDto;
+import com.example.service.KeysetCursor;
 import com.example.service.SkillService;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
@@ -36,7 +38,7 @@ public class SkillControllerTest {
         // Mocking pageable
         Pageable pageable = PageRequest.of(0, 10);
         Page<SkillDto> skillPage = new PageImpl<>(List.of(skillDto), pageable, 1);
-        Mockito.when(skillService.getAllSkills(Mockito.any(Pageable.class))).thenReturn(skillPage);
+        Mockito.when(skillService.getAllSkills(Mockito.any(Pageable.class), Mockito.eq(true))).thenReturn(skillPage);
 
         mockMvc.perform(get("/api/skills").contentType(MediaType.APPLICATION_JSON))
                 .andExpect(status().isOk())
@@ -56,6 +58,16 @@ public class SkillControllerTest {
                 .andExpect(jsonPath("$.name").value("Java Programming"));
     }
 
+    @Test
+    void testGetSkillByName() throws Exception {
+        SkillDto skillDto = new SkillDto(1L, "Java Programming");
+        Mockito.when(skillService.getSkillByName("Java Programming")).thenReturn(skillDto);
+
+        mockMvc.perform(get("/api/skills/by-name").param("name", "Java Programming"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.skillId").value(1L));
+    }
+
     @Test
     void testCreateSkill() throws Exception {
         SkillDto skillDto = new SkillDto(null, "Java Programming");
@@ -90,4 +102,20 @@ public class SkillControllerTest {
         mockMvc.perform(delete("/api/skills/1").contentType(MediaType.APPLICATION_JSON))
                 .andExpect(status().isNoContent());
     }
-}
\ No newline at end of file
+
+    @Test
+    void testGetSkillsAfter() throws Exception {
+        SkillDto skillDto = new SkillDto(3L, "React");
+        CursorPageDto<SkillDto> page = new CursorPageDto<>(List.of(skillDto), 1, true, KeysetCursor.encode(3L));
+        Mockito.when(skillService.getSkillsAfter(KeysetCursor.encode(2L), 1)).thenReturn(page);
+
+        mockMvc.perform(get("/api/skills/cursor")
+                        .param("after", KeysetCursor.encode(2L))
+                        .param("limit", "1")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].skillId").value(3L))
+                .andExpect(jsonPath("$.hasNext").value(true))
+                .andExpect(jsonPath("$.nextCursor").value(KeysetCursor.encode(3L)));
+    }
+}
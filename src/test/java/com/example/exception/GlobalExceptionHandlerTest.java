@@ -49,4 +49,27 @@ public class GlobalExceptionHandlerTest {
         assertEquals(HttpStatus.INTERNAL_SERVER_ERROR.value(), response.getStatusCode().value());
         assertEquals("An unexpected error occurred.", response.getBody());
     }
-}
\ No newline at end of file
+
+    @Test
+    void testHandleInvalidInput() {
+        // Test InvalidInputException handling
+        ResponseEntity<String> response = handler.handleInvalidInput(new InvalidInputException("Employee name is required."));
+        assertEquals(HttpStatus.BAD_REQUEST.value(), response.getStatusCode().value());
+        assertEquals("Employee name is required.", response.getBody());
+    }
+
+    @Test
+    void testHandleServiceOverloaded() {
+        // Test ServiceOverloadedException handling
+        ResponseEntity<String> response = handler.handleServiceOverloaded(new ServiceOverloadedException("AI service is busy, try again later."));
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE.value(), response.getStatusCode().value());
+        assertEquals("5", response.getHeaders().getFirst("Retry-After"));
+        assertEquals("AI service is busy, try again later.", response.getBody());
+    }
+
+    @Test
+    void testHandleServiceOverloaded_UsesExceptionRetryAfter() {
+        ResponseEntity<String> response = handler.handleServiceOverloaded(new ServiceOverloadedException("paused", 30));
+        assertEquals("30", response.getHeaders().getFirst("Retry-After"));
+    }
+}
@@ -0,0 +1,91 @@
+// src/test/java/com/example/repository/EmployeeRepositoryTest.java
+package com.example.repository;
+
+import com.example.dto.EmployeeDto;
+import com.example.mapper.EmployeeMapperImpl;
+import com.example.mapper.SkillMapperImpl;
+import com.example.service.EmployeeService;
+import com.example.service.SkillCatalogCache;
+import com.example.service.TotalCountCache;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import({EmployeeService.class, TotalCountCache.class, SkillCatalogCache.class, EmployeeMapperImpl.class, SkillMapperImpl.class})
+class EmployeeRepositoryTest {
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        resetStatistics();
+    }
+
+    /**
+     * A page of employees must cost the same number of statements regardless of its size:
+     * one for the ID slice and one fetch-joined query for the associations, plus at most one
+     * COUNT(*) when the cached total has expired.
+     */
+    @Test
+    void testGetAllEmployees_StatementCountIndependentOfPageSize() {
+        // Warm the total count cache so both measurements hit it
+        employeeService.getAllEmployees(PageRequest.of(0, 5));
+        resetStatistics();
+
+        // Act
+        Page<EmployeeDto> smallPage = employeeService.getAllEmployees(PageRequest.of(0, 5));
+        long smallPageStatements = statistics.getPrepareStatementCount();
+
+        resetStatistics();
+        Page<EmployeeDto> largePage = employeeService.getAllEmployees(PageRequest.of(0, 20));
+        long largePageStatements = statistics.getPrepareStatementCount();
+
+        // Assert
+        assertEquals(5, smallPage.getNumberOfElements(), "Small page size mismatch.");
+        assertEquals(20, largePage.getNumberOfElements(), "Large page size mismatch.");
+        assertTrue(largePageStatements <= 3, "Expected at most 3 statements but got " + largePageStatements);
+        assertEquals(smallPageStatements, largePageStatements, "Statement count should not grow with page size.");
+        assertEquals(0, statistics.getCollectionFetchCount(), "No lazy collection should be initialized one by one.");
+    }
+
+    @Test
+    void testGetAllEmployees_PreservesRequestedSortOrder() {
+        // Act
+        Page<EmployeeDto> page = employeeService.getAllEmployees(PageRequest.of(0, 10, Sort.by("name").descending()));
+
+        // Assert
+        List<String> names = page.getContent().stream().map(EmployeeDto::getName).collect(Collectors.toList());
+        List<String> sorted = names.stream().sorted((a, b) -> b.compareTo(a)).collect(Collectors.toList());
+        assertEquals(sorted, names, "Employees should be returned in the requested order.");
+        assertEquals(employeeRepository.count(), page.getTotalElements(), "Total elements mismatch.");
+    }
+
+    private void resetStatistics() {
+        entityManager.clear();
+        statistics.clear();
+    }
+}
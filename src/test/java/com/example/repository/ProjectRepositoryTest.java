@@ -0,0 +1,89 @@
+// src/test/java/com/example/repository/ProjectRepositoryTest.java
+package com.example.repository;
+
+import com.example.entity.Project;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.jpa.properties.hibernate.cache.use_second_level_cache=true",
+        "spring.jpa.properties.hibernate.cache.use_query_cache=true",
+        "spring.jpa.properties.hibernate.cache.region.factory_class=jcache",
+        "spring.jpa.properties.hibernate.javax.cache.provider=org.ehcache.jsr107.EhcacheCachingProvider",
+        "spring.jpa.properties.hibernate.javax.cache.uri=ehcache.xml",
+        "spring.jpa.properties.hibernate.javax.cache.missing_cache_strategy=fail"
+})
+// Each load runs in its own transaction: a read-write cache entry is not readable by the session that cached it
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ProjectRepositoryTest {
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private Statistics statistics;
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        entityManager.getEntityManagerFactory().getCache().evictAll();
+        resetStatistics();
+    }
+
+    @Test
+    void testFindById_ServedFromSecondLevelCache() {
+        // Arrange
+        transactionTemplate.executeWithoutResult(status -> projectRepository.findById(1L).orElseThrow().getSkills().size());
+        resetStatistics();
+
+        // Act
+        Integer skillCount = transactionTemplate.execute(status -> projectRepository.findById(1L).orElseThrow().getSkills().size());
+
+        // Assert
+        assertTrue(skillCount > 0, "Project 1 should have skills.");
+        assertEquals(0, statistics.getPrepareStatementCount(), "Project and its skills should come from the cache.");
+        assertTrue(statistics.getSecondLevelCacheHitCount() > 0, "Expected second-level cache hits.");
+    }
+
+    @Test
+    void testFindByEmployeesEmployeeId_ServedFromQueryCache() {
+        // Arrange
+        List<Project> firstCall = projectRepository.findByEmployeesEmployeeId(1L);
+        resetStatistics();
+
+        // Act
+        List<Project> secondCall = projectRepository.findByEmployeesEmployeeId(1L);
+
+        // Assert
+        assertFalse(secondCall.isEmpty(), "Employee 1 should be assigned to projects.");
+        assertEquals(firstCall.size(), secondCall.size(), "Cached result size mismatch.");
+        assertEquals(1, statistics.getQueryCacheHitCount(), "Second call should hit the query cache.");
+        assertEquals(0, statistics.getPrepareStatementCount(), "Cached query should not reach the database.");
+    }
+
+    private void resetStatistics() {
+        entityManager.clear();
+        statistics.clear();
+    }
+}
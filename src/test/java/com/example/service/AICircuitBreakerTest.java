@@ -0,0 +1,93 @@
+// src/test/java/com/example/service/AICircuitBreakerTest.java
+package com.example.service;
+
+import com.example.dto.AICircuitBreakerStatsDto;
+import com.example.exception.ServiceOverloadedException;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AICircuitBreakerTest {
+
+    private final AtomicLong now = new AtomicLong(1_000_000);
+    private final AICircuitBreaker breaker = new AICircuitBreaker(2, 1000, now::get);
+
+    private static Mono<String> upstreamError() {
+        return Mono.error(WebClientResponseException.create(HttpStatus.BAD_GATEWAY.value(), "Bad Gateway", null, null, null));
+    }
+
+    @Test
+    void testClientErrorsDoNotOpenCircuit() {
+        for (int i = 0; i < 3; i++) {
+            StepVerifier.create(breaker.protect(() -> Mono.<String>error(
+                            WebClientResponseException.create(400, "Bad Request", null, null, null))))
+                    .expectError(WebClientResponseException.class)
+                    .verify();
+        }
+
+        assertEquals(AICircuitBreaker.State.CLOSED, breaker.state(), "A 400 says nothing about provider health.");
+    }
+
+    @Test
+    void testHalfOpenAllowsSingleProbe() {
+        // Arrange: open the circuit, then let the open period pass
+        StepVerifier.create(breaker.protect(AICircuitBreakerTest::upstreamError)).expectError().verify();
+        StepVerifier.create(breaker.protect(AICircuitBreakerTest::upstreamError)).expectError().verify();
+        assertEquals(AICircuitBreaker.State.OPEN, breaker.state());
+        now.addAndGet(1000);
+
+        // Act: the first call becomes the probe; a second one arriving meanwhile is rejected
+        Sinks.One<String> probe = Sinks.one();
+        Disposable probeCall = breaker.protect(probe::asMono).subscribe();
+        StepVerifier.create(breaker.protect(() -> Mono.just("second")))
+                .expectError(ServiceOverloadedException.class)
+                .verify();
+        probe.tryEmitValue("ok");
+
+        // Assert
+        assertEquals(AICircuitBreaker.State.CLOSED, breaker.state(), "A successful probe should close the circuit.");
+        AICircuitBreakerStatsDto stats = breaker.stats();
+        assertEquals(1, stats.getRejectedCount());
+        assertEquals(2, stats.getFailureCount());
+        assertEquals(1, stats.getSuccessCount());
+        assertEquals(3, stats.getLatencyHistogram().get("<=100ms"), "All calls were instant.");
+        probeCall.dispose();
+    }
+
+    @Test
+    void testFailedProbeReopensCircuit() {
+        StepVerifier.create(breaker.protect(AICircuitBreakerTest::upstreamError)).expectError().verify();
+        StepVerifier.create(breaker.protect(AICircuitBreakerTest::upstreamError)).expectError().verify();
+        now.addAndGet(1000);
+
+        StepVerifier.create(breaker.protect(AICircuitBreakerTest::upstreamError)).expectError().verify();
+
+        assertEquals(AICircuitBreaker.State.OPEN, breaker.state());
+        StepVerifier.create(breaker.protect(() -> Mono.just("too soon")))
+                .expectError(ServiceOverloadedException.class)
+                .verify();
+    }
+
+    @Test
+    void testCancelledProbeLetsNextCallProbe() {
+        StepVerifier.create(breaker.protect(AICircuitBreakerTest::upstreamError)).expectError().verify();
+        StepVerifier.create(breaker.protect(AICircuitBreakerTest::upstreamError)).expectError().verify();
+        now.addAndGet(1000);
+
+        Disposable abandoned = breaker.protect(() -> Sinks.<String>one().asMono()).subscribe();
+        abandoned.dispose();
+
+        StepVerifier.create(breaker.protect(() -> Mono.just("probe")))
+                .expectNext("probe")
+                .verifyComplete();
+        assertEquals(AICircuitBreaker.State.CLOSED, breaker.state());
+    }
+}
@@ -0,0 +1,58 @@
+// src/test/java/com/example/service/AIMetricsTest.java
+package com.example.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AIMetricsTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final AIMetrics aiMetrics = new AIMetrics(registry);
+
+    @Test
+    void testRecordUsage_AddsPromptAndCompletionTokens() {
+        // Arrange
+        String response = "{\"id\":\"x\",\"choices\":[{\"message\":{\"content\":\"[{\\\"usage\\\":1}]\"}}],"
+                + "\"usage\":{\"prompt_tokens\":12,\"completion_tokens\":30,\"total_tokens\":42}}";
+
+        // Act
+        aiMetrics.recordUsage(response);
+        aiMetrics.recordUsage(response);
+        aiMetrics.recordUsage("not json");
+
+        // Assert
+        assertEquals(24, registry.get("ai.tokens").tag("type", "prompt").counter().count(), "Prompt tokens should add up.");
+        assertEquals(60, registry.get("ai.tokens").tag("type", "completion").counter().count(),
+                "Completion tokens should add up; a usage key inside the content must not count.");
+    }
+
+    @Test
+    void testTimeUpstream_TagsOutcomeAtTerminalSignal() {
+        // Act
+        StepVerifier.create(aiMetrics.timeUpstream("completion", Mono.just("ok"))).expectNext("ok").verifyComplete();
+        StepVerifier.create(aiMetrics.timeUpstream("completion", Mono.error(new IllegalStateException()))).verifyError();
+        StepVerifier.create(aiMetrics.timeGeneration("stream-data", Flux.never())).thenCancel().verify();
+
+        // Assert
+        assertEquals(1, registry.get("ai.upstream.requests").tags("operation", "completion", "outcome", "success").timer().count());
+        assertEquals(1, registry.get("ai.upstream.requests").tags("operation", "completion", "outcome", "error").timer().count());
+        assertEquals(1, registry.get("ai.generation").tags("operation", "stream-data", "outcome", "cancelled").timer().count());
+    }
+
+    @Test
+    void testTimeGeneration_StartsAtSubscription() {
+        // Arrange
+        Mono<String> call = aiMetrics.timeGeneration("generate-data", Mono.just("ok"));
+
+        // Act & Assert
+        assertNull(registry.find("ai.generation").timer(), "Nothing should be recorded before subscription.");
+        call.block();
+        call.block();
+        assertEquals(2, registry.get("ai.generation").tags("outcome", "success").timer().count(), "Each subscription is one timing.");
+    }
+}
@@ -0,0 +1,73 @@
+// src/test/java/com/example/service/AIRequestLimiterTest.java
+package com.example.service;
+
+import com.example.dto.AILimiterStatsDto;
+import com.example.exception.ServiceOverloadedException;
+import org.junit.jupiter.api.Test;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AIRequestLimiterTest {
+
+    @Test
+    void testSubmit_RunsImmediatelyWhenSlotFree() {
+        AIRequestLimiter limiter = new AIRequestLimiter(1, 1);
+
+        StepVerifier.create(limiter.submit(() -> Mono.just("ok")))
+                .expectNext("ok")
+                .verifyComplete();
+
+        AILimiterStatsDto stats = limiter.stats();
+        assertEquals(1, stats.getStarted());
+        assertEquals(0, stats.getInFlight(), "Slot should be released after completion.");
+    }
+
+    @Test
+    void testSubmit_QueuesThenRejectsBeyondCapacity() {
+        AIRequestLimiter limiter = new AIRequestLimiter(1, 1);
+        Sinks.One<String> slowCall = Sinks.one();
+        AtomicInteger queuedCallStarts = new AtomicInteger();
+
+        Disposable first = limiter.submit(slowCall::asMono).subscribe();
+        Disposable second = limiter.submit(() -> {
+            queuedCallStarts.incrementAndGet();
+            return Mono.just("queued");
+        }).subscribe();
+
+        StepVerifier.create(limiter.submit(() -> Mono.just("rejected")))
+                .expectError(ServiceOverloadedException.class)
+                .verify();
+        assertEquals(0, queuedCallStarts.get(), "Queued call must not start while the slot is taken.");
+
+        slowCall.tryEmitValue("done");
+
+        assertEquals(1, queuedCallStarts.get(), "Queued call should start once the slot is released.");
+        AILimiterStatsDto stats = limiter.stats();
+        assertEquals(2, stats.getStarted());
+        assertEquals(1, stats.getEnqueued());
+        assertEquals(1, stats.getRejected());
+        assertEquals(0, stats.getInFlight());
+        first.dispose();
+        second.dispose();
+    }
+
+    @Test
+    void testSubmit_CancelledWhileQueuedFreesQueueEntry() {
+        AIRequestLimiter limiter = new AIRequestLimiter(1, 1);
+        Sinks.One<String> slowCall = Sinks.one();
+
+        Disposable first = limiter.submit(slowCall::asMono).subscribe();
+        Disposable queued = limiter.submit(() -> Mono.just("never")).subscribe();
+        queued.dispose();
+
+        assertEquals(0, limiter.stats().getQueued(), "Cancelled call should leave the queue.");
+        first.dispose();
+        assertEquals(0, limiter.stats().getInFlight(), "Cancelling the running call should release its slot.");
+    }
+}
@@ -0,0 +1,146 @@
+// src/test/java/com/example/service/AIResponseCacheTest.java
+package com.example.service;
+
+import com.example.dto.AICacheStatsDto;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AIResponseCacheTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final JsonNode records = objectMapper.createArrayNode().add(objectMapper.createObjectNode().put("id", 1));
+
+    @Test
+    void testKey_NormalizesWhitespace() {
+        assertEquals(AIResponseCache.key("model", 0, "a  b\n c "), AIResponseCache.key("model", 0, "a b c"));
+        assertNotEquals(AIResponseCache.key("model", 0, "a b"), AIResponseCache.key("model", 1, "a b"),
+                "Different chunks of the same prompt must not share an entry.");
+        assertNotEquals(AIResponseCache.key("model", 0, "a b"), AIResponseCache.key("other", 0, "a b"));
+    }
+
+    @Test
+    void testGet_ConcurrentIdenticalRequestsShareOneCall() {
+        // Arrange
+        AIResponseCache cache = new AIResponseCache(true, 10, 60, "");
+        Sinks.One<JsonNode> upstream = Sinks.one();
+        AtomicInteger calls = new AtomicInteger();
+
+        // Act
+        Mono<JsonNode> first = cache.get("key", () -> {
+            calls.incrementAndGet();
+            return upstream.asMono();
+        });
+        Mono<JsonNode> second = cache.get("key", () -> {
+            calls.incrementAndGet();
+            return upstream.asMono();
+        });
+        CompletableFuture<JsonNode> firstResult = first.toFuture();
+        CompletableFuture<JsonNode> secondResult = second.toFuture();
+        upstream.tryEmitValue(records);
+
+        // Assert
+        assertEquals(records, firstResult.join());
+        assertEquals(records, secondResult.join());
+        assertEquals(1, calls.get(), "The second request should join the in-flight call.");
+        AICacheStatsDto stats = cache.stats();
+        assertEquals(1, stats.getMissCount());
+        assertEquals(1, stats.getHitCount());
+    }
+
+    @Test
+    void testGet_FailedCallIsNotCached() {
+        // Arrange
+        AIResponseCache cache = new AIResponseCache(true, 10, 60, "");
+        AtomicInteger calls = new AtomicInteger();
+
+        // Act
+        StepVerifier.create(cache.get("key", () -> {
+                    calls.incrementAndGet();
+                    return Mono.error(new RuntimeException("upstream down"));
+                }))
+                .expectErrorMessage("upstream down")
+                .verify();
+        StepVerifier.create(cache.get("key", () -> {
+                    calls.incrementAndGet();
+                    return Mono.just(records);
+                }))
+                .expectNext(records)
+                .verifyComplete();
+
+        // Assert
+        assertEquals(2, calls.get(), "A failure must not be served to later requests.");
+        assertEquals(1, cache.stats().getSize());
+    }
+
+    @Test
+    void testGet_HitRecordsSavedLatency() {
+        // Arrange
+        AIResponseCache cache = new AIResponseCache(true, 10, 60, "");
+        cache.get("key", () -> Mono.just(records).delayElement(Duration.ofMillis(50))).block();
+
+        // Act
+        JsonNode cached = cache.get("key", () -> Mono.error(new AssertionError("should be cached"))).block();
+
+        // Assert
+        assertEquals(records, cached);
+        assertTrue(cache.stats().getSavedLatencyMillis() >= 50, "A hit should be credited with the original call's latency.");
+    }
+
+    @Test
+    void testDisabled_AlwaysCallsUpstream() {
+        AIResponseCache cache = AIResponseCache.disabled();
+        AtomicInteger calls = new AtomicInteger();
+
+        cache.get("key", () -> Mono.fromSupplier(() -> records).doOnNext(r -> calls.incrementAndGet())).block();
+        cache.get("key", () -> Mono.fromSupplier(() -> records).doOnNext(r -> calls.incrementAndGet())).block();
+
+        assertEquals(2, calls.get());
+        assertFalse(cache.stats().isEnabled());
+    }
+
+    @Test
+    void testPersist_EntriesSurviveRestart(@TempDir Path directory) {
+        // Arrange
+        String file = directory.resolve("ai-cache.json").toString();
+        AIResponseCache beforeRestart = new AIResponseCache(true, 10, 60, file);
+        beforeRestart.get("key", () -> Mono.just(records)).block();
+
+        // Act
+        beforeRestart.persist();
+        AIResponseCache afterRestart = new AIResponseCache(true, 10, 60, file);
+        afterRestart.load();
+
+        // Assert
+        assertEquals(1, afterRestart.stats().getSize(), "Persisted entry should be restored.");
+        JsonNode restored = afterRestart.get("key", () -> Mono.error(new AssertionError("should be restored"))).block();
+        assertEquals(records, restored);
+    }
+
+    @Test
+    void testLoad_SkipsEntriesPastTheirTtl(@TempDir Path directory) {
+        // Arrange
+        String file = directory.resolve("ai-cache.json").toString();
+        AIResponseCache beforeRestart = new AIResponseCache(true, 10, 60, file);
+        beforeRestart.get("key", () -> Mono.just(records)).block();
+        beforeRestart.persist();
+
+        // Act
+        AIResponseCache afterRestart = new AIResponseCache(true, 10, 0, file);
+        afterRestart.load();
+
+        // Assert
+        assertEquals(0, afterRestart.stats().getSize(), "Expired entries should not be restored.");
+    }
+}
@@ -0,0 +1,162 @@
+// src/test/java/com/example/service/AIServiceChunkingTest.java
+package com.example.service;
+
+import com.example.dto.UserInputDto;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs AIService against a local stub of the chat completions endpoint. Each stub response holds
+ * the number of records the prompt asked for; the first record is the same in every response.
+ */
+class AIServiceChunkingTest {
+
+    private static final Pattern RECORD_COUNT = Pattern.compile("generate exactly (\\d+) records");
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final AtomicInteger requests = new AtomicInteger();
+    private final AtomicInteger nextRecordId = new AtomicInteger();
+    private volatile int failRequestNumber = -1;
+
+    private HttpServer server;
+    private AIService aiService;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/v1/chat/completions", this::handleCompletion);
+        server.start();
+
+        aiService = new AIService(WebClient.create(), new AIRequestLimiter(4, 16), AIResponseCache.disabled(),
+                AIRetryPolicy.disabled(), AICircuitBreaker.disabled(), AIMetrics.noop());
+        aiService.setOpenAiBaseUrl("http://localhost:" + server.getAddress().getPort());
+        aiService.setMaxTokens(100);          // 80 usable tokens / (5 + 2 * 10) per record = 3 records per chunk
+        aiService.setTokensPerProperty(10);
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    void testChunkSizes_SplitsRemainderIntoLastChunk() {
+        assertEquals(List.of(3, 3, 3, 1), AIService.chunkSizes(10, 3));
+        assertEquals(List.of(2), AIService.chunkSizes(2, 3));
+        assertTrue(AIService.chunkSizes(0, 3).isEmpty());
+        assertEquals(3, aiService.recordsPerChunk(2));
+    }
+
+    @Test
+    void testGenerateTestData_FansOutChunksAndDeduplicates() {
+        // Act
+        Map<String, Object> result = aiService.generateTestData(new UserInputDto("Flights", 2, 10));
+
+        // Assert
+        assertEquals(4, requests.get(), "10 records at 3 per chunk should take 4 calls.");
+        JsonNode data = (JsonNode) result.get("data");
+        // 10 records were returned, but the shared first record of each chunk only counts once
+        assertEquals(10 - 3, data.size(), "Duplicate records should be removed.");
+        assertFalse(result.containsKey("failedChunks"));
+    }
+
+    @Test
+    void testGenerateTestData_ReturnsPartialResultsWhenAChunkFails() {
+        // Arrange
+        failRequestNumber = 2;
+
+        // Act
+        Map<String, Object> result = aiService.generateTestData(new UserInputDto("Flights", 2, 10));
+
+        // Assert
+        assertEquals(4, requests.get());
+        assertEquals(1, result.get("failedChunks"));
+        assertTrue(((JsonNode) result.get("data")).size() > 0, "Successful chunks should still be returned.");
+    }
+
+    @Test
+    void testGenerateTestData_FailsWhenEveryChunkFails() {
+        // Arrange
+        server.removeContext("/v1/chat/completions");
+        server.createContext("/v1/chat/completions", exchange -> respond(exchange, 500, "{}"));
+
+        // Act & Assert
+        RuntimeException exception = assertThrows(RuntimeException.class,
+                () -> aiService.generateTestData(new UserInputDto("Flights", 2, 10)));
+        assertEquals("Failed to generate data from OpenAI API", exception.getMessage());
+    }
+
+    @Test
+    void testGenerateTestData_RepeatedRequestIsServedFromCache() {
+        // Arrange
+        AIResponseCache cache = new AIResponseCache(true, 100, 60, "");
+        AIService cachedService = new AIService(WebClient.create(), new AIRequestLimiter(4, 16), cache,
+                AIRetryPolicy.disabled(), AICircuitBreaker.disabled(), AIMetrics.noop());
+        cachedService.setOpenAiBaseUrl("http://localhost:" + server.getAddress().getPort());
+        cachedService.setMaxTokens(100);
+        cachedService.setTokensPerProperty(10);
+
+        // Act
+        Map<String, Object> first = cachedService.generateTestData(new UserInputDto("Flights", 2, 10));
+        Map<String, Object> second = cachedService.generateTestData(new UserInputDto("Flights", 2, 10));
+
+        // Assert
+        assertEquals(4, requests.get(), "The repeated request should not reach the provider.");
+        assertEquals(((JsonNode) first.get("data")).size(), ((JsonNode) second.get("data")).size());
+        assertEquals(4, cache.stats().getHitCount());
+    }
+
+    private void handleCompletion(HttpExchange exchange) throws IOException {
+        int requestNumber = requests.incrementAndGet();
+        String body = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+        if (requestNumber == failRequestNumber) {
+            respond(exchange, 500, "{\"error\":\"stub failure\"}");
+            return;
+        }
+
+        String prompt = objectMapper.readTree(body).path("messages").get(0).path("content").asText();
+        Matcher matcher = RECORD_COUNT.matcher(prompt);
+        int count = matcher.find() ? Integer.parseInt(matcher.group(1)) : 1;
+
+        ArrayNode records = objectMapper.createArrayNode();
+        records.addObject().put("property1", "shared").put("property2", "shared");
+        for (int i = 1; i < count; i++) {
+            ObjectNode record = records.addObject();
+            record.put("property1", "value" + nextRecordId.incrementAndGet());
+            record.put("property2", "value");
+        }
+
+        ObjectNode response = objectMapper.createObjectNode();
+        response.putArray("choices").addObject().putObject("message").put("content", records.toString());
+        respond(exchange, 200, response.toString());
+    }
+
+    private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+}
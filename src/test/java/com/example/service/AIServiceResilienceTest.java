@@ -0,0 +1,205 @@
+// src/test/java/com/example/service/AIServiceResilienceTest.java
+package com.example.service;
+
+import com.example.dto.UserInputDto;
+import com.example.exception.ServiceOverloadedException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs AIService against a fault-injecting stub of the chat completions endpoint. Each request takes the
+ * next scripted fault (status and optional Retry-After); once the script runs out the stub answers normally.
+ */
+class AIServiceResilienceTest {
+
+    private record Fault(int status, String retryAfter) {
+    }
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final AtomicInteger requests = new AtomicInteger();
+    private final Queue<Fault> faults = new ConcurrentLinkedQueue<>();
+    private volatile boolean alwaysFail;
+    private volatile boolean trickle;
+
+    private HttpServer server;
+    private AICircuitBreaker circuitBreaker;
+    private AIRequestLimiter limiter;
+    private AIService aiService;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/v1/chat/completions", this::handleCompletion);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.start();
+
+        circuitBreaker = new AICircuitBreaker(3, 200);
+        limiter = new AIRequestLimiter(4, 16);
+        aiService = new AIService(WebClient.create(), limiter, AIResponseCache.disabled(),
+                new AIRetryPolicy(2, 10, 2000), circuitBreaker, AIMetrics.noop());
+        aiService.setOpenAiBaseUrl("http://localhost:" + server.getAddress().getPort());
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    void testRetriesTransientFailuresThenSucceeds() {
+        // Arrange
+        faults.add(new Fault(503, null));
+        faults.add(new Fault(500, null));
+
+        // Act
+        Map<String, Object> result = aiService.generateTestData(new UserInputDto("Flights", 2, 2));
+
+        // Assert
+        assertEquals(3, requests.get(), "Two failures should be retried before the successful call.");
+        assertEquals(2, ((JsonNode) result.get("data")).size());
+        assertEquals(AICircuitBreaker.State.CLOSED, circuitBreaker.state());
+    }
+
+    @Test
+    void testHonorsRetryAfterOnThrottling() {
+        // Arrange
+        faults.add(new Fault(429, "1"));
+
+        // Act
+        long start = System.nanoTime();
+        aiService.generateTestData(new UserInputDto("Flights", 2, 2));
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        // Assert
+        assertEquals(2, requests.get());
+        assertTrue(elapsedMillis >= 1000, "Retry should wait for the Retry-After delay, waited " + elapsedMillis + " ms.");
+    }
+
+    @Test
+    void testDoesNotRetryClientErrors() {
+        // Arrange
+        faults.add(new Fault(400, null));
+
+        // Act & Assert
+        RuntimeException exception = assertThrows(RuntimeException.class,
+                () -> aiService.generateTestData(new UserInputDto("Flights", 2, 2)));
+        assertEquals("Failed to generate data from OpenAI API", exception.getMessage());
+        assertEquals(1, requests.get(), "A 400 will fail the same way again and must not be retried.");
+    }
+
+    @Test
+    void testCircuitOpensFailsFastThenRecoversThroughProbe() throws InterruptedException {
+        // Arrange: three failed attempts (one call plus two retries) reach the failure threshold
+        alwaysFail = true;
+        assertThrows(RuntimeException.class, () -> aiService.generateTestData(new UserInputDto("Flights", 2, 2)));
+        assertEquals(3, requests.get());
+        assertEquals(AICircuitBreaker.State.OPEN, circuitBreaker.state());
+
+        // Act: while open, calls fail fast without reaching the provider
+        assertThrows(ServiceOverloadedException.class,
+                () -> aiService.generateTestData(new UserInputDto("Flights", 2, 2)));
+        assertEquals(3, requests.get(), "An open circuit must not call the provider.");
+
+        // Act: after the open period, one probe goes through and closes the circuit
+        alwaysFail = false;
+        Thread.sleep(250);
+        Map<String, Object> result = aiService.generateTestData(new UserInputDto("Flights", 2, 2));
+
+        // Assert
+        assertEquals(4, requests.get());
+        assertEquals(2, ((JsonNode) result.get("data")).size());
+        assertEquals(AICircuitBreaker.State.CLOSED, circuitBreaker.state());
+        assertEquals(3, circuitBreaker.stats().getTransitions().size(), "CLOSED -> OPEN -> HALF_OPEN -> CLOSED");
+    }
+
+    @Test
+    void testTricklingResponseFailsAtCallDeadlineAndFreesItsSlot() throws InterruptedException {
+        // Arrange: every byte arrives well within the response timeout, the whole body never does
+        trickle = true;
+        aiService.setCallTimeoutMs(300);
+
+        // Act
+        long start = System.nanoTime();
+        assertThrows(RuntimeException.class, () -> aiService.generateTestData(new UserInputDto("Flights", 2, 2)));
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        // Assert
+        assertEquals(3, requests.get(), "A timeout is transient, so both retries should be attempted.");
+        assertTrue(elapsedMillis < 5000, "Each attempt should end at the call deadline, took " + elapsedMillis + " ms.");
+        awaitIdle(limiter);
+        assertEquals(0, limiter.stats().getInFlight(), "Timed-out attempts should give their slots back.");
+    }
+
+    // The limiter frees the slot in doFinally, which runs just after the terminal signal reaches the subscriber
+    private static void awaitIdle(AIRequestLimiter limiter) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 2000;
+        while (System.currentTimeMillis() < deadline && limiter.stats().getInFlight() > 0) {
+            Thread.sleep(10);
+        }
+    }
+
+    private void handleCompletion(HttpExchange exchange) throws IOException {
+        requests.incrementAndGet();
+        exchange.getRequestBody().readAllBytes();
+        if (trickle) {
+            trickle(exchange);
+            return;
+        }
+        Fault fault = alwaysFail ? new Fault(503, null) : faults.poll();
+        if (fault != null) {
+            if (fault.retryAfter() != null) {
+                exchange.getResponseHeaders().add("Retry-After", fault.retryAfter());
+            }
+            respond(exchange, fault.status(), "{\"error\":\"injected fault\"}");
+            return;
+        }
+
+        String records = "[{\"property1\":\"a\",\"property2\":\"b\"},{\"property1\":\"c\",\"property2\":\"d\"}]";
+        ObjectNode response = objectMapper.createObjectNode();
+        response.putArray("choices").addObject().putObject("message").put("content", records);
+        respond(exchange, 200, response.toString());
+    }
+
+    // Whitespace is valid before a JSON body; stops once the client has hung up
+    private static void trickle(HttpExchange exchange) throws IOException {
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, 0);
+        try (OutputStream out = exchange.getResponseBody()) {
+            for (int i = 0; i < 200; i++) {
+                out.write(' ');
+                out.flush();
+                Thread.sleep(50);
+            }
+        } catch (IOException | InterruptedException e) {
+            // Client gave up
+        }
+    }
+
+    private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+}
@@ -0,0 +1,122 @@
+// src/test/java/com/example/service/AIServiceStreamingTest.java
+package com.example.service;
+
+import com.example.dto.UserInputDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.test.StepVerifier;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Streams from a local stub of the chat completions endpoint that sends the JSON array as SSE deltas
+ * and holds back the rest of the stream until the test releases it.
+ */
+class AIServiceStreamingTest {
+
+    private static final List<String> DELTAS = List.of(
+            "```json\n[{\"name\": ", "\"Alice\"}", ", {\"name\": \"Bob\"}", ", {\"name\": \"Alice\"}]\n```");
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final CountDownLatch releaseRest = new CountDownLatch(1);
+
+    private HttpServer server;
+    private AIRequestLimiter limiter;
+    private AIService aiService;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/v1/chat/completions", this::streamCompletion);
+        server.start();
+
+        limiter = new AIRequestLimiter(4, 16);
+        aiService = new AIService(WebClient.create(), limiter, AIResponseCache.disabled(),
+                AIRetryPolicy.disabled(), AICircuitBreaker.disabled(), AIMetrics.noop());
+        aiService.setOpenAiBaseUrl("http://localhost:" + server.getAddress().getPort());
+    }
+
+    @AfterEach
+    void tearDown() {
+        releaseRest.countDown();
+        server.stop(0);
+    }
+
+    @Test
+    void testStreamTestData_EmitsFirstRecordBeforeCompletionEnds() {
+        StepVerifier.create(aiService.streamTestData(new UserInputDto("People", 1, 3)))
+                .assertNext(record -> assertEquals("Alice", record.get("name").asText()))
+                .then(releaseRest::countDown)
+                .assertNext(record -> assertEquals("Bob", record.get("name").asText()))
+                .expectComplete()   // The repeated Alice is dropped as a duplicate
+                .verify(Duration.ofSeconds(10));
+    }
+
+    @Test
+    void testStreamTestData_StalledStreamEndsAtCallDeadlineAndFreesItsSlot() throws InterruptedException {
+        // Arrange: the stub never releases the rest of the stream
+        aiService.setCallTimeoutMs(300);
+
+        // Act & Assert
+        StepVerifier.create(aiService.streamTestData(new UserInputDto("People", 1, 3)))
+                .assertNext(record -> assertEquals("Alice", record.get("name").asText()))
+                .expectComplete()   // The timed-out chunk is dropped, keeping the record already sent
+                .verify(Duration.ofSeconds(5));
+        awaitIdle(limiter);
+        assertEquals(0, limiter.stats().getInFlight(), "The timed-out call should give its slot back.");
+    }
+
+    // The limiter frees the slot in doFinally, which runs just after the terminal signal reaches the subscriber
+    private static void awaitIdle(AIRequestLimiter limiter) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 2000;
+        while (System.currentTimeMillis() < deadline && limiter.stats().getInFlight() > 0) {
+            Thread.sleep(10);
+        }
+    }
+
+    private void streamCompletion(HttpExchange exchange) throws IOException {
+        String body = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+        assertTrue(objectMapper.readTree(body).path("stream").asBoolean(), "Request should ask for streaming.");
+
+        exchange.getResponseHeaders().add("Content-Type", "text/event-stream");
+        exchange.sendResponseHeaders(200, 0);
+        try (OutputStream out = exchange.getResponseBody()) {
+            sendEvent(out, "{\"choices\":[{\"delta\":{\"role\":\"assistant\"}}]}");
+            sendEvent(out, delta(DELTAS.get(0)));
+            sendEvent(out, delta(DELTAS.get(1)));
+            // Nothing more is sent until the test has seen the first record
+            releaseRest.await(10, TimeUnit.SECONDS);
+            sendEvent(out, delta(DELTAS.get(2)));
+            sendEvent(out, delta(DELTAS.get(3)));
+            sendEvent(out, "[DONE]");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private String delta(String content) {
+        ObjectNode event = objectMapper.createObjectNode();
+        event.putArray("choices").addObject().putObject("delta").put("content", content);
+        return event.toString();
+    }
+
+    private static void sendEvent(OutputStream out, String data) throws IOException {
+        out.write(("data: " + data + "\n\n").getBytes(StandardCharsets.UTF_8));
+        out.flush();
+    }
+}
@@ -3,6 +3,7 @@ package com.example.service;// Test Cases for AIService.java
 import com.example.dto.GenerateMoreRequestDto;
 import com.example.dto.UserInputDto;
 import com.example.service.AIService;
+import com.fasterxml.jackson.databind.JsonNode;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
@@ -45,7 +46,8 @@ public class AIServiceTest {
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
-        aiService = new AIService(webClient);
+        aiService = new AIService(webClient, new AIRequestLimiter(4, 16), AIResponseCache.disabled(),
+                AIRetryPolicy.disabled(), AICircuitBreaker.disabled(), AIMetrics.noop());
     }
 
     @Test
@@ -60,6 +62,7 @@ public class AIServiceTest {
         when(requestBodyUriSpec.uri(anyString())).thenReturn(requestBodySpec);
         when(requestBodySpec.header(anyString(), anyString())).thenReturn(requestBodySpec);
         when(requestBodySpec.contentType(any(MediaType.class))).thenReturn(requestBodySpec);
+        when(requestBodySpec.accept(any(MediaType.class))).thenReturn(requestBodySpec);
         when(requestBodySpec.bodyValue(any())).thenReturn(requestHeadersSpec);
         when(requestHeadersSpec.retrieve()).thenReturn(responseSpec);
         when(responseSpec.bodyToMono(String.class)).thenReturn(Mono.just(jsonResponse));
@@ -82,6 +85,7 @@ public class AIServiceTest {
         when(requestBodyUriSpec.uri(anyString())).thenReturn(requestBodySpec);
         when(requestBodySpec.header(anyString(), anyString())).thenReturn(requestBodySpec);
         when(requestBodySpec.contentType(any(MediaType.class))).thenReturn(requestBodySpec);
+        when(requestBodySpec.accept(any(MediaType.class))).thenReturn(requestBodySpec);
         when(requestBodySpec.bodyValue(any())).thenReturn(requestHeadersSpec);
         when(requestHeadersSpec.retrieve()).thenThrow(new WebClientResponseException(HttpStatus.BAD_REQUEST.value(), "Bad Request", null, null, null));
 
@@ -113,6 +117,7 @@ public class AIServiceTest {
         when(requestBodyUriSpec.uri(anyString())).thenReturn(requestBodySpec);
         when(requestBodySpec.header(anyString(), anyString())).thenReturn(requestBodySpec);
         when(requestBodySpec.contentType(any(MediaType.class))).thenReturn(requestBodySpec);
+        when(requestBodySpec.accept(any(MediaType.class))).thenReturn(requestBodySpec);
         when(requestBodySpec.bodyValue(any())).thenReturn(requestHeadersSpec);
         when(requestHeadersSpec.retrieve()).thenReturn(responseSpec);
         when(responseSpec.bodyToMono(String.class)).thenReturn(Mono.just(jsonResponse));
@@ -137,6 +142,7 @@ public class AIServiceTest {
         when(requestBodyUriSpec.uri(anyString())).thenReturn(requestBodySpec);
         when(requestBodySpec.header(anyString(), anyString())).thenReturn(requestBodySpec);
         when(requestBodySpec.contentType(any(MediaType.class))).thenReturn(requestBodySpec);
+        when(requestBodySpec.accept(any(MediaType.class))).thenReturn(requestBodySpec);
         when(requestBodySpec.bodyValue(any())).thenReturn(requestHeadersSpec);
         when(requestHeadersSpec.retrieve()).thenReturn(responseSpec);
         when(responseSpec.bodyToMono(String.class)).thenReturn(Mono.just(jsonResponse));
@@ -160,6 +166,28 @@ public class AIServiceTest {
         assertTrue(result.containsKey("data"));
     }
 
+    @Test
+    void testProcessResponse_stripsMarkdownFence() {
+        // Content wrapped in a ```json fence, as models often return it
+        String rawResponse = "{\"id\":\"x\",\"choices\":[{\"index\":0,\"message\":{\"role\":\"assistant\",\"content\":\"```json\\n[{\\\"a\\\": 1}, {\\\"a\\\": 2}]\\n```\"}}]}";
+
+        Map<String, Object> result = aiService.processResponse(rawResponse);
+
+        JsonNode data = (JsonNode) result.get("data");
+        assertEquals(2, data.size(), "Fence and language tag should be stripped before parsing.");
+        assertEquals(2, data.get(1).get("a").asInt());
+    }
+
+    @Test
+    void testProcessResponse_wrapsSingleObject() {
+        String rawResponse = "{\"choices\":[{\"message\":{\"content\":\"{\\\"a\\\": 1}\"}}]}";
+
+        JsonNode data = (JsonNode) aiService.processResponse(rawResponse).get("data");
+
+        assertTrue(data.isArray());
+        assertEquals(1, data.size());
+    }
+
     @Test
     void testProcessResponse_invalidResponse() {
         // Test scenarios like missing nodes or malformed JSON
@@ -183,5 +211,16 @@ public class AIServiceTest {
         assertTrue(exception.getMessage().contains("Malformed JSON received from AI service"));
         assertTrue(exception.getMessage().contains("malformed json")); // Confirm the raw response is logged
     }
-}
 
+    @Test
+    void testProcessResponse_malformedContentIsQuoted() {
+        String rawResponse = "{\"choices\":[{\"message\":{\"content\":\"```json\\n[{\\\"name\\\": }]\\n```\"}}]}";
+
+        Exception exception = assertThrows(RuntimeException.class, () -> {
+            aiService.processResponse(rawResponse);
+        });
+
+        assertTrue(exception.getMessage().startsWith("Malformed JSON in cleaned content"), exception.getMessage());
+        assertTrue(exception.getMessage().contains("[{\"name\": }]"), "The cleaned content should be quoted: " + exception.getMessage());
+    }
+}
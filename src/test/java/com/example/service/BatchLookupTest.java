@@ -0,0 +1,78 @@
+// src/test/java/com/example/service/BatchLookupTest.java
+package com.example.service;
+
+import com.example.entity.Skill;
+import com.example.exception.ResourceNotFoundException;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BatchLookupTest {
+
+    private final List<Set<Long>> loaderCalls = new ArrayList<>();
+
+    private final Function<Set<Long>, List<Skill>> loader = ids -> {
+        loaderCalls.add(ids);
+        return ids.stream().filter(id -> id < 10).map(BatchLookupTest::skill).toList();
+    };
+
+    @Test
+    void testFindAll_OneLoaderCallForAllIds() {
+        Set<Skill> skills = BatchLookup.findAll(loader, Set.of(1L, 2L, 3L), Skill::getSkillId, "Skill");
+
+        assertEquals(3, skills.size());
+        assertEquals(List.of(Set.of(1L, 2L, 3L)), loaderCalls, "All IDs should be loaded in a single call.");
+    }
+
+    @Test
+    void testFindAll_ReportsOneMissingIdAsNotFound() {
+        ResourceNotFoundException exception = assertThrows(ResourceNotFoundException.class,
+                () -> BatchLookup.findAll(loader, Set.of(1L, 42L), Skill::getSkillId, "Skill"));
+
+        assertEquals("Skill not found with ID: 42", exception.getMessage());
+    }
+
+    @Test
+    void testFindAll_ReportsEveryMissingIdInOrder() {
+        ResourceNotFoundException exception = assertThrows(ResourceNotFoundException.class,
+                () -> BatchLookup.findAll(loader, Set.of(1L, 99L, 42L), Skill::getSkillId, "Skill"));
+
+        assertEquals("Skills not found with IDs: [42, 99]", exception.getMessage());
+    }
+
+    @Test
+    void testFindAll_NullOrEmptyIdsSkipTheLoader() {
+        Set<Long> withNull = new HashSet<>();
+        withNull.add(null);
+
+        assertTrue(BatchLookup.findAll(loader, null, Skill::getSkillId, "Skill").isEmpty());
+        assertTrue(BatchLookup.findAll(loader, Set.of(), Skill::getSkillId, "Skill").isEmpty());
+        assertTrue(BatchLookup.findAll(loader, withNull, Skill::getSkillId, "Skill").isEmpty());
+        assertTrue(loaderCalls.isEmpty(), "Nothing should be loaded without IDs.");
+    }
+
+    @Test
+    void testPick_PicksPerRecordFromOneLoad() {
+        Map<Long, Skill> loaded = BatchLookup.loadAll(loader, Set.of(1L, 2L, 3L), Skill::getSkillId);
+
+        assertEquals(Set.of(1L, 3L), BatchLookup.pick(loaded, Set.of(1L, 3L), "Skill").stream()
+                .map(Skill::getSkillId).collect(Collectors.toSet()));
+        assertEquals(Set.of(42L), BatchLookup.missingIds(loaded, Set.of(2L, 42L)));
+        assertEquals(1, loaderCalls.size());
+    }
+
+    private static Skill skill(Long id) {
+        Skill skill = new Skill();
+        skill.setSkillId(id);
+        skill.setName("Skill " + id);
+        return skill;
+    }
+}
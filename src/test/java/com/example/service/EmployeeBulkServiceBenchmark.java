@@ -0,0 +1,90 @@
+// src/test/java/com/example/service/EmployeeBulkServiceBenchmark.java
+package com.example.service;
+
+import com.example.dto.BulkEmployeeResultDto;
+import com.example.dto.EmployeeDto;
+import com.example.mapper.EmployeeMapperImpl;
+import com.example.mapper.SkillMapperImpl;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Throughput of the bulk path versus one createEmployee call per record.
+ * Not picked up by the default surefire includes, run with: mvn test -Dtest=EmployeeBulkServiceBenchmark
+ */
+@Tag("benchmark")
+@DataJpaTest(properties = {
+        "spring.jpa.show-sql=false",
+        "spring.jpa.properties.hibernate.jdbc.batch_size=50",
+        "spring.jpa.properties.hibernate.order_inserts=true",
+        "spring.jpa.properties.hibernate.order_updates=true",
+        "logging.level.org.hibernate=WARN",
+        "logging.level.com.example=INFO"
+})
+@Import({EmployeeBulkService.class, EmployeeService.class, TotalCountCache.class, SkillCatalogCache.class, EmployeeMapperImpl.class, SkillMapperImpl.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class EmployeeBulkServiceBenchmark {
+
+    private static final Logger logger = LoggerFactory.getLogger(EmployeeBulkServiceBenchmark.class);
+
+    private static final int RECORDS = 10_000;
+
+    @Autowired
+    private EmployeeBulkService employeeBulkService;
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Test
+    void benchmarkBulkVersusSingleInserts() {
+        // Warm up both paths so JIT and connection setup are not measured
+        employeeBulkService.upsertEmployees(employees(500, "Warmup Bulk"));
+        employees(100, "Warmup Single").forEach(employeeService::createEmployee);
+
+        List<EmployeeDto> singleBatch = employees(RECORDS / 10, "Single Person");
+        long singleStart = System.nanoTime();
+        singleBatch.forEach(employeeService::createEmployee);
+        double singleRate = recordsPerSecond(singleBatch.size(), System.nanoTime() - singleStart);
+
+        List<EmployeeDto> bulkBatch = employees(RECORDS, "Bulk Person");
+        long bulkStart = System.nanoTime();
+        List<BulkEmployeeResultDto> results = employeeBulkService.upsertEmployees(bulkBatch);
+        double bulkRate = recordsPerSecond(bulkBatch.size(), System.nanoTime() - bulkStart);
+
+        assertTrue(results.stream().allMatch(r -> r.getStatus() == BulkEmployeeResultDto.Status.CREATED));
+        logger.info("createEmployee: {} records/sec ({} records)", String.format("%.0f", singleRate), singleBatch.size());
+        logger.info("bulk upsert:    {} records/sec ({} records)", String.format("%.0f", bulkRate), bulkBatch.size());
+    }
+
+    private static double recordsPerSecond(int records, long elapsedNanos) {
+        return records / (elapsedNanos / 1_000_000_000.0);
+    }
+
+    private static List<EmployeeDto> employees(int count, String namePrefix) {
+        List<EmployeeDto> dtos = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            EmployeeDto dto = new EmployeeDto();
+            dto.setName(namePrefix + " " + i);
+            dto.setDateOfBirth(LocalDate.of(1980 + i % 20, 1 + i % 12, 1 + i % 28));
+            dto.setJobRole("Engineer");
+            dto.setGender(i % 2 == 0 ? "Female" : "Male");
+            dto.setSkillIds(Set.of(1L + i % 30, 1L + (i + 7) % 30));
+            dtos.add(dto);
+        }
+        return dtos;
+    }
+}
@@ -0,0 +1,141 @@
+// src/test/java/com/example/service/EmployeeBulkServiceTest.java
+package com.example.service;
+
+import com.example.dto.BulkEmployeeResultDto;
+import com.example.dto.BulkEmployeeResultDto.Status;
+import com.example.dto.EmployeeDto;
+import com.example.entity.Employee;
+import com.example.mapper.EmployeeMapperImpl;
+import com.example.mapper.SkillMapperImpl;
+import com.example.repository.EmployeeRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = "employee.bulk.chunk-size=3")
+@Import({EmployeeBulkService.class, EmployeeService.class, TotalCountCache.class, SkillCatalogCache.class, EmployeeMapperImpl.class, SkillMapperImpl.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class EmployeeBulkServiceTest {
+
+    @Autowired
+    private EmployeeBulkService employeeBulkService;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    /**
+     * Test creating several chunks of employees with sequence-assigned IDs.
+     */
+    @Test
+    void testUpsertEmployees_CreatesAcrossChunks() {
+        // Arrange
+        List<EmployeeDto> dtos = new ArrayList<>();
+        for (int i = 0; i < 7; i++) {
+            dtos.add(newEmployee("Bulk Person" + i, Set.of(1L, 2L)));
+        }
+
+        // Act
+        List<BulkEmployeeResultDto> results = employeeBulkService.upsertEmployees(dtos);
+
+        // Assert
+        assertEquals(7, results.size(), "One result per record expected.");
+        for (int i = 0; i < results.size(); i++) {
+            BulkEmployeeResultDto result = results.get(i);
+            assertEquals(i, result.getIndex(), "Results should follow request order.");
+            assertEquals(Status.CREATED, result.getStatus(), "Record should be created.");
+            assertNotNull(result.getEmployeeId(), "Created record should carry its ID.");
+
+            Employee saved = employeeRepository.findById(result.getEmployeeId()).orElseThrow();
+            assertEquals("bulk.person" + i + "@email.com", saved.getEmail(), "Email should be generated.");
+        }
+    }
+
+    /**
+     * Test that the cached employee total does not outlive a bulk insert.
+     */
+    @Test
+    void testUpsertEmployees_InvalidatesCachedTotal() {
+        // Arrange
+        long totalBefore = employeeService.getAllEmployees(PageRequest.of(0, 5)).getTotalElements();
+        List<EmployeeDto> dtos = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            dtos.add(newEmployee("Counted Person" + i, null));
+        }
+
+        // Act
+        employeeBulkService.upsertEmployees(dtos);
+        long totalAfter = employeeService.getAllEmployees(PageRequest.of(0, 5)).getTotalElements();
+
+        // Assert
+        assertEquals(totalBefore + 4, totalAfter, "The page total should include the bulk-created employees.");
+    }
+
+    /**
+     * Test that invalid records fail individually without affecting the rest of the chunk.
+     */
+    @Test
+    void testUpsertEmployees_ReportsPerRecordFailures() {
+        // Arrange
+        EmployeeDto missingName = newEmployee(null, null);
+        EmployeeDto unknownSkill = newEmployee("Unknown Skill", Set.of(99999L));
+        EmployeeDto unknownEmployee = newEmployee("Ghost Employee", null);
+        unknownEmployee.setEmployeeId(99999L);
+        EmployeeDto valid = newEmployee("Valid Person", null);
+
+        // Act
+        List<BulkEmployeeResultDto> results = employeeBulkService.upsertEmployees(
+                List.of(missingName, unknownSkill, unknownEmployee, valid));
+
+        // Assert
+        assertEquals(Status.FAILED, results.get(0).getStatus());
+        assertEquals("Employee name is required.", results.get(0).getError());
+        assertEquals(Status.FAILED, results.get(1).getStatus());
+        assertEquals("Skill not found with ID: 99999", results.get(1).getError());
+        assertEquals(Status.FAILED, results.get(2).getStatus());
+        assertEquals("Employee not found with ID: 99999", results.get(2).getError());
+        assertEquals(Status.CREATED, results.get(3).getStatus());
+        assertNotNull(results.get(3).getEmployeeId());
+    }
+
+    /**
+     * Test that records with an ID update the existing employee.
+     */
+    @Test
+    void testUpsertEmployees_UpdatesExistingEmployee() {
+        // Arrange
+        EmployeeDto update = newEmployee("Alice Updated", Set.of(3L));
+        update.setEmployeeId(1L);
+
+        // Act
+        List<BulkEmployeeResultDto> results = employeeBulkService.upsertEmployees(List.of(update));
+
+        // Assert
+        assertEquals(Status.UPDATED, results.get(0).getStatus());
+        assertEquals(1L, results.get(0).getEmployeeId());
+        assertEquals("Alice Updated", employeeRepository.findById(1L).orElseThrow().getName());
+    }
+
+    private EmployeeDto newEmployee(String name, Set<Long> skillIds) {
+        EmployeeDto dto = new EmployeeDto();
+        dto.setName(name);
+        dto.setDateOfBirth(LocalDate.of(1990, 1, 1));
+        dto.setJobRole("Developer");
+        dto.setGender("Female");
+        dto.setSkillIds(skillIds);
+        return dto;
+    }
+}
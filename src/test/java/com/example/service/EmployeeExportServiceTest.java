@@ -0,0 +1,101 @@
+// src/test/java/com/example/service/EmployeeExportServiceTest.java
+package com.example.service;
+
+import com.example.dto.EmployeeDto;
+import com.example.entity.Employee;
+import com.example.mapper.EmployeeMapper;
+import com.example.repository.EmployeeRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class EmployeeExportServiceTest {
+
+    @Mock
+    private EmployeeRepository employeeRepository;
+
+    @Mock
+    private EmployeeMapper employeeMapper;
+
+    @Mock
+    private EntityManager entityManager;
+
+    private EmployeeExportService employeeExportService;
+
+    @BeforeEach
+    void setUp() {
+        employeeExportService = new EmployeeExportService(employeeRepository, employeeMapper, entityManager, new ObjectMapper(), 2);
+    }
+
+    /**
+     * Test that every employee is written as one JSON line and the persistence context is cleared per window.
+     */
+    @Test
+    void testExportEmployees_WritesOneLinePerEmployeeInWindows() {
+        // Arrange
+        List<Employee> employees = List.of(employee(1L), employee(2L), employee(3L));
+        AtomicBoolean streamClosed = new AtomicBoolean();
+        when(employeeRepository.streamAllForExport())
+                .thenReturn(employees.stream().onClose(() -> streamClosed.set(true)));
+        for (Employee employee : employees) {
+            EmployeeDto dto = new EmployeeDto();
+            dto.setEmployeeId(employee.getEmployeeId());
+            dto.setName("Employee " + employee.getEmployeeId());
+            when(employeeMapper.toDto(employee)).thenReturn(dto);
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // Act
+        long exported = employeeExportService.exportEmployees(out);
+
+        // Assert
+        assertEquals(3, exported, "All employees should be exported.");
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(3, lines.length, "One line per employee expected.");
+        assertTrue(lines[0].startsWith("{\"employeeId\":1,"), "First line should be employee 1.");
+        assertTrue(lines[2].contains("\"name\":\"Employee 3\""), "Last line should be employee 3.");
+
+        verify(employeeRepository, times(1)).findWithAssociationsByIdIn(List.of(1L, 2L));
+        verify(employeeRepository, times(1)).findWithAssociationsByIdIn(List.of(3L));
+        verify(entityManager, times(2)).clear();
+        assertTrue(streamClosed.get(), "The cursor should be closed.");
+    }
+
+    /**
+     * Test exporting an empty table.
+     */
+    @Test
+    void testExportEmployees_EmptyTable() {
+        // Arrange
+        when(employeeRepository.streamAllForExport()).thenReturn(Stream.empty());
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // Act
+        long exported = employeeExportService.exportEmployees(out);
+
+        // Assert
+        assertEquals(0, exported);
+        assertEquals(0, out.size());
+        verify(employeeRepository, never()).findWithAssociationsByIdIn(anyList());
+    }
+
+    private Employee employee(Long id) {
+        Employee employee = new Employee();
+        employee.setEmployeeId(id);
+        return employee;
+    }
+}
@@ -0,0 +1,156 @@
+// src/test/java/com/example/service/EmployeeIngestServiceTest.java
+package com.example.service;
+
+import com.example.dto.BulkEmployeeResultDto;
+import com.example.dto.BulkEmployeeResultDto.Status;
+import com.example.dto.EmployeeDto;
+import com.example.dto.EmployeeGenerationRequestDto;
+import com.example.dto.EmployeeIngestProgressDto;
+import com.example.exception.InvalidInputException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class EmployeeIngestServiceTest {
+
+    @Mock
+    private AIService aiService;
+
+    @Mock
+    private EmployeeBulkService employeeBulkService;
+
+    @Mock
+    private EmployeeService employeeService;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private EmployeeIngestService employeeIngestService;
+
+    @BeforeEach
+    void setUp() {
+        employeeIngestService = new EmployeeIngestService(aiService, employeeBulkService, employeeService, 1000, 2);
+    }
+
+    @Test
+    void testGenerateAndIngest_ValidatesAndWritesInBatches() {
+        // Arrange
+        doCallRealMethod().when(employeeService).validateEmployeeInput(any(EmployeeDto.class));
+        ArrayNode firstChunk = objectMapper.createArrayNode()
+                .add(employee("Ada Lovelace", "1985-12-10"))
+                .add(employee("", "1990-01-01"));            // Blank name
+        ArrayNode secondChunk = objectMapper.createArrayNode()
+                .add(employee("Alan Turing", "1982-06-23"))
+                .add(employee("Grace Hopper", "not a date"))
+                .add(employee("Linus Torvalds", "1989-12-28"));
+        when(aiService.generateEmployeeRecords(eq(5), anyString())).thenReturn(Flux.just(firstChunk, secondChunk));
+        when(employeeBulkService.upsertEmployees(anyList())).thenAnswer(invocation -> created(invocation.getArgument(0)));
+
+        // Act
+        List<EmployeeIngestProgressDto> progress = employeeIngestService
+                .generateAndIngest(new EmployeeGenerationRequestDto(5, null))
+                .collectList()
+                .block();
+
+        // Assert
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<EmployeeDto>> batches = ArgumentCaptor.forClass(List.class);
+        verify(employeeBulkService, times(2)).upsertEmployees(batches.capture());
+        assertEquals(List.of(2, 1), batches.getAllValues().stream().map(List::size).toList(),
+                "Three valid records in batches of two.");
+        assertEquals("Ada Lovelace", batches.getAllValues().get(0).get(0).getName());
+
+        EmployeeIngestProgressDto summary = progress.get(progress.size() - 1);
+        assertTrue(summary.isDone(), "Last event should be the summary.");
+        assertEquals(5, summary.getGenerated());
+        assertEquals(3, summary.getInserted());
+        assertEquals(2, summary.getRejected());
+        assertEquals(2, summary.getErrors().size());
+        assertEquals(3, progress.size(), "One event per batch plus the summary.");
+    }
+
+    @Test
+    void testGenerateAndIngest_CountsRolledBackRecordsAsRejected() {
+        // Arrange
+        when(aiService.generateEmployeeRecords(eq(2), anyString()))
+                .thenReturn(Flux.just(objectMapper.createArrayNode()
+                        .add(employee("Ada Lovelace", "1985-12-10"))
+                        .add(employee("Alan Turing", "1982-06-23"))));
+        when(employeeBulkService.upsertEmployees(anyList())).thenReturn(List.of(
+                new BulkEmployeeResultDto(0, 1L, Status.CREATED, null),
+                new BulkEmployeeResultDto(1, null, Status.FAILED, "Chunk rolled back: constraint")));
+
+        // Act
+        EmployeeIngestProgressDto summary = employeeIngestService
+                .generateAndIngest(new EmployeeGenerationRequestDto(2, "a hospital"))
+                .blockLast();
+
+        // Assert
+        assertEquals(1, summary.getInserted());
+        assertEquals(1, summary.getRejected());
+        verify(aiService).generateEmployeeRecords(2, "a hospital");
+    }
+
+    @Test
+    void testGenerateAndIngest_DoesNotRequestMoreThanPersistenceAccepts() {
+        // Arrange: generation is a hot source the test drives by hand
+        Sinks.Many<JsonNode> chunks = Sinks.many().unicast().onBackpressureBuffer();
+        when(aiService.generateEmployeeRecords(eq(4), anyString())).thenReturn(chunks.asFlux());
+        when(employeeBulkService.upsertEmployees(anyList())).thenAnswer(invocation -> created(invocation.getArgument(0)));
+
+        // Act & Assert: a batch is written only once it is full, and the run ends with the summary
+        StepVerifier.create(employeeIngestService.generateAndIngest(new EmployeeGenerationRequestDto(4, null)))
+                .expectSubscription()
+                .then(() -> chunks.tryEmitNext(objectMapper.createArrayNode().add(employee("Ada Lovelace", "1985-12-10"))))
+                .expectNoEvent(Duration.ofMillis(100))
+                .then(() -> chunks.tryEmitNext(objectMapper.createArrayNode()
+                        .add(employee("Alan Turing", "1982-06-23"))
+                        .add(employee("Grace Hopper", "1906-12-09"))
+                        .add(employee("Linus Torvalds", "1989-12-28"))))
+                .assertNext(event -> assertEquals(2, event.getInserted()))
+                .assertNext(event -> assertEquals(4, event.getInserted()))
+                .assertNext(event -> assertTrue(event.isDone()))
+                .verifyComplete();
+    }
+
+    @Test
+    void testGenerateAndIngest_RejectsCountsOutsideLimit() {
+        assertThrows(InvalidInputException.class,
+                () -> employeeIngestService.generateAndIngest(new EmployeeGenerationRequestDto(0, null)));
+        assertThrows(InvalidInputException.class,
+                () -> employeeIngestService.generateAndIngest(new EmployeeGenerationRequestDto(1001, null)));
+        verifyNoInteractions(aiService);
+    }
+
+    private JsonNode employee(String name, String dateOfBirth) {
+        return objectMapper.createObjectNode()
+                .put("name", name)
+                .put("dateOfBirth", dateOfBirth)
+                .put("jobRole", "Engineer")
+                .put("gender", "Female");
+    }
+
+    private static List<BulkEmployeeResultDto> created(List<EmployeeDto> batch) {
+        List<BulkEmployeeResultDto> results = new ArrayList<>();
+        for (int i = 0; i < batch.size(); i++) {
+            results.add(new BulkEmployeeResultDto(i, (long) i + 1, Status.CREATED, null));
+        }
+        return results;
+    }
+}
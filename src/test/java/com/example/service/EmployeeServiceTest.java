@@ -10,7 +10,6 @@ import com.example.exception.ResourceNotFoundException;
 import com.example.mapper.EmployeeMapper;
 import com.example.repository.EmployeeRepository;
 import com.example.repository.ProjectRepository;
-import com.example.repository.SkillRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -35,11 +34,14 @@ class EmployeeServiceTest {
     private ProjectRepository projectRepository;
 
     @Mock
-    private SkillRepository skillRepository;
+    private SkillCatalogCache skillCatalogCache;
 
     @Mock
     private EmployeeMapper employeeMapper;
 
+    @Spy
+    private TotalCountCache totalCountCache = new TotalCountCache(30);
+
     @InjectMocks
     private EmployeeService employeeService;
 
@@ -98,10 +100,8 @@ class EmployeeServiceTest {
     @Test
     void testProcessEmployeeData_shouldSetCorrectProjectsSkillsAgeAndEmail() {
         // Arrange
-        when(projectRepository.findById(1L)).thenReturn(Optional.of(project1));
-        when(projectRepository.findById(2L)).thenReturn(Optional.of(project2));
-        when(skillRepository.findById(1L)).thenReturn(Optional.of(skill1));
-        when(skillRepository.findById(2L)).thenReturn(Optional.of(skill2));
+        when(projectRepository.findAllById(employeeDto.getProjectIds())).thenReturn(Arrays.asList(project1, project2));
+        when(skillCatalogCache.getReferences(employeeDto.getSkillIds())).thenReturn(Arrays.asList(skill1, skill2));
 
         // Act
         employeeService.processEmployeeData(employee, employeeDto);
@@ -113,6 +113,23 @@ class EmployeeServiceTest {
         assertTrue(employee.getSkills().containsAll(Arrays.asList(skill1, skill2)), "Skills not set correctly.");
         assertEquals(Period.between(employeeDto.getDateOfBirth(), LocalDate.now()).getYears(), employee.getAge(), "Age not calculated correctly.");
         assertEquals("john.doe@email.com", employee.getEmail(), "Email not generated correctly.");
+        verify(projectRepository, never()).findById(anyLong());
+        verify(skillCatalogCache, never()).findById(anyLong());
+    }
+
+    @Test
+    void testProcessEmployeeData_shouldFailFast_whenSkillIdIsMissing() {
+        // Arrange
+        when(projectRepository.findAllById(employeeDto.getProjectIds())).thenReturn(Arrays.asList(project1, project2));
+        when(skillCatalogCache.getReferences(employeeDto.getSkillIds())).thenReturn(List.of(skill1));
+
+        // Act & Assert
+        ResourceNotFoundException exception = assertThrows(ResourceNotFoundException.class, () -> {
+            employeeService.processEmployeeData(employee, employeeDto);
+        });
+
+        assertEquals("Skill not found with ID: 2", exception.getMessage());
+        verify(skillCatalogCache, times(1)).getReferences(employeeDto.getSkillIds());
     }
 
     @Test
@@ -174,7 +191,7 @@ class EmployeeServiceTest {
     void testCreateEmployee_shouldReturnEmployeeDto_whenInputIsValid() {
         // Arrange
         when(employeeMapper.toEntity(employeeDto)).thenReturn(employee);
-        when(skillRepository.findAllById(employeeDto.getSkillIds())).thenReturn(Arrays.asList(skill1, skill2));
+        when(skillCatalogCache.getReferences(employeeDto.getSkillIds())).thenReturn(Arrays.asList(skill1, skill2));
         when(projectRepository.findAllById(employeeDto.getProjectIds())).thenReturn(Arrays.asList(project1, project2));
         when(employeeRepository.save(any(Employee.class))).thenReturn(employee);
         when(employeeMapper.toDto(employee)).thenReturn(employeeDto);
@@ -187,7 +204,8 @@ class EmployeeServiceTest {
         assertEquals(employeeDto.getName(), result.getName(), "Employee name mismatch.");
         assertEquals(employeeDto.getJobRole(), result.getJobRole(), "Job role mismatch.");
         assertEquals(employeeDto.getGender(), result.getGender(), "Gender mismatch.");
-        // Additional assertions can be added as needed
+        verify(skillCatalogCache, times(1)).getReferences(employeeDto.getSkillIds());
+        verify(projectRepository, times(1)).findAllById(employeeDto.getProjectIds());
     }
 
     @Test
@@ -195,7 +213,7 @@ class EmployeeServiceTest {
         // Arrange
         Long employeeId = 1L;
         when(employeeRepository.findById(employeeId)).thenReturn(Optional.of(employee));
-        when(skillRepository.findAllById(employeeDto.getSkillIds())).thenReturn(Arrays.asList(skill1, skill2));
+        when(skillCatalogCache.getReferences(employeeDto.getSkillIds())).thenReturn(Arrays.asList(skill1, skill2));
         when(projectRepository.findAllById(employeeDto.getProjectIds())).thenReturn(Arrays.asList(project1, project2));
         when(employeeRepository.save(any(Employee.class))).thenReturn(employee);
         when(employeeMapper.toDto(employee)).thenReturn(employeeDto);
@@ -215,10 +233,11 @@ class EmployeeServiceTest {
     void testGetAllEmployees_Success() {
         // Arrange
         Pageable pageable = PageRequest.of(0, 10);
-        List<Employee> employees = Arrays.asList(employee);
-        Page<Employee> employeePage = new PageImpl<>(employees, pageable, employees.size());
+        List<Long> employeeIds = List.of(employee.getEmployeeId());
+        Slice<Long> idPage = new SliceImpl<>(employeeIds, pageable, false);
 
-        when(employeeRepository.findAll(pageable)).thenReturn(employeePage);
+        when(employeeRepository.findEmployeeIds(pageable)).thenReturn(idPage);
+        when(employeeRepository.findWithAssociationsByIdIn(employeeIds)).thenReturn(List.of(employee));
         when(employeeMapper.toDto(employee)).thenReturn(employeeDto);
 
         // Act
@@ -228,16 +247,19 @@ class EmployeeServiceTest {
         assertNotNull(result);
         assertEquals(1, result.getTotalElements());
         assertEquals(employeeDto.getName(), result.getContent().get(0).getName());
-        verify(employeeRepository, times(1)).findAll(pageable);
+        verify(employeeRepository, times(1)).findEmployeeIds(pageable);
+        verify(employeeRepository, times(1)).findWithAssociationsByIdIn(employeeIds);
+        verify(employeeRepository, never()).findAll(any(Pageable.class));
+        verify(employeeRepository, never()).count();
     }
 
     @Test
     void testGetAllEmployees_NoEmployees() {
         // Arrange
         Pageable pageable = PageRequest.of(0, 10);
-        Page<Employee> emptyPage = new PageImpl<>(Collections.emptyList(), pageable, 0);
+        Slice<Long> emptyPage = new SliceImpl<>(Collections.emptyList(), pageable, false);
 
-        when(employeeRepository.findAll(pageable)).thenReturn(emptyPage);
+        when(employeeRepository.findEmployeeIds(pageable)).thenReturn(emptyPage);
 
         // Act & Assert
         ResourceNotFoundException exception = assertThrows(ResourceNotFoundException.class, () -> {
@@ -245,7 +267,8 @@ class EmployeeServiceTest {
         });
 
         assertEquals("No employees found.", exception.getMessage());
-        verify(employeeRepository, times(1)).findAll(pageable);
+        verify(employeeRepository, times(1)).findEmployeeIds(pageable);
+        verify(employeeRepository, never()).findWithAssociationsByIdIn(anyList());
     }
 
     @Test
@@ -309,7 +332,7 @@ class EmployeeServiceTest {
 
         // Verify that mapper and repositories are never called
         verify(employeeMapper, never()).toEntity(any(EmployeeDto.class));
-        verify(skillRepository, never()).findAllById(anySet());
+        verify(skillCatalogCache, never()).getReferences(anySet());
         verify(projectRepository, never()).findAllById(anySet());
         verify(employeeRepository, never()).save(any(Employee.class));
     }
@@ -360,4 +383,41 @@ class EmployeeServiceTest {
         verify(employeeRepository, times(1)).findById(employeeId);
         verify(employeeRepository, never()).delete(any(Employee.class));
     }
+
+    @Test
+    void testGetAllEmployees_WithTotalUsesCachedCount() {
+        // Arrange
+        Pageable pageable = PageRequest.of(0, 1);
+        List<Long> employeeIds = List.of(employee.getEmployeeId());
+        when(employeeRepository.findEmployeeIds(pageable)).thenReturn(new SliceImpl<>(employeeIds, pageable, true));
+        when(employeeRepository.findWithAssociationsByIdIn(employeeIds)).thenReturn(List.of(employee));
+        when(employeeMapper.toDto(employee)).thenReturn(employeeDto);
+        when(employeeRepository.count()).thenReturn(25L);
+
+        // Act
+        employeeService.getAllEmployees(pageable);
+        Page<EmployeeDto> result = (Page<EmployeeDto>) employeeService.getAllEmployees(pageable, true);
+
+        // Assert
+        assertEquals(25L, result.getTotalElements());
+        verify(employeeRepository, times(1)).count();
+    }
+
+    @Test
+    void testGetAllEmployees_WithoutTotalReturnsSlice() {
+        // Arrange
+        Pageable pageable = PageRequest.of(0, 1);
+        List<Long> employeeIds = List.of(employee.getEmployeeId());
+        when(employeeRepository.findEmployeeIds(pageable)).thenReturn(new SliceImpl<>(employeeIds, pageable, true));
+        when(employeeRepository.findWithAssociationsByIdIn(employeeIds)).thenReturn(List.of(employee));
+        when(employeeMapper.toDto(employee)).thenReturn(employeeDto);
+
+        // Act
+        Slice<EmployeeDto> result = employeeService.getAllEmployees(pageable, false);
+
+        // Assert
+        assertFalse(result instanceof Page, "No total should be computed.");
+        assertTrue(result.hasNext());
+        verify(employeeRepository, never()).count();
+    }
 }
@@ -0,0 +1,49 @@
+// src/test/java/com/example/service/JsonArrayStreamParserTest.java
+package com.example.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JsonArrayStreamParserTest {
+
+    private final JsonArrayStreamParser parser = new JsonArrayStreamParser(new ObjectMapper());
+
+    @Test
+    void testFeed_EmitsRecordOnClosingBrace() {
+        assertTrue(parser.feed("```json\n[ {\"name\": \"Al").isEmpty(), "Incomplete record must not be emitted.");
+
+        List<JsonNode> records = parser.feed("ice\"}, {\"name\"");
+
+        assertEquals(1, records.size());
+        assertEquals("Alice", records.get(0).get("name").asText());
+    }
+
+    @Test
+    void testFeed_IgnoresBracesInsideStringsAndKeepsNesting() {
+        List<JsonNode> records = new ArrayList<>();
+        String content = "[{\"note\": \"a } \\\" { b\", \"tags\": [\"x\"], \"address\": {\"city\": \"Oslo\"}}, {\"id\": 2}]```";
+
+        // Feed one character at a time, the worst case for a streamed delta
+        for (char c : content.toCharArray()) {
+            records.addAll(parser.feed(String.valueOf(c)));
+        }
+
+        assertEquals(2, records.size());
+        assertEquals("a } \" { b", records.get(0).get("note").asText());
+        assertEquals("Oslo", records.get(0).get("address").get("city").asText());
+        assertEquals(2, records.get(1).get("id").asInt());
+    }
+
+    @Test
+    void testFeed_StopsAtClosingBracket() {
+        parser.feed("[{\"id\": 1}]");
+
+        assertTrue(parser.feed("{\"id\": 2}").isEmpty(), "Text after the array must be ignored.");
+    }
+}
@@ -0,0 +1,61 @@
+// src/test/java/com/example/service/KeysetCursorTest.java
+package com.example.service;
+
+import com.example.dto.CursorPageDto;
+import com.example.exception.InvalidInputException;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class KeysetCursorTest {
+
+    @Test
+    void testEncodeDecode_RoundTrip() {
+        String cursor = KeysetCursor.encode(42L);
+        assertFalse(cursor.contains("42"), "Cursor should be opaque.");
+        assertEquals(42L, KeysetCursor.decode(cursor));
+    }
+
+    @Test
+    void testDecode_MissingCursorStartsFromBeginning() {
+        assertEquals(0L, KeysetCursor.decode(null));
+        assertEquals(0L, KeysetCursor.decode(""));
+    }
+
+    @Test
+    void testDecode_InvalidCursor() {
+        InvalidInputException exception = assertThrows(InvalidInputException.class, () -> KeysetCursor.decode("not-a-cursor"));
+        assertEquals("Invalid cursor: not-a-cursor", exception.getMessage());
+    }
+
+    @Test
+    void testLookahead_FetchesOneExtraRow() {
+        Pageable pageable = KeysetCursor.lookahead(10);
+        assertEquals(0, pageable.getOffset(), "Keyset pages never use an offset.");
+        assertEquals(11, pageable.getPageSize());
+        assertThrows(InvalidInputException.class, () -> KeysetCursor.lookahead(0));
+        assertThrows(InvalidInputException.class, () -> KeysetCursor.lookahead(KeysetCursor.MAX_LIMIT + 1));
+    }
+
+    @Test
+    void testPage_WithNextPage() {
+        CursorPageDto<Long> page = KeysetCursor.page(List.of(3L, 5L, 8L), 2, Function.identity(), Function.identity());
+
+        assertEquals(List.of(3L, 5L), page.getContent());
+        assertTrue(page.isHasNext());
+        assertEquals(5L, KeysetCursor.decode(page.getNextCursor()));
+    }
+
+    @Test
+    void testPage_LastPage() {
+        CursorPageDto<Long> page = KeysetCursor.page(List.of(3L, 5L), 2, Function.identity(), Function.identity());
+
+        assertEquals(List.of(3L, 5L), page.getContent());
+        assertFalse(page.isHasNext());
+        assertNull(page.getNextCursor());
+    }
+}
@@ -0,0 +1,82 @@
+// src/test/java/com/example/service/ProjectCacheBenchmark.java
+package com.example.service;
+
+import com.example.dto.ProjectDto;
+import com.example.entity.Project;
+import com.example.mapper.EmployeeMapperImpl;
+import com.example.mapper.ProjectMapperImpl;
+import com.example.mapper.SkillMapperImpl;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Latency of the GET /api/projects/{id} service call with a cold versus a warm second-level cache.
+ * Not picked up by the default surefire includes, run with: mvn test -Dtest=ProjectCacheBenchmark
+ */
+@Tag("benchmark")
+@DataJpaTest(properties = {
+        "spring.jpa.show-sql=false",
+        "spring.jpa.properties.hibernate.cache.use_second_level_cache=true",
+        "spring.jpa.properties.hibernate.cache.use_query_cache=true",
+        "spring.jpa.properties.hibernate.cache.region.factory_class=jcache",
+        "spring.jpa.properties.hibernate.javax.cache.provider=org.ehcache.jsr107.EhcacheCachingProvider",
+        "spring.jpa.properties.hibernate.javax.cache.uri=ehcache.xml",
+        "logging.level.org.hibernate=WARN",
+        "logging.level.com.example=INFO"
+})
+@Import({ProjectService.class, TotalCountCache.class, SkillCatalogCache.class,
+        ProjectMapperImpl.class, EmployeeMapperImpl.class, SkillMapperImpl.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ProjectCacheBenchmark {
+
+    private static final Logger logger = LoggerFactory.getLogger(ProjectCacheBenchmark.class);
+
+    private static final int ITERATIONS = 2_000;
+    private static final long PROJECT_COUNT = 10;
+
+    @Autowired
+    private ProjectService projectService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void benchmarkUncachedVersusCachedGetProjectById() {
+        // Warm up JIT and the connection pool on both paths
+        run(ITERATIONS / 4, true);
+        run(ITERATIONS / 4, false);
+
+        double uncachedMicros = run(ITERATIONS, true);
+        double cachedMicros = run(ITERATIONS, false);
+
+        assertTrue(entityManagerFactory.getCache().contains(Project.class, 1L),
+                "Project 1 should be in the second-level cache after the warm run.");
+        logger.info("getProjectById uncached: {} us/op ({} ops)", String.format("%.1f", uncachedMicros), ITERATIONS);
+        logger.info("getProjectById cached:   {} us/op ({} ops)", String.format("%.1f", cachedMicros), ITERATIONS);
+    }
+
+    // Average microseconds per call; evictEachCall empties the second-level cache before every request
+    private double run(int iterations, boolean evictEachCall) {
+        long elapsed = 0;
+        for (int i = 0; i < iterations; i++) {
+            if (evictEachCall) {
+                entityManagerFactory.getCache().evictAll();
+            }
+            long start = System.nanoTime();
+            ProjectDto project = projectService.getProjectById(1 + i % PROJECT_COUNT);
+            elapsed += System.nanoTime() - start;
+            assertNotNull(project);
+        }
+        return elapsed / 1_000.0 / iterations;
+    }
+}
@@ -9,7 +9,6 @@ import com.example.exception.ResourceNotFoundException;
 import com.example.mapper.ProjectMapper;
 import com.example.repository.EmployeeRepository;
 import com.example.repository.ProjectRepository;
-import com.example.repository.SkillRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -34,11 +33,14 @@ class ProjectServiceTest {
     private EmployeeRepository employeeRepository;
 
     @Mock
-    private SkillRepository skillRepository;
+    private SkillCatalogCache skillCatalogCache;
 
     @Mock
     private ProjectMapper projectMapper;
 
+    @Spy
+    private TotalCountCache totalCountCache = new TotalCountCache(30);
+
     @InjectMocks
     private ProjectService projectService;
 
@@ -122,9 +124,9 @@ class ProjectServiceTest {
         // Arrange
         Pageable pageable = PageRequest.of(0, 10);
         List<Project> projects = Arrays.asList(project1, project2);
-        Page<Project> projectPage = new PageImpl<>(projects, pageable, projects.size());
+        Slice<Project> projectSlice = new SliceImpl<>(projects, pageable, false);
 
-        when(projectRepository.findAll(pageable)).thenReturn(projectPage);
+        when(projectRepository.findProjectSlice(pageable)).thenReturn(projectSlice);
         when(projectMapper.toDto(project1)).thenReturn(projectDto1);
         when(projectMapper.toDto(project2)).thenReturn(projectDto2);
 
@@ -139,7 +141,8 @@ class ProjectServiceTest {
         assertTrue(projectDtos.contains(projectDto1), "Result should contain projectDto1.");
         assertTrue(projectDtos.contains(projectDto2), "Result should contain projectDto2.");
 
-        verify(projectRepository, times(1)).findAll(pageable);
+        verify(projectRepository, times(1)).findProjectSlice(pageable);
+        verify(projectRepository, never()).count();
         verify(projectMapper, times(1)).toDto(project1);
         verify(projectMapper, times(1)).toDto(project2);
     }
@@ -153,9 +156,9 @@ class ProjectServiceTest {
         // Arrange
         Pageable pageable = PageRequest.of(0, 10);
         List<Project> projects = Collections.emptyList();
-        Page<Project> projectPage = new PageImpl<>(projects, pageable, 0);
+        Slice<Project> projectSlice = new SliceImpl<>(projects, pageable, false);
 
-        when(projectRepository.findAll(pageable)).thenReturn(projectPage);
+        when(projectRepository.findProjectSlice(pageable)).thenReturn(projectSlice);
 
         // Act
         Page<ProjectDto> result = projectService.getAllProjects(pageable);
@@ -165,7 +168,7 @@ class ProjectServiceTest {
         assertEquals(0, result.getTotalElements(), "Total elements should be 0.");
         assertTrue(result.getContent().isEmpty(), "Project DTO list should be empty.");
 
-        verify(projectRepository, times(1)).findAll(pageable);
+        verify(projectRepository, times(1)).findProjectSlice(pageable);
         verify(projectMapper, never()).toDto(any(Project.class));
     }
 
@@ -243,8 +246,8 @@ class ProjectServiceTest {
         savedProjectDto.setSkillIds(new HashSet<>(Arrays.asList(1L)));
 
         when(projectMapper.toEntity(newProjectDto)).thenReturn(newProject);
-        when(employeeRepository.findById(1L)).thenReturn(Optional.of(employee1));
-        when(skillRepository.findById(1L)).thenReturn(Optional.of(skill1));
+        when(employeeRepository.findAllById(newProjectDto.getEmployeeIds())).thenReturn(List.of(employee1));
+        when(skillCatalogCache.getReferences(newProjectDto.getSkillIds())).thenReturn(List.of(skill1));
         when(projectRepository.save(newProject)).thenReturn(savedProject);
         when(projectMapper.toDto(savedProject)).thenReturn(savedProjectDto);
 
@@ -256,8 +259,10 @@ class ProjectServiceTest {
         assertEquals(savedProjectDto, result, "Saved ProjectDto should match expected.");
 
         verify(projectMapper, times(1)).toEntity(newProjectDto);
-        verify(employeeRepository, times(1)).findById(1L);
-        verify(skillRepository, times(1)).findById(1L);
+        verify(employeeRepository, times(1)).findAllById(newProjectDto.getEmployeeIds());
+        verify(skillCatalogCache, times(1)).getReferences(newProjectDto.getSkillIds());
+        verify(employeeRepository, never()).findById(anyLong());
+        verify(skillCatalogCache, never()).findById(anyLong());
         verify(projectRepository, times(1)).save(newProject);
         verify(projectMapper, times(1)).toDto(savedProject);
     }
@@ -291,10 +296,8 @@ class ProjectServiceTest {
         updatedProjectDto.setSkillIds(new HashSet<>(Arrays.asList(1L, 2L)));
 
         when(projectRepository.findById(projectId)).thenReturn(Optional.of(existingProject));
-        when(employeeRepository.findById(1L)).thenReturn(Optional.of(employee1));
-        when(employeeRepository.findById(2L)).thenReturn(Optional.of(employee2));
-        when(skillRepository.findById(1L)).thenReturn(Optional.of(skill1));
-        when(skillRepository.findById(2L)).thenReturn(Optional.of(skill2));
+        when(employeeRepository.findAllById(updateDto.getEmployeeIds())).thenReturn(Arrays.asList(employee1, employee2));
+        when(skillCatalogCache.getReferences(updateDto.getSkillIds())).thenReturn(Arrays.asList(skill1, skill2));
         when(projectRepository.save(existingProject)).thenReturn(updatedProject);
         when(projectMapper.toDto(updatedProject)).thenReturn(updatedProjectDto);
 
@@ -306,10 +309,8 @@ class ProjectServiceTest {
         assertEquals(updatedProjectDto, result, "Updated ProjectDto should match expected.");
 
         verify(projectRepository, times(1)).findById(projectId);
-        verify(employeeRepository, times(1)).findById(1L);
-        verify(employeeRepository, times(1)).findById(2L);
-        verify(skillRepository, times(1)).findById(1L);
-        verify(skillRepository, times(1)).findById(2L);
+        verify(employeeRepository, times(1)).findAllById(updateDto.getEmployeeIds());
+        verify(skillCatalogCache, times(1)).getReferences(updateDto.getSkillIds());
         verify(projectRepository, times(1)).save(existingProject);
         verify(projectMapper, times(1)).toDto(updatedProject);
     }
@@ -353,10 +354,8 @@ class ProjectServiceTest {
         partialUpdateDto.setSkillIds(new HashSet<>(Arrays.asList(1L, 2L)));
 
         when(projectRepository.findById(projectId)).thenReturn(Optional.of(project1));
-        when(employeeRepository.findById(1L)).thenReturn(Optional.of(employee1));
-        when(employeeRepository.findById(2L)).thenReturn(Optional.of(employee2));
-        when(skillRepository.findById(1L)).thenReturn(Optional.of(skill1));
-        when(skillRepository.findById(2L)).thenReturn(Optional.of(skill2));
+        when(employeeRepository.findAllById(partialUpdateDto.getEmployeeIds())).thenReturn(Arrays.asList(employee1, employee2));
+        when(skillCatalogCache.getReferences(partialUpdateDto.getSkillIds())).thenReturn(Arrays.asList(skill1, skill2));
         when(projectRepository.save(any(Project.class))).thenReturn(project1);
         when(projectMapper.toDto(project1)).thenReturn(projectDto1);
 
@@ -368,10 +367,8 @@ class ProjectServiceTest {
         assertEquals(projectDto1, result, "Updated ProjectDto should match expected.");
 
         verify(projectRepository, times(1)).findById(projectId);
-        verify(employeeRepository, times(1)).findById(1L);
-        verify(employeeRepository, times(1)).findById(2L);
-        verify(skillRepository, times(1)).findById(1L);
-        verify(skillRepository, times(1)).findById(2L);
+        verify(employeeRepository, times(1)).findAllById(partialUpdateDto.getEmployeeIds());
+        verify(skillCatalogCache, times(1)).getReferences(partialUpdateDto.getSkillIds());
         verify(projectRepository, times(1)).save(projectCaptor.capture());
         verify(projectMapper, times(1)).toDto(project1);
 
@@ -510,7 +507,7 @@ class ProjectServiceTest {
         newProject.setSkills(new HashSet<>());
 
         when(projectMapper.toEntity(newProjectDto)).thenReturn(newProject);
-        when(employeeRepository.findById(99L)).thenReturn(Optional.empty());
+        when(employeeRepository.findAllById(newProjectDto.getEmployeeIds())).thenReturn(Collections.emptyList());
 
         // Act & Assert
         ResourceNotFoundException exception = assertThrows(ResourceNotFoundException.class, () -> {
@@ -519,8 +516,8 @@ class ProjectServiceTest {
 
         assertEquals("Employee not found with ID: 99", exception.getMessage(), "Exception message should match.");
         verify(projectMapper, times(1)).toEntity(newProjectDto);
-        verify(employeeRepository, times(1)).findById(99L);
-        verify(skillRepository, never()).findById(anyLong());
+        verify(employeeRepository, times(1)).findAllById(newProjectDto.getEmployeeIds());
+        verify(skillCatalogCache, never()).getReferences(anySet());
         verify(projectRepository, never()).save(any(Project.class));
         verify(projectMapper, never()).toDto(any(Project.class));
     }
@@ -545,8 +542,8 @@ class ProjectServiceTest {
         newProject.setSkills(new HashSet<>());
 
         when(projectMapper.toEntity(newProjectDto)).thenReturn(newProject);
-        when(employeeRepository.findById(1L)).thenReturn(Optional.of(employee1));
-        when(skillRepository.findById(99L)).thenReturn(Optional.empty());
+        when(employeeRepository.findAllById(newProjectDto.getEmployeeIds())).thenReturn(List.of(employee1));
+        when(skillCatalogCache.getReferences(newProjectDto.getSkillIds())).thenReturn(Collections.emptyList());
 
         // Act & Assert
         ResourceNotFoundException exception = assertThrows(ResourceNotFoundException.class, () -> {
@@ -555,8 +552,8 @@ class ProjectServiceTest {
 
         assertEquals("Skill not found with ID: 99", exception.getMessage(), "Exception message should match.");
         verify(projectMapper, times(1)).toEntity(newProjectDto);
-        verify(employeeRepository, times(1)).findById(1L);
-        verify(skillRepository, times(1)).findById(99L);
+        verify(employeeRepository, times(1)).findAllById(newProjectDto.getEmployeeIds());
+        verify(skillCatalogCache, times(1)).getReferences(newProjectDto.getSkillIds());
         verify(projectRepository, never()).save(any(Project.class));
         verify(projectMapper, never()).toDto(any(Project.class));
     }
@@ -627,4 +624,72 @@ class ProjectServiceTest {
         verify(projectRepository, times(1)).save(existingProject);
         verify(projectMapper, times(1)).toDto(existingProject);
     }
+
+    /**
+     * Test creating a project with several unknown employee IDs.
+     * Expects a single ResourceNotFoundException listing every missing ID.
+     */
+    @Test
+    void testCreateProject_ReportsAllMissingEmployees() {
+        // Arrange
+        ProjectDto newProjectDto = new ProjectDto();
+        newProjectDto.setProjectName("Project Zeta");
+        newProjectDto.setEmployeeIds(new HashSet<>(Arrays.asList(1L, 98L, 99L)));
+
+        when(projectMapper.toEntity(newProjectDto)).thenReturn(new Project());
+        when(employeeRepository.findAllById(newProjectDto.getEmployeeIds())).thenReturn(List.of(employee1));
+
+        // Act & Assert
+        ResourceNotFoundException exception = assertThrows(ResourceNotFoundException.class, () -> {
+            projectService.createProject(newProjectDto);
+        }, "Expected ResourceNotFoundException for non-existent employee IDs.");
+
+        assertEquals("Employees not found with IDs: [98, 99]", exception.getMessage(), "Exception message should list all missing IDs.");
+        verify(projectRepository, never()).save(any(Project.class));
+    }
+
+    /**
+     * Test that PATCH skips unknown employee IDs by default.
+     */
+    @Test
+    void testPartialUpdateProject_SkipsMissingEmployeesByDefault() {
+        // Arrange
+        Long projectId = 1L;
+        ProjectDto partialUpdateDto = new ProjectDto();
+        partialUpdateDto.setEmployeeIds(new HashSet<>(Arrays.asList(1L, 99L)));
+
+        when(projectRepository.findById(projectId)).thenReturn(Optional.of(project1));
+        when(employeeRepository.findAllById(partialUpdateDto.getEmployeeIds())).thenReturn(List.of(employee1));
+        when(projectRepository.save(any(Project.class))).thenReturn(project1);
+        when(projectMapper.toDto(project1)).thenReturn(projectDto1);
+
+        // Act
+        projectService.partialUpdateProject(projectId, partialUpdateDto);
+
+        // Assert
+        verify(projectRepository, times(1)).save(projectCaptor.capture());
+        assertEquals(Set.of(employee1), projectCaptor.getValue().getEmployees(), "Only existing employees should be assigned.");
+    }
+
+    /**
+     * Test that PATCH in FAIL mode rejects unknown employee IDs.
+     */
+    @Test
+    void testPartialUpdateProject_FailsOnMissingEmployeesInFailMode() {
+        // Arrange
+        Long projectId = 1L;
+        ProjectDto partialUpdateDto = new ProjectDto();
+        partialUpdateDto.setEmployeeIds(new HashSet<>(Arrays.asList(1L, 99L)));
+
+        when(projectRepository.findById(projectId)).thenReturn(Optional.of(project1));
+        when(employeeRepository.findAllById(partialUpdateDto.getEmployeeIds())).thenReturn(List.of(employee1));
+
+        // Act & Assert
+        ResourceNotFoundException exception = assertThrows(ResourceNotFoundException.class, () -> {
+            projectService.partialUpdateProject(projectId, partialUpdateDto, MissingIdPolicy.FAIL);
+        }, "Expected ResourceNotFoundException in FAIL mode.");
+
+        assertEquals("Employee not found with ID: 99", exception.getMessage(), "Exception message should match.");
+        verify(projectRepository, never()).save(any(Project.class));
+    }
 }
@@ -0,0 +1,114 @@
+// src/test/java/com/example/service/SkillCatalogCacheTest.java
+package com.example.service;
+
+import com.example.dto.SkillCacheStatsDto;
+import com.example.dto.SkillDto;
+import com.example.entity.Skill;
+import com.example.mapper.SkillMapper;
+import com.example.repository.SkillRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SkillCatalogCacheTest {
+
+    @Mock
+    private SkillRepository skillRepository;
+
+    @Mock
+    private SkillMapper skillMapper;
+
+    private SkillCatalogCache skillCatalogCache;
+
+    private Skill javaSkill;
+
+    @BeforeEach
+    void setUp() {
+        skillCatalogCache = new SkillCatalogCache(skillRepository, skillMapper, 100, 600);
+        javaSkill = new Skill();
+        javaSkill.setSkillId(1L);
+        javaSkill.setName("Java");
+        lenient().when(skillMapper.toDto(any(Skill.class)))
+                .thenAnswer(invocation -> {
+                    Skill skill = invocation.getArgument(0);
+                    return new SkillDto(skill.getSkillId(), skill.getName());
+                });
+    }
+
+    @Test
+    void testFindById_LoadsOnceThenServesFromCache() {
+        when(skillRepository.findById(1L)).thenReturn(Optional.of(javaSkill));
+
+        assertEquals("Java", skillCatalogCache.findById(1L).orElseThrow().getName());
+        assertEquals("Java", skillCatalogCache.findById(1L).orElseThrow().getName());
+
+        verify(skillRepository, times(1)).findById(1L);
+        SkillCacheStatsDto stats = skillCatalogCache.stats();
+        assertEquals(1, stats.getHitCount(), "Second lookup should be a hit.");
+        assertEquals(1, stats.getMissCount(), "First lookup should be a miss.");
+    }
+
+    @Test
+    void testFindByName_ServedFromEntryLoadedById() {
+        when(skillRepository.findById(1L)).thenReturn(Optional.of(javaSkill));
+        skillCatalogCache.findById(1L);
+
+        assertEquals(1L, skillCatalogCache.findByName("Java").orElseThrow().getSkillId());
+        verify(skillRepository, never()).findByName(any());
+    }
+
+    @Test
+    void testGetReferences_LoadsOnlyMissesAndOmitsUnknownIds() {
+        Skill spring = new Skill();
+        spring.setSkillId(2L);
+        spring.setName("Spring");
+        Skill javaReference = new Skill();
+        javaReference.setSkillId(1L);
+        when(skillRepository.findById(1L)).thenReturn(Optional.of(javaSkill));
+        skillCatalogCache.findById(1L);
+        when(skillRepository.findAllById(Set.of(2L, 99L))).thenReturn(List.of(spring));
+        when(skillRepository.getReferenceById(1L)).thenReturn(javaReference);
+
+        List<Skill> references = skillCatalogCache.getReferences(Set.of(1L, 2L, 99L));
+
+        assertEquals(Set.of(1L, 2L), references.stream().map(Skill::getSkillId).collect(Collectors.toSet()));
+        verify(skillRepository, times(1)).findAllById(Set.of(2L, 99L));
+        verify(skillRepository, never()).findById(2L);
+    }
+
+    @Test
+    void testEvict_DropsOldNameAfterRename() {
+        when(skillRepository.findById(1L)).thenReturn(Optional.of(javaSkill));
+        skillCatalogCache.findById(1L);
+
+        skillCatalogCache.evict(1L);
+
+        when(skillRepository.findByName("Java")).thenReturn(Optional.empty());
+        assertTrue(skillCatalogCache.findByName("Java").isEmpty(), "Evicted name should not be served from the cache.");
+        skillCatalogCache.findById(1L);
+        verify(skillRepository, times(2)).findById(1L);
+    }
+
+    @Test
+    void testFindById_CallerChangesDoNotReachTheCache() {
+        when(skillRepository.findById(1L)).thenReturn(Optional.of(javaSkill));
+        skillCatalogCache.findById(1L).orElseThrow().setName("Kotlin");
+
+        SkillDto first = skillCatalogCache.findById(1L).orElseThrow();
+        first.setName("Scala");
+
+        assertEquals("Java", skillCatalogCache.findById(1L).orElseThrow().getName(), "Cached entry should not see changes made to a returned DTO.");
+        assertEquals("Java", skillCatalogCache.findByName("Java").orElseThrow().getName(), "Name lookup should return the original snapshot.");
+        assertNotSame(first, skillCatalogCache.findById(1L).orElseThrow(), "Each lookup should return its own copy.");
+    }
+}
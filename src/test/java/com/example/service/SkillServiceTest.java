@@ -1,6 +1,7 @@
 // src/test/java/com/example/service/SkillServiceTest.java
 package com.example.service;
 
+import com.example.dto.CursorPageDto;
 import com.example.dto.SkillDto;
 import com.example.entity.Skill;
 import com.example.exception.ResourceNotFoundException;
@@ -28,6 +29,12 @@ class SkillServiceTest {
     @Mock
     private SkillMapper skillMapper;
 
+    @Spy
+    private TotalCountCache totalCountCache = new TotalCountCache(30);
+
+    @Mock
+    private SkillCatalogCache skillCatalogCache;
+
     @InjectMocks
     private SkillService skillService;
 
@@ -68,9 +75,9 @@ class SkillServiceTest {
         // Arrange
         Pageable pageable = PageRequest.of(0, 10, Sort.by("name").ascending());
         List<Skill> skills = Arrays.asList(skill1, skill2);
-        Page<Skill> skillPage = new PageImpl<>(skills, pageable, skills.size());
+        Slice<Skill> skillSlice = new SliceImpl<>(skills, pageable, false);
 
-        when(skillRepository.findAll(pageable)).thenReturn(skillPage);
+        when(skillRepository.findSkillSlice(pageable)).thenReturn(skillSlice);
         when(skillMapper.toDto(skill1)).thenReturn(skillDto1);
         when(skillMapper.toDto(skill2)).thenReturn(skillDto2);
 
@@ -85,7 +92,8 @@ class SkillServiceTest {
         assertTrue(skillDtos.contains(skillDto1), "Result should contain skillDto1.");
         assertTrue(skillDtos.contains(skillDto2), "Result should contain skillDto2.");
 
-        verify(skillRepository, times(1)).findAll(pageable);
+        verify(skillRepository, times(1)).findSkillSlice(pageable);
+        verify(skillRepository, never()).count();
         verify(skillMapper, times(1)).toDto(skill1);
         verify(skillMapper, times(1)).toDto(skill2);
     }
@@ -99,9 +107,9 @@ class SkillServiceTest {
         // Arrange
         Pageable pageable = PageRequest.of(0, 10);
         List<Skill> skills = Collections.emptyList();
-        Page<Skill> skillPage = new PageImpl<>(skills, pageable, 0);
+        Slice<Skill> skillSlice = new SliceImpl<>(skills, pageable, false);
 
-        when(skillRepository.findAll(pageable)).thenReturn(skillPage);
+        when(skillRepository.findSkillSlice(pageable)).thenReturn(skillSlice);
 
         // Act
         Page<SkillDto> result = skillService.getAllSkills(pageable);
@@ -111,7 +119,7 @@ class SkillServiceTest {
         assertEquals(0, result.getTotalElements(), "Total elements should be 0.");
         assertTrue(result.getContent().isEmpty(), "Skill DTO list should be empty.");
 
-        verify(skillRepository, times(1)).findAll(pageable);
+        verify(skillRepository, times(1)).findSkillSlice(pageable);
         verify(skillMapper, never()).toDto(any(Skill.class));
     }
 
@@ -122,8 +130,7 @@ class SkillServiceTest {
     void testGetSkillById_Success() {
         // Arrange
         Long skillId = 1L;
-        when(skillRepository.findById(skillId)).thenReturn(Optional.of(skill1));
-        when(skillMapper.toDto(skill1)).thenReturn(skillDto1);
+        when(skillCatalogCache.findById(skillId)).thenReturn(Optional.of(skillDto1));
 
         // Act
         SkillDto result = skillService.getSkillById(skillId);
@@ -132,8 +139,8 @@ class SkillServiceTest {
         assertNotNull(result, "Result should not be null.");
         assertEquals(skillDto1, result, "Returned SkillDto should match expected.");
 
-        verify(skillRepository, times(1)).findById(skillId);
-        verify(skillMapper, times(1)).toDto(skill1);
+        verify(skillCatalogCache, times(1)).findById(skillId);
+        verify(skillRepository, never()).findById(anyLong());
     }
 
     /**
@@ -144,7 +151,7 @@ class SkillServiceTest {
     void testGetSkillById_NotFound() {
         // Arrange
         Long skillId = 99L;
-        when(skillRepository.findById(skillId)).thenReturn(Optional.empty());
+        when(skillCatalogCache.findById(skillId)).thenReturn(Optional.empty());
 
         // Act & Assert
         ResourceNotFoundException exception = assertThrows(ResourceNotFoundException.class, () -> {
@@ -152,8 +159,7 @@ class SkillServiceTest {
         }, "Expected ResourceNotFoundException for non-existent skill ID.");
 
         assertEquals("Skill not found with ID: 99", exception.getMessage(), "Exception message should match.");
-        verify(skillRepository, times(1)).findById(skillId);
-        verify(skillMapper, never()).toDto(any(Skill.class));
+        verify(skillCatalogCache, times(1)).findById(skillId);
     }
 
     /**
@@ -190,6 +196,7 @@ class SkillServiceTest {
         verify(skillMapper, times(1)).toEntity(newSkillDto);
         verify(skillRepository, times(1)).save(newSkill);
         verify(skillMapper, times(1)).toDto(savedSkill);
+        verify(skillCatalogCache, times(1)).evictName("Python");
     }
 
     /**
@@ -255,6 +262,7 @@ class SkillServiceTest {
         verify(skillRepository, times(1)).findById(skillId);
         verify(skillRepository, times(1)).save(existingSkill);
         verify(skillMapper, times(1)).toDto(updatedSkill);
+        verify(skillCatalogCache, times(1)).evict(skillId);
     }
 
     /**
@@ -297,6 +305,7 @@ class SkillServiceTest {
         // Assert
         verify(skillRepository, times(1)).findById(skillId);
         verify(skillRepository, times(1)).delete(skill1);
+        verify(skillCatalogCache, times(1)).evict(skillId);
     }
 
     /**
@@ -317,5 +326,31 @@ class SkillServiceTest {
         assertEquals("Skill not found with ID: 99", exception.getMessage(), "Exception message should match.");
         verify(skillRepository, times(1)).findById(skillId);
         verify(skillRepository, never()).delete(any(Skill.class));
+        verify(skillCatalogCache, never()).evict(anyLong());
+    }
+
+    /**
+     * Test keyset pagination of skills: the extra lookahead row is dropped and turned into a cursor.
+     */
+    @Test
+    void testGetSkillsAfter_HasNextPage() {
+        // Arrange
+        Skill skill3 = new Skill();
+        skill3.setSkillId(3L);
+        skill3.setName("Docker");
+        when(skillRepository.findBySkillIdGreaterThanOrderBySkillIdAsc(0L, PageRequest.ofSize(3)))
+                .thenReturn(Arrays.asList(skill1, skill2, skill3));
+        when(skillMapper.toDto(skill1)).thenReturn(skillDto1);
+        when(skillMapper.toDto(skill2)).thenReturn(skillDto2);
+
+        // Act
+        CursorPageDto<SkillDto> result = skillService.getSkillsAfter(null, 2);
+
+        // Assert
+        assertEquals(Arrays.asList(skillDto1, skillDto2), result.getContent(), "Only the requested number of skills should be returned.");
+        assertTrue(result.isHasNext(), "A next page should be reported.");
+        assertEquals(2L, KeysetCursor.decode(result.getNextCursor()), "Cursor should point at the last returned skill.");
+        verify(skillRepository, never()).findAll(any(Pageable.class));
+        verify(skillMapper, never()).toDto(skill3);
     }
 }
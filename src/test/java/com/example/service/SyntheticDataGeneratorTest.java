@@ -0,0 +1,121 @@
+// src/test/java/com/example/service/SyntheticDataGeneratorTest.java
+package com.example.service;
+
+import com.example.service.SyntheticDataGenerator.SyntheticEmployee;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.Period;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SyntheticDataGeneratorTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2024, 6, 1);
+
+    private final SyntheticDataGenerator generator = new SyntheticDataGenerator();
+
+    @Test
+    void testEmployee_SameSeedAndStreamGiveSameEmployees() {
+        // Arrange
+        SplittableRandom first = SyntheticDataGenerator.random(7, 3);
+        SplittableRandom second = SyntheticDataGenerator.random(7, 3);
+
+        // Act
+        List<SyntheticEmployee> a = new ArrayList<>();
+        List<SyntheticEmployee> b = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            a.add(generator.employee(first, TODAY));
+            b.add(generator.employee(second, TODAY));
+        }
+
+        // Assert
+        assertEquals(a, b, "The same seed and stream should reproduce the same employees.");
+        assertNotEquals(a.get(0), generator.employee(SyntheticDataGenerator.random(7, 4), TODAY),
+                "Another stream should produce different employees.");
+    }
+
+    @Test
+    void testEmployee_ValuesStayWithinRealisticBounds() {
+        // Arrange
+        SplittableRandom random = SyntheticDataGenerator.random(42, 0);
+        int female = 0;
+        long ageTotal = 0;
+        int count = 10_000;
+
+        // Act
+        for (int i = 0; i < count; i++) {
+            SyntheticEmployee employee = generator.employee(random, TODAY);
+            int age = Period.between(employee.dateOfBirth(), TODAY).getYears();
+            assertTrue(age >= 21 && age <= 67, "Age out of range: " + age);
+            assertTrue(employee.name().contains(" "), "Name should have a first and last name.");
+            assertFalse(employee.jobRole().isBlank(), "Job role is required.");
+            if ("Female".equals(employee.gender())) {
+                female++;
+            }
+            ageTotal += age;
+        }
+
+        // Assert
+        assertEquals(0.49, female / (double) count, 0.03, "About half the employees should be female.");
+        assertEquals(38, ageTotal / (double) count, 1.5, "Mean age should be close to 38.");
+    }
+
+    @Test
+    void testCounts_FollowTheirDistributions() {
+        // Arrange
+        SplittableRandom random = SyntheticDataGenerator.random(42, 1);
+
+        // Act & Assert
+        for (int i = 0; i < 1_000; i++) {
+            int skills = generator.skillsPerEmployee(random);
+            assertTrue(skills >= 1 && skills <= 8, "Skills per employee out of range: " + skills);
+            int projects = generator.projectsPerEmployee(random);
+            assertTrue(projects >= 0 && projects <= 3, "Projects per employee out of range: " + projects);
+            int teamSize = generator.project(random, i).targetTeamSize();
+            assertTrue(teamSize >= 2 && teamSize <= 60, "Team size out of range: " + teamSize);
+        }
+    }
+
+    @Test
+    void testRecordsForPrompt_EmployeePrompt() {
+        // Arrange
+        String prompt = "Generate exactly 3 realistic employee records for a small bakery.";
+
+        // Act
+        ArrayNode records = generator.recordsForPrompt(prompt, SyntheticDataGenerator.random(1, 0));
+
+        // Assert
+        assertEquals(3, records.size(), "Record count should come from the prompt.");
+        for (JsonNode record : records) {
+            assertTrue(record.hasNonNull("name") && record.hasNonNull("dateOfBirth")
+                    && record.hasNonNull("jobRole") && record.hasNonNull("gender"), "Missing employee field: " + record);
+            assertDoesNotThrow(() -> LocalDate.parse(record.get("dateOfBirth").asText()));
+        }
+    }
+
+    @Test
+    void testRecordsForPrompt_CombinedAndMorePrompts() {
+        // Arrange
+        String combined = "The user wants to generate data for the topic \"books\". "
+                + "Please generate exactly 4 records with exactly 2 properties per record.";
+        String more = "The user wants to generate 2 additional records for the topic \"staff\". "
+                + "Each record must contain the following properties: \"name\", \"email\". Respond in JSON.";
+
+        // Act
+        ArrayNode combinedRecords = generator.recordsForPrompt(combined, SyntheticDataGenerator.random(1, 0));
+        ArrayNode moreRecords = generator.recordsForPrompt(more, SyntheticDataGenerator.random(1, 0));
+
+        // Assert
+        assertEquals(4, combinedRecords.size());
+        assertTrue(combinedRecords.get(0).has("property1") && combinedRecords.get(0).has("property2"));
+        assertEquals(2, combinedRecords.get(0).size(), "Exactly the requested number of properties.");
+        assertEquals(2, moreRecords.size());
+        assertTrue(moreRecords.get(0).get("email").asText().endsWith("@example.com"), "Known properties get matching values.");
+    }
+}
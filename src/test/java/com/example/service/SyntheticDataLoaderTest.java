@@ -0,0 +1,114 @@
+// src/test/java/com/example/service/SyntheticDataLoaderTest.java
+package com.example.service;
+
+import com.example.dto.SyntheticLoadResultDto;
+import com.example.entity.Employee;
+import com.example.exception.InvalidInputException;
+import com.example.mapper.EmployeeMapperImpl;
+import com.example.mapper.SkillMapperImpl;
+import com.example.repository.EmployeeRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.Period;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = {"synthetic.threads=3", "synthetic.block-size=40", "synthetic.batch-size=7", "synthetic.max-employees=1000"})
+@Import({SyntheticDataLoader.class, SyntheticDataGenerator.class, EmployeeService.class, TotalCountCache.class,
+        SkillCatalogCache.class, EmployeeMapperImpl.class, SkillMapperImpl.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class SyntheticDataLoaderTest {
+
+    private static final String EMPLOYEE_ROWS = "SELECT NAME || '|' || DATE_OF_BIRTH || '|' || JOB_ROLE || '|' || GENDER "
+            + "FROM EMPLOYEE_TBL WHERE EMPLOYEE_ID >= 1000 ORDER BY NAME, DATE_OF_BIRTH, JOB_ROLE, GENDER";
+
+    @Autowired
+    private SyntheticDataLoader syntheticDataLoader;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    /**
+     * Test that a load writes every employee with its links across several parallel blocks, and that a second
+     * load with the same seed writes the same rows again.
+     */
+    @Test
+    void testLoad_WritesGraphAndIsReproducible() {
+        // Arrange
+        jdbcTemplate.update("DELETE FROM EMPLOYEE_TBL WHERE EMPLOYEE_ID >= 1000");
+        long employeesBefore = employeeRepository.count();
+
+        // Act
+        SyntheticLoadResultDto first = syntheticDataLoader.load(150, 5, 99);
+        List<String> firstRows = jdbcTemplate.queryForList(EMPLOYEE_ROWS, String.class);
+        jdbcTemplate.update("DELETE FROM EMPLOYEE_TBL WHERE EMPLOYEE_ID >= 1000");
+        SyntheticLoadResultDto second = syntheticDataLoader.load(150, 5, 99);
+        List<String> secondRows = jdbcTemplate.queryForList(EMPLOYEE_ROWS, String.class);
+
+        // Assert
+        assertEquals(150, first.getEmployees(), "Every requested employee should be written.");
+        assertEquals(employeesBefore + 150, employeeRepository.count(), "Rows should be committed.");
+        assertEquals(first.getEmployeeSkillLinks(), countLinks("EMPLOYEE_SKILL_TBL"), "Skill links should match the report.");
+        assertEquals(first.getEmployeeProjectLinks(), countLinks("EMPLOYEE_PROJECT_TBL"), "Project links should match the report.");
+        assertTrue(first.getEmployeeSkillLinks() >= 150, "Every employee should have at least one skill.");
+        assertEquals(firstRows, secondRows, "The same seed should produce the same employees.");
+        assertEquals(0, second.getSkillsAdded(), "Catalog skills should only be added once.");
+
+        Employee loaded = employeeRepository.findById(jdbcTemplate.queryForObject(
+                "SELECT MIN(EMPLOYEE_ID) FROM EMPLOYEE_TBL WHERE EMPLOYEE_ID >= 1000", Long.class)).orElseThrow();
+        assertEquals(Period.between(loaded.getDateOfBirth(), LocalDate.now()).getYears(), loaded.getAge(),
+                "Age should be derived like EmployeeService does.");
+        assertTrue(loaded.getEmail().endsWith("@email.com"), "Email should be generated like EmployeeService does.");
+    }
+
+    /**
+     * Test that synthetic IDs come from EMPLOYEE_SEQ and do not collide with JPA inserts that follow.
+     */
+    @Test
+    void testLoad_SharesSequenceWithJpa() {
+        // Arrange
+        syntheticDataLoader.load(60, 0, 1);
+
+        // Act
+        Employee employee = new Employee();
+        employee.setName("After Load");
+        employee.setDateOfBirth(LocalDate.of(1990, 1, 1));
+        employee.setJobRole("Engineer");
+        employee.setGender("Female");
+        Employee saved = employeeRepository.saveAndFlush(employee);
+
+        // Assert
+        assertEquals(1, jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM EMPLOYEE_TBL WHERE EMPLOYEE_ID = ?", Integer.class, saved.getEmployeeId()),
+                "The JPA insert should not reuse a synthetic ID.");
+        assertTrue(saved.getEmployeeId() >= 1000, "IDs should come from the sequence range.");
+    }
+
+    /**
+     * Test that loads above the configured maximum are rejected before anything is written.
+     */
+    @Test
+    void testLoad_RejectsTooManyEmployees() {
+        // Arrange
+        long employeesBefore = employeeRepository.count();
+
+        // Act & Assert
+        assertThrows(InvalidInputException.class, () -> syntheticDataLoader.load(1001, 0, 1));
+        assertEquals(employeesBefore, employeeRepository.count(), "Nothing should be written.");
+    }
+
+    private long countLinks(String table) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table + " WHERE EMPLOYEE_ID >= 1000", Long.class);
+    }
+}
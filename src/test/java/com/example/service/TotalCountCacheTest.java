@@ -0,0 +1,122 @@
+// src/test/java/com/example/service/TotalCountCacheTest.java
+package com.example.service;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TotalCountCacheTest {
+
+    @Test
+    void testGetTotal_CountsOncePerTtl() {
+        TotalCountCache cache = new TotalCountCache(30);
+        AtomicInteger counts = new AtomicInteger();
+
+        assertEquals(7L, cache.getTotal("key", () -> { counts.incrementAndGet(); return 7L; }));
+        assertEquals(7L, cache.getTotal("key", () -> { counts.incrementAndGet(); return 8L; }));
+
+        assertEquals(1, counts.get(), "COUNT(*) should only run once within the TTL.");
+    }
+
+    @Test
+    void testGetTotal_RecountsAfterInvalidate() {
+        TotalCountCache cache = new TotalCountCache(30);
+        cache.getTotal("key", () -> 7L);
+
+        cache.invalidate("key");
+
+        assertEquals(8L, cache.getTotal("key", () -> 8L));
+    }
+
+    @Test
+    void testToPage_LastSliceGivesExactTotalWithoutCounting() {
+        TotalCountCache cache = new TotalCountCache(30);
+
+        Page<String> page = cache.toPage("key", new SliceImpl<>(List.of("a", "b"), PageRequest.of(1, 5), false),
+                () -> fail("The last slice already knows the total."));
+
+        assertEquals(7L, page.getTotalElements());
+        assertEquals(7L, cache.getTotal("key", () -> fail("Total should have been cached.")));
+    }
+
+    @Test
+    void testToPage_StaleTotalNeverBelowRowsSeen() {
+        TotalCountCache cache = new TotalCountCache(30);
+        cache.getTotal("key", () -> 3L);
+
+        Page<String> page = cache.toPage("key", new SliceImpl<>(List.of("a", "b"), PageRequest.of(2, 2), true), () -> 3L);
+
+        assertEquals(7L, page.getTotalElements(), "Total must cover the rows on this page plus the next one.");
+        assertTrue(page.hasNext());
+    }
+
+    @Test
+    void testGetTotal_ConcurrentCallersShareOneCountWithoutBlockingOtherKeys() throws Exception {
+        TotalCountCache cache = new TotalCountCache(30);
+        AtomicInteger counts = new AtomicInteger();
+        CountDownLatch counting = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<Long> first = executor.submit(() -> cache.getTotal("key", () -> {
+                counts.incrementAndGet();
+                counting.countDown();
+                await(release);
+                return 7L;
+            }));
+            assertTrue(counting.await(5, TimeUnit.SECONDS));
+            Future<Long> second = executor.submit(() -> cache.getTotal("key", () -> { counts.incrementAndGet(); return 8L; }));
+
+            assertEquals(3L, cache.getTotal("other", () -> 3L), "Another key must not wait for a running count.");
+            release.countDown();
+
+            assertEquals(7L, first.get(5, TimeUnit.SECONDS));
+            assertEquals(7L, second.get(5, TimeUnit.SECONDS), "The waiting caller should get the running count.");
+            assertEquals(1, counts.get(), "Concurrent callers should share one COUNT(*).");
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void testGetTotal_CountRunningDuringInvalidateIsNotCached() {
+        TotalCountCache cache = new TotalCountCache(30);
+
+        assertEquals(7L, cache.getTotal("key", () -> {
+            cache.invalidate("key");   // A write commits while the count is running
+            return 7L;
+        }));
+
+        assertEquals(8L, cache.getTotal("key", () -> 8L), "A count that raced a write must not be served later.");
+    }
+
+    @Test
+    void testGetTotal_FailedCountIsNotCached() {
+        TotalCountCache cache = new TotalCountCache(30);
+
+        IllegalStateException exception = assertThrows(IllegalStateException.class,
+                () -> cache.getTotal("key", () -> { throw new IllegalStateException("database down"); }));
+
+        assertEquals("database down", exception.getMessage(), "The counter's own exception should reach the caller.");
+        assertEquals(7L, cache.getTotal("key", () -> 7L));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}